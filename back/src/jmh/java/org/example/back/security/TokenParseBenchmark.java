@@ -0,0 +1,80 @@
+package org.example.back.security;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * access token 검증 비용 비교 (재사용 parser 만 vs 검증 결과 캐시)
+ * - reusedParser: verified-cache.max-entries=0, 요청마다 HS256 서명 검증 + JSON 파싱
+ * - verifiedCache: 캐시 적중 시 SHA-256 다이제스트 + LRU 조회만 수행
+ * - tokens: 번갈아 들어오는 서로 다른 토큰 수 (캐시 크기 안에 들어가는 동시 사용자 수)
+ * - 두 경우 모두 로그아웃 denylist 확인을 포함한다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenParseBenchmark {
+
+    private static final String SECRET = "bXktc3VwZXItc2VjcmV0LWp3dC1rZXktMTIzNDU2Nzg=";
+
+    @Param({"1", "1000"})
+    private int tokens;
+
+    private JwtTokenProvider reusedParser;
+    private JwtTokenProvider verifiedCache;
+    private String[] accessTokens;
+    private int next;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        reusedParser = provider(0);
+        verifiedCache = provider(10_000);
+        accessTokens = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            accessTokens[i] = reusedParser.createAccessToken((long) i + 1, "USER");
+        }
+        // 로그아웃한 회원이 하나 있는 상태
+        reusedParser.revokeIssuedBefore(-1L, System.currentTimeMillis());
+        verifiedCache.revokeIssuedBefore(-1L, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public TokenInfo reusedParser() {
+        return reusedParser.parseToken(nextToken());
+    }
+
+    @Benchmark
+    public TokenInfo verifiedCache() {
+        return verifiedCache.parseToken(nextToken());
+    }
+
+    private String nextToken() {
+        String token = accessTokens[next];
+        next = next + 1 == accessTokens.length ? 0 : next + 1;
+        return token;
+    }
+
+    private static JwtTokenProvider provider(int cacheEntries) throws ReflectiveOperationException {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        set(provider, "secretKey", SECRET);
+        set(provider, "accessTokenValidityInSeconds", 1800L);
+        set(provider, "refreshTokenValidityInSeconds", 1209600L);
+        set(provider, "verifiedCacheMaxEntries", cacheEntries);
+        provider.init();
+        return provider;
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.back.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.ChatClusterProperties;
+import org.example.back.config.properties.ChatClusterProperties.TransportType;
+import org.example.back.config.properties.ChatMessageIdProperties;
+import org.example.back.config.properties.ChatMessageIdProperties.GeneratorType;
+import org.example.back.config.properties.ChatMessageWriteBehindProperties;
+import org.example.back.service.cluster.ClusterTransport;
+import org.example.back.service.cluster.InMemoryClusterTransport;
+import org.example.back.service.cluster.TcpClusterTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "chat.cluster", name = "enabled", havingValue = "true")
+public class ClusterConfig {
+
+    /*
+     * 다중 노드에서 안전하지 않은 설정이면 기동을 중단한다.
+     * - SEQUENCE ID 는 노드마다 MAX(id) 로 따로 발급하므로 PK 가 겹친다. → SNOWFLAKE + 노드별 node-id (0 은 단일 노드 기본값이라 거부)
+     * - 채팅방 순번은 노드마다 따로 발급하고, 충돌하면 저장 시점에 DB 기준으로 다시 맞춰 재시도한다.
+     *   write-behind 는 브로드캐스트 후 비동기로 적재하므로 충돌을 재시도할 수 없다. → write-behind 비활성화
+     * */
+    @Bean
+    public ClusterTransport clusterTransport(ChatClusterProperties properties,
+            ChatMessageIdProperties messageIdProperties,
+            ChatMessageWriteBehindProperties writeBehindProperties) {
+        if (messageIdProperties.getGenerator() != GeneratorType.SNOWFLAKE) {
+            throw new IllegalStateException("chat.cluster.enabled=true 에는 chat.message.id.generator=SNOWFLAKE 가 필요합니다.");
+        }
+        if (messageIdProperties.getNodeId() == 0) {
+            throw new IllegalStateException("chat.cluster.enabled=true 에는 노드마다 다른 chat.message.id.node-id (1 ~ 63) 가 필요합니다.");
+        }
+        if (writeBehindProperties.isEnabled()) {
+            throw new IllegalStateException("chat.cluster.enabled=true 에서는 chat.message.write-behind.enabled 를 사용할 수 없습니다. (순번 충돌 재시도 불가)");
+        }
+
+        if (properties.getTransport() == TransportType.IN_MEMORY) {
+            log.info("클러스터 중계 방식: IN_MEMORY (group: {})", properties.getInMemoryGroup());
+            return new InMemoryClusterTransport(properties.getInMemoryGroup());
+        }
+
+        log.info("클러스터 중계 방식: TCP (port: {}, peers: {})",
+                properties.getTcp().getPort(), properties.getTcp().getPeers());
+        return new TcpClusterTransport(properties.getTcp());
+    }
+}
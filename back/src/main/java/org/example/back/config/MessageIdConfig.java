@@ -0,0 +1,27 @@
+package org.example.back.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.ChatMessageIdProperties;
+import org.example.back.config.properties.ChatMessageIdProperties.GeneratorType;
+import org.example.back.service.message.id.MessageIdGenerator;
+import org.example.back.service.message.id.SequenceMessageIdGenerator;
+import org.example.back.service.message.id.SnowflakeMessageIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@Configuration
+public class MessageIdConfig {
+
+    @Bean
+    public MessageIdGenerator messageIdGenerator(ChatMessageIdProperties properties, JdbcTemplate jdbcTemplate) {
+        if (properties.getGenerator() == GeneratorType.SNOWFLAKE) {
+            log.info("메시지 ID 발급 방식: SNOWFLAKE (nodeId: {})", properties.getNodeId());
+            return new SnowflakeMessageIdGenerator(properties.getNodeId(), properties.getEpochMillis());
+        }
+
+        log.info("메시지 ID 발급 방식: SEQUENCE");
+        return new SequenceMessageIdGenerator(jdbcTemplate);
+    }
+}
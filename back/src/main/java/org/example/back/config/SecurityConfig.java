@@ -1,8 +1,10 @@
 package org.example.back.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.back.security.AdaptiveBCryptPasswordEncoder;
 import org.example.back.security.JwtAuthenticationFilter;
 import org.example.back.security.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -13,7 +15,6 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
@@ -26,10 +27,14 @@ public class SecurityConfig {
     
     private final JwtTokenProvider jwtTokenProvider;
     
+    // BCrypt 비용 (변경 시 기존 해시는 다음 로그인 때 재해싱)
+    @Value("${chat.security.password.strength:10}")
+    private int passwordStrength;
+    
     // Password 암호화 설정
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new AdaptiveBCryptPasswordEncoder(passwordStrength);
     }
     
     // JwtAuthenticationFilter Bean 등록 (직접 new 로 만들지 않기 위함)
@@ -54,7 +59,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http,
             CorsConfigurationSource corsConfigurationSource) throws Exception {
-        http.cors(cors -> cors.configurationSource(corsConfigurationSource)).authorizeHttpRequests(auth -> auth.requestMatchers("/home", "/api/members/login", "/api/members/register", "/api/token/refresh", "/api/logout").permitAll()  // 인증 없이 접근 가능
+        http.cors(cors -> cors.configurationSource(corsConfigurationSource)).authorizeHttpRequests(auth -> auth.requestMatchers("/home", "/api/members/login", "/api/members/register", "/api/members/nickname-availability", "/api/token/refresh", "/api/logout").permitAll()  // 인증 없이 접근 가능
                         .requestMatchers("/admin/**").hasRole("ADMIN") // ADMIN 만 접근 가능
                         .requestMatchers("/user/**").hasRole("USER") // USER 만 접근 가능
                         .anyRequest().authenticated()) // 나머지 모든 요청은 인증 필요
@@ -0,0 +1,43 @@
+package org.example.back.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.DataSourceLimitProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/*
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 DataSource 를 ConnectionLimitingDataSource 로 감싼다.
+ * - 플랫폼 스레드 모드에서는 스레드 풀 크기가 이미 동시 획득 수를 제한하므로 감싸지 않는다.
+ * */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionLimitingDataSourceInstaller implements BeanPostProcessor {
+
+    private final ObjectProvider<DataSourceLimitProperties> properties;
+
+    public ConnectionLimitingDataSourceInstaller(ObjectProvider<DataSourceLimitProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+            return bean;
+        }
+
+        DataSourceLimitProperties limit = properties.getObject();
+        int maxConcurrent = limit.getMaxConcurrent();
+        if (maxConcurrent <= 0) {
+            maxConcurrent = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+        }
+
+        log.info("DB 커넥션 동시 획득 한도 적용 - dataSource: {}, maxConcurrent: {}", beanName, maxConcurrent);
+        return new ConnectionLimitingDataSource(dataSource, maxConcurrent, limit.getAcquireTimeoutMs());
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.back.config.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * 다중 노드 브로드캐스트 중계 설정
+ * - enabled=false 이면 기존처럼 노드 안의 simple broker 로만 전송한다.
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.cluster")
+public class ChatClusterProperties {
+
+    private boolean enabled = false;
+
+    // 노드 식별자 (자기 자신이 보낸 중계 프레임을 걸러내는 데 사용, 노드마다 달라야 함)
+    private String nodeId = UUID.randomUUID().toString();
+
+    private TransportType transport = TransportType.TCP;
+
+    // IN_MEMORY: 같은 group 의 노드끼리 JVM 안에서 중계 (테스트용)
+    private String inMemoryGroup = "default";
+
+    private Tcp tcp = new Tcp();
+
+    public enum TransportType {
+        IN_MEMORY,
+        TCP
+    }
+
+    @Getter
+    @Setter
+    public static class Tcp {
+
+        // 다른 노드의 프레임을 받는 포트
+        private int port = 7600;
+
+        // 중계 대상 노드 주소 (host:port)
+        private List<String> peers = new ArrayList<>();
+
+        // 노드별 전송 대기열 한도 (가득 차면 새 프레임을 버린다)
+        private int queueCapacity = 10_000;
+
+        // 한 번에 묶어 쓰고 flush 할 최대 프레임 수
+        private int batchSize = 256;
+
+        // 연결 실패 / 끊김 후 재연결 간격 (ms)
+        private long reconnectDelayMs = 1_000;
+
+        // 수신 프레임 payload 최대 크기 (bytes)
+        private int maxFrameBytes = 1024 * 1024;
+    }
+}
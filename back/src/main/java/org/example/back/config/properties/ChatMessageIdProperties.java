@@ -0,0 +1,31 @@
+package org.example.back.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * 메시지 ID 발급 방식 설정
+ * - SEQUENCE: MAX(id) 기반 순차 발급 (단일 노드, 기본값)
+ * - SNOWFLAKE: 시각 + 노드 ID 기반 발급 (다중 노드)
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.message.id")
+public class ChatMessageIdProperties {
+
+    private GeneratorType generator = GeneratorType.SEQUENCE;
+
+    // SNOWFLAKE 노드 ID (0 ~ 63, 노드마다 달라야 함)
+    private long nodeId = 0;
+
+    // SNOWFLAKE 기준 시각 (epoch ms, 기본값 2025-01-01T00:00:00Z)
+    private long epochMillis = 1_735_689_600_000L;
+
+    public enum GeneratorType {
+        SEQUENCE,
+        SNOWFLAKE
+    }
+}
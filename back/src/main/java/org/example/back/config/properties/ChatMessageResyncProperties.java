@@ -0,0 +1,26 @@
+package org.example.back.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * 재연결 동기화(resync) 설정
+ * - 채팅방별 최근 이벤트를 메모리에 보관해 재연결 시 놓친 메시지/수정/삭제/복구만 내려준다.
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.message.resync")
+public class ChatMessageResyncProperties {
+
+    // 채팅방마다 메모리에 보관할 최근 이벤트 수 (넘치면 오래된 이벤트부터 제거)
+    private int perRoom = 200;
+
+    // 이벤트 로그를 보관할 최대 채팅방 수 (초과 시 LRU 제거)
+    private int maxRooms = 10_000;
+
+    // 한 번에 내려줄 최대 메시지 + 이벤트 수 (초과하면 전체 재조회 요청)
+    private int maxItems = 500;
+}
@@ -0,0 +1,43 @@
+package org.example.back.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * 메시지 write-behind 적재 설정
+ * - enabled=false 이면 기존처럼 요청마다 즉시 저장한다.
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.message.write-behind")
+public class ChatMessageWriteBehindProperties {
+
+    // write-behind 모드 사용 여부
+    private boolean enabled = false;
+
+    // 대기열 최대 크기 (가득 차면 enqueueTimeoutMs 만큼 기다린 뒤 거절)
+    private int queueCapacity = 10_000;
+
+    // 한 번에 적재할 최대 메시지 수 (JDBC batch 크기)
+    private int flushSize = 500;
+
+    // 주기적 flush 간격 (ms)
+    private long flushIntervalMs = 50;
+
+    // 대기열이 가득 찼을 때 등록을 기다리는 최대 시간 (ms)
+    private long enqueueTimeoutMs = 100;
+
+    // 발신자에게 ack(브로드캐스트)를 보내는 시점
+    private AckMode ackMode = AckMode.BROADCAST_FIRST;
+
+    // AFTER_FLUSH 모드에서 flush 완료를 기다리는 최대 시간 (ms)
+    private long ackTimeoutMs = 3_000;
+
+    public enum AckMode {
+        BROADCAST_FIRST, // 즉시 브로드캐스트, DB 적재는 비동기
+        AFTER_FLUSH      // DB 적재(flush) 완료 후 브로드캐스트
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.back.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * 가상 스레드 실행 시 DB 커넥션 동시 획득 한도
+ * - 가상 스레드는 요청/프레임마다 만들어지므로, 커넥션 풀 앞에서 세마포어로 대기시켜 풀 고갈을 막는다.
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.datasource.limit")
+public class DataSourceLimitProperties {
+
+    // 동시에 커넥션을 빌릴 수 있는 스레드 수 (0 이면 커넥션 풀 최대 크기)
+    private int maxConcurrent = 0;
+
+    // 이 시간(ms) 안에 허가를 얻지 못하면 SQLTransientConnectionException
+    private long acquireTimeoutMs = 30_000;
+}
@@ -0,0 +1,27 @@
+package org.example.back.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * 비밀번호 해싱 실행기 설정
+ * - 해싱은 전용 스레드 풀에서 실행하며, 풀과 대기열이 가득 차면 즉시 503 으로 거절한다.
+ * - BCrypt 비용(chat.security.password.strength)은 SecurityConfig 에서 인코더를 만들 때 읽는다.
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.security.password")
+public class PasswordHashingProperties {
+
+    // 해싱 스레드 수 (0 이면 CPU 코어 수)
+    private int threads = 0;
+
+    // 스레드가 모두 사용 중일 때 대기할 수 있는 요청 수 (초과 시 즉시 거절)
+    private int queueCapacity = 64;
+
+    // 해싱 결과를 기다리는 최대 시간 (ms, 초과 시 작업을 취소하고 503)
+    private long timeoutMs = 5000;
+}
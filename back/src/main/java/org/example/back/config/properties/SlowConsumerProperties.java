@@ -0,0 +1,30 @@
+package org.example.back.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * 느린 구독 세션 대응 설정
+ * - 세션마다 아직 소켓에 쓰이지 않은 프레임 수(대기 프레임)를 기준으로 단계별로 대응한다.
+ * - 타이핑 이벤트 폐기 → 읽음 이벤트 병합 → (최후) 연결 종료 + 재동기화 안내 순서로 적용된다.
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.websocket.slow-consumer")
+public class SlowConsumerProperties {
+
+    // 대기 프레임이 이 수 이상이면 타이핑 이벤트를 보내지 않는다.
+    private int typingDropThreshold = 50;
+
+    // 대기 프레임이 이 수 이상이면 같은 방 읽음 이벤트를 하나로 병합해 보낸다.
+    private int readCoalesceThreshold = 100;
+
+    // 대기 프레임이 이 수 이상이면 연결을 끊는다. (클라이언트는 재연결 후 resync)
+    private int disconnectThreshold = 1_000;
+
+    // 연결 종료 코드 (4000 ~ 4999: 애플리케이션 정의)
+    private int closeCode = 4008;
+}
@@ -0,0 +1,30 @@
+package org.example.back.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ * WebSocket 전송(clientOutboundChannel) 설정
+ * - 구독 세션마다 프레임을 쓰는 전용 스레드 풀과, 느린 세션의 전송 버퍼 한도를 지정한다.
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat.websocket.outbound")
+public class WebSocketOutboundProperties {
+
+    private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+    private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+
+    // 처리 대기 중인 세션 전송 작업 한도
+    private int queueCapacity = 10_000;
+
+    // 한 세션에 전송이 이 시간(ms) 이상 막히면 세션을 닫는다.
+    private int sendTimeLimitMs = 10_000;
+
+    // 한 세션에 쌓아 둘 수 있는 미전송 데이터 한도 (bytes)
+    private int sendBufferSizeLimit = 512 * 1024;
+}
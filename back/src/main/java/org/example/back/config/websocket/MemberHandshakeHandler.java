@@ -0,0 +1,24 @@
+package org.example.back.config.websocket;
+
+import java.security.Principal;
+import java.util.Map;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/*
+ * 핸드셰이크 인터셉터가 검증해 넣은 memberId 로 세션 Principal 을 만든다.
+ * */
+@Component
+public class MemberHandshakeHandler extends DefaultHandshakeHandler {
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        if (attributes.get("memberId") instanceof Long memberId) {
+            return new MemberPrincipal(memberId);
+        }
+        return super.determineUser(request, wsHandler, attributes);
+    }
+}
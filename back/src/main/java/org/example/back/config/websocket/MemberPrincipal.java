@@ -0,0 +1,15 @@
+package org.example.back.config.websocket;
+
+import java.security.Principal;
+
+/*
+ * WebSocket 세션 사용자 식별자
+ * - 이름을 회원 ID 로 두어 convertAndSendToUser(memberId, ...) 로 /user/queue/** 개인 전송이 가능하다.
+ * */
+public record MemberPrincipal(Long memberId) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(memberId);
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.back.config.websocket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/*
+ * 세션별 전송 대기 프레임 집계
+ * - clientOutboundChannel 에 들어온 프레임 수(queued)에서 실제 소켓 쓰기가 끝난 프레임 수(written)를 빼서 대기 프레임 수를 구한다.
+ * - 소켓 쓰기 완료는 세션을 감싼 CountingSession 에서 확인한다.
+ *   (Spring 의 ConcurrentWebSocketSessionDecorator 가 이 세션을 다시 감싸므로, 버퍼에 쌓인 프레임도 대기로 집계된다.)
+ * - 연결 종료 시 집계를 제거한다.
+ * */
+@Slf4j
+@Component
+public class OutboundSessionTracker implements WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final LongAdder disconnected = new LongAdder();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                CountingSession counting = new CountingSession(session);
+                sessions.put(session.getId(), new SessionState(counting));
+                super.afterConnectionEstablished(counting);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // 프레임이 전송 대기열에 들어감. 현재 대기 프레임 수를 반환 (추적하지 않는 세션이면 0)
+    public int queued(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        if (state == null) {
+            return 0;
+        }
+        int depth = state.pending.incrementAndGet();
+        state.maxPending.accumulateAndGet(depth, Math::max);
+        return depth;
+    }
+
+    // 대기 중이던 프레임을 보내지 않기로 함
+    public void dropped(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        if (state != null) {
+            state.decrement();
+        }
+    }
+
+    public int depth(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        return state != null ? state.pending.get() : 0;
+    }
+
+    // 느린 세션 종료 (한 번만). 소켓 쓰기가 막혀 있을 수 있으므로 별도 스레드에서 닫는다.
+    public void close(String sessionId, CloseStatus status) {
+        SessionState state = sessions.get(sessionId);
+        if (state == null || !state.closing.compareAndSet(false, true)) {
+            return;
+        }
+        disconnected.increment();
+        log.warn("[WebSocket] 느린 세션 종료 - sessionId: {}, pending: {}", sessionId, state.pending.get());
+        Thread.ofVirtual().name("ws-slow-close-" + sessionId).start(() -> {
+            try {
+                state.session.getDelegate().close(status);
+            } catch (IOException e) {
+                log.debug("[WebSocket] 느린 세션 종료 실패 - sessionId: {}, {}", sessionId, e.toString());
+            }
+        });
+    }
+
+    public TrackerStats stats() {
+        int totalPending = 0;
+        int maxPending = 0;
+        for (SessionState state : sessions.values()) {
+            int pending = state.pending.get();
+            totalPending += pending;
+            maxPending = Math.max(maxPending, state.maxPending.get());
+        }
+        return new TrackerStats(sessions.size(), totalPending, maxPending, disconnected.sum());
+    }
+
+    private static final class SessionState {
+
+        private final CountingSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger maxPending = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean(false);
+
+        private SessionState(CountingSession session) {
+            this.session = session;
+        }
+
+        // 집계되지 않은 프레임(하트비트 등)의 쓰기 완료로 음수가 되지 않도록 0 에서 멈춘다.
+        private void decrement() {
+            pending.getAndUpdate(value -> value > 0 ? value - 1 : 0);
+        }
+    }
+
+    // 소켓 쓰기가 끝날 때마다 대기 프레임 수를 줄이는 세션
+    private final class CountingSession extends WebSocketSessionDecorator {
+
+        private CountingSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                SessionState state = sessions.get(getId());
+                if (state != null) {
+                    state.decrement();
+                }
+            }
+        }
+    }
+
+    public record TrackerStats(int sessions, int totalPending, int maxPending, long disconnected) {
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.back.config.websocket;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.example.back.util.websocket.ChatDestinations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/*
+ * 채팅방 구독 전용 SubscriptionRegistry
+ * - /sub/chat/room/{id}[/edit|/delete|/restore|/read|/typing] 는 (채팅방 ID, 채널) 키의 ConcurrentHashMap 으로 관리한다.
+ * - 키마다 구독 목록을 불변 스냅숏으로 교체(copy-on-write)하므로 브로드캐스트 조회는 패턴 매칭 없이 O(1) 이다.
+ * - 그 외 주소(/queue/** 등)는 기본 DefaultSubscriptionRegistry 에 위임한다.
+ * */
+public class RoomSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private final Map<RoomKey, Subscribers> rooms = new ConcurrentHashMap<>();
+
+    // sessionId -> (subscriptionId -> 채팅방 키) : 구독 해제 / 세션 종료 시 역조회용
+    private final Map<String, Map<String, RoomKey>> sessions = new ConcurrentHashMap<>();
+
+    private final DefaultSubscriptionRegistry fallback = new DefaultSubscriptionRegistry();
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination,
+            Message<?> message) {
+        RoomKey key = RoomKey.parse(destination);
+        if (key == null) {
+            fallback.registerSubscription(message);
+            return;
+        }
+
+        RoomKey previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, key);
+        if (previous != null && !previous.equals(key)) {
+            remove(previous, sessionId, subscriptionId);
+        }
+        rooms.compute(key, (k, current) -> (current == null ? Subscribers.EMPTY : current).with(sessionId, subscriptionId));
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, RoomKey> subscriptions = sessions.get(sessionId);
+        RoomKey key = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (key == null) {
+            fallback.unregisterSubscription(message);
+            return;
+        }
+        remove(key, sessionId, subscriptionId);
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, RoomKey> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, key) -> remove(key, sessionId, subscriptionId));
+        }
+        fallback.unregisterAllSubscriptions(sessionId);
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        RoomKey key = RoomKey.parse(destination);
+        if (key == null) {
+            return fallback.findSubscriptions(message);
+        }
+        Subscribers subscribers = rooms.get(key);
+        return subscribers != null ? subscribers.view : Subscribers.EMPTY.view;
+    }
+
+    // 채팅방 구독 키 수 (모니터링용)
+    public int getRoomChannelCount() {
+        return rooms.size();
+    }
+
+    private void remove(RoomKey key, String sessionId, String subscriptionId) {
+        rooms.computeIfPresent(key, (k, current) -> current.without(sessionId, subscriptionId));
+    }
+
+    /*
+     * 채팅방 ID + 채널
+     * */
+    record RoomKey(long chatRoomId, Channel channel) {
+
+        // 채팅방 구독 주소가 아니면 null (앞자리 0 이 붙은 ID 는 같은 방의 다른 표기이므로 채팅방 주소로 보지 않음)
+        static RoomKey parse(String destination) {
+            String prefix = ChatDestinations.ROOM_PREFIX;
+            if (destination == null || !destination.startsWith(prefix)) {
+                return null;
+            }
+            if (destination.length() > prefix.length() + 1 && destination.charAt(prefix.length()) == '0'
+                    && Character.isDigit(destination.charAt(prefix.length() + 1))) {
+                return null;
+            }
+
+            int end = prefix.length();
+            long chatRoomId = 0;
+            while (end < destination.length() && Character.isDigit(destination.charAt(end))) {
+                if (end - prefix.length() >= 18) {
+                    return null;
+                }
+                chatRoomId = chatRoomId * 10 + (destination.charAt(end) - '0');
+                end++;
+            }
+            if (end == prefix.length()) {
+                return null;
+            }
+
+            Channel channel = Channel.ofSuffix(destination.substring(end));
+            return channel != null ? new RoomKey(chatRoomId, channel) : null;
+        }
+    }
+
+    enum Channel {
+        MESSAGE(""),
+        EDIT("/edit"),
+        DELETE("/delete"),
+        RESTORE("/restore"),
+        READ("/read"),
+        TYPING("/typing");
+
+        private final String suffix;
+
+        Channel(String suffix) {
+            this.suffix = suffix;
+        }
+
+        static Channel ofSuffix(String suffix) {
+            for (Channel channel : values()) {
+                if (channel.suffix.equals(suffix)) {
+                    return channel;
+                }
+            }
+            return null;
+        }
+    }
+
+    /*
+     * 한 채팅방 채널의 구독 목록 (불변)
+     * - 변경할 때마다 새 배열과 조회용 MultiValueMap 을 함께 만들어 두고, 조회는 만들어 둔 view 를 그대로 반환한다.
+     * */
+    private static final class Subscribers {
+
+        private static final Subscribers EMPTY = new Subscribers(new String[0]);
+
+        // [sessionId, subscriptionId, sessionId, subscriptionId, ...]
+        private final String[] entries;
+        private final MultiValueMap<String, String> view;
+
+        private Subscribers(String[] entries) {
+            this.entries = entries;
+            LinkedMultiValueMap<String, String> map = new LinkedMultiValueMap<>(entries.length / 2);
+            for (int i = 0; i < entries.length; i += 2) {
+                map.add(entries[i], entries[i + 1]);
+            }
+            this.view = CollectionUtils.unmodifiableMultiValueMap(map);
+        }
+
+        private Subscribers with(String sessionId, String subscriptionId) {
+            if (indexOf(sessionId, subscriptionId) >= 0) {
+                return this;
+            }
+            String[] next = Arrays.copyOf(entries, entries.length + 2);
+            next[entries.length] = sessionId;
+            next[entries.length + 1] = subscriptionId;
+            return new Subscribers(next);
+        }
+
+        // 마지막 구독이 빠지면 null 을 반환해 키 자체를 제거한다.
+        private Subscribers without(String sessionId, String subscriptionId) {
+            int index = indexOf(sessionId, subscriptionId);
+            if (index < 0) {
+                return this;
+            }
+            if (entries.length == 2) {
+                return null;
+            }
+            String[] next = new String[entries.length - 2];
+            System.arraycopy(entries, 0, next, 0, index);
+            System.arraycopy(entries, index + 2, next, index, entries.length - index - 2);
+            return new Subscribers(next);
+        }
+
+        private int indexOf(String sessionId, String subscriptionId) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (entries[i].equals(sessionId) && entries[i + 1].equals(subscriptionId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.back.config.websocket;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.stereotype.Component;
+
+/*
+ * SimpleBrokerRegistration 에는 SubscriptionRegistry 설정이 없으므로,
+ * 브로커 핸들러 빈 초기화 시점에 RoomSubscriptionRegistry 로 교체한다.
+ * */
+@Component
+public class RoomSubscriptionRegistryInstaller implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof SimpleBrokerMessageHandler brokerHandler) {
+            brokerHandler.setSubscriptionRegistry(new RoomSubscriptionRegistry());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.back.config.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.SlowConsumerProperties;
+import org.example.back.dto.websocket.response.ReadReceiptBatchResponse;
+import org.example.back.dto.websocket.response.ReadReceiptResponse;
+import org.example.back.util.websocket.ChatDestinations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/*
+ * 느린 구독 세션 전송 정책 (clientOutboundChannel 인터셉터)
+ * - 세션의 대기 프레임 수(OutboundSessionTracker)에 따라 목적지 종류별로 다르게 처리한다.
+ *   1. typingDropThreshold 이상: 타이핑 이벤트는 보내지 않는다. (잠깐 뒤 다시 오는 휘발성 정보)
+ *   2. readCoalesceThreshold 이상: 같은 방 읽음 이벤트를 회원별 최대 messageId 로 병합해 가장 마지막 프레임 하나로 보낸다.
+ *   3. disconnectThreshold 이상: 연결을 끊고 종료 사유로 재동기화를 안내한다. (클라이언트는 재연결 후 lastMessageId 로 resync)
+ * - 메시지/수정/삭제 이벤트는 연결을 끊기 전까지 버리지 않는다.
+ * */
+@Slf4j
+@Component
+public class SlowConsumerInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String COALESCE_VERSION_HEADER = "chatCoalesceVersion";
+    private static final String CLOSE_REASON = "SLOW_CONSUMER: resync required";
+
+    private final OutboundSessionTracker tracker;
+    private final SlowConsumerProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // (sessionId, destination) -> 병합 중인 읽음 이벤트
+    private final Map<CoalesceKey, ReadAccumulator> accumulators = new ConcurrentHashMap<>();
+
+    private final LongAdder typingDropped = new LongAdder();
+    private final LongAdder readCoalesced = new LongAdder();
+
+    public SlowConsumerInterceptor(OutboundSessionTracker tracker, SlowConsumerProperties properties,
+            ObjectMapper objectMapper) {
+        this.tracker = tracker;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            tracker.queued(sessionId);
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        int depth = tracker.depth(sessionId);
+
+        if (depth >= properties.getDisconnectThreshold()) {
+            tracker.close(sessionId, new CloseStatus(properties.getCloseCode(), CLOSE_REASON));
+            return null;
+        }
+
+        if (depth >= properties.getTypingDropThreshold() && isRoomChannel(destination, "/typing")) {
+            typingDropped.increment();
+            return null;
+        }
+
+        Message<?> toSend = message;
+        if (isRoomChannel(destination, "/read")) {
+            CoalesceKey key = new CoalesceKey(sessionId, destination);
+            if (depth >= properties.getReadCoalesceThreshold() || accumulators.containsKey(key)) {
+                toSend = accumulate(key, message);
+            }
+        }
+
+        tracker.queued(sessionId);
+        return toSend;
+    }
+
+    // 실제 전송 직전: 뒤에 더 최신 병합 프레임이 있으면 건너뛰고, 마지막 프레임이면 병합 결과로 바꿔 보낸다.
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        Object version = message.getHeaders().get(COALESCE_VERSION_HEADER);
+        if (!(version instanceof Long coalesceVersion) || !(handler instanceof SubProtocolWebSocketHandler)) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        CoalesceKey key = new CoalesceKey(sessionId, SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+
+        // 가장 최신 프레임이면 병합 상태를 꺼내고 제거 (병합 등록과 같은 키 단위로 원자적으로 처리)
+        List<Map<Long, ReadReceiptResponse>> taken = new ArrayList<>(1);
+        accumulators.computeIfPresent(key, (k, accumulator) -> {
+            if (accumulator.version != coalesceVersion) {
+                return accumulator;
+            }
+            taken.add(accumulator.byMember);
+            return null;
+        });
+        if (taken.isEmpty()) {
+            readCoalesced.increment();
+            tracker.dropped(sessionId);
+            return null;
+        }
+
+        Map<Long, ReadReceiptResponse> merged = taken.get(0);
+        if (merged.isEmpty()) {
+            return message;
+        }
+        try {
+            ReadReceiptBatchResponse batch = ReadReceiptBatchResponse.builder()
+                    .chatRoomId(merged.values().iterator().next().getChatRoomId())
+                    .receipts(merged.values().stream().toList())
+                    .build();
+            return MessageBuilder.createMessage(objectMapper.writeValueAsBytes(batch), message.getHeaders());
+        } catch (IOException e) {
+            log.warn("[WebSocket] 읽음 이벤트 병합 직렬화 실패 - 원본 전송. sessionId: {}", sessionId, e);
+            return message;
+        }
+    }
+
+    public SlowConsumerStats stats() {
+        OutboundSessionTracker.TrackerStats trackerStats = tracker.stats();
+        return new SlowConsumerStats(trackerStats.sessions(), trackerStats.totalPending(), trackerStats.maxPending(),
+                typingDropped.sum(), readCoalesced.sum(), trackerStats.disconnected());
+    }
+
+    private Message<?> accumulate(CoalesceKey key, Message<?> message) {
+        ReadReceiptBatchResponse batch;
+        try {
+            batch = objectMapper.readValue((byte[]) message.getPayload(), ReadReceiptBatchResponse.class);
+        } catch (IOException | ClassCastException e) {
+            return message;
+        }
+
+        long[] version = new long[1];
+        accumulators.compute(key, (k, accumulator) -> {
+            ReadAccumulator target = accumulator != null ? accumulator : new ReadAccumulator();
+            version[0] = target.merge(batch);
+            return target;
+        });
+
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setHeader(COALESCE_VERSION_HEADER, version[0]);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private static boolean isRoomChannel(String destination, String suffix) {
+        return destination != null && destination.startsWith(ChatDestinations.ROOM_PREFIX) && destination.endsWith(suffix);
+    }
+
+    private record CoalesceKey(String sessionId, String destination) {
+    }
+
+    /*
+     * 세션 + 읽음 목적지 하나의 병합 상태
+     * - 병합할 때마다 version 을 올리고, 가장 최신 version 을 가진 프레임만 병합 결과를 가져간다.
+     * - accumulators 의 compute 안에서만 접근한다.
+     * */
+    private static final class ReadAccumulator {
+
+        private final Map<Long, ReadReceiptResponse> byMember = new LinkedHashMap<>();
+        private long version;
+
+        long merge(ReadReceiptBatchResponse batch) {
+            if (batch.getReceipts() != null) {
+                for (ReadReceiptResponse receipt : batch.getReceipts()) {
+                    byMember.merge(receipt.getMemberId(), receipt,
+                            (previous, next) -> next.getMessageId() >= previous.getMessageId() ? next : previous);
+                }
+            }
+            return ++version;
+        }
+    }
+
+    public record SlowConsumerStats(int sessions, int totalPending, int maxPending,
+            long typingDropped, long readCoalesced, long disconnected) {
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.back.config.websocket;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.dto.message.response.ChatResyncResponse;
+import org.example.back.exception.chatroom.ChatRoomException;
+import org.example.back.service.message.ChatResyncService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/*
+ * 채팅방 구독 시 재연결 동기화 (clientInboundChannel 인터셉터)
+ * - /sub/chat/room/{id} 구독 요청에 lastMessageId 헤더가 있으면 그 이후 변경분을 /user/queue/resync 로 전송한다.
+ * - 브로커가 구독을 등록한 뒤(afterMessageHandled) 변경분을 조회하므로, 등록 전후에 브로드캐스트된 메시지가 빠지지 않는다.
+ *   대신 등록 직후 실시간으로 받은 메시지가 resync 응답에도 들어갈 수 있으므로 클라이언트는 messageId 로 중복을 제거해야 한다.
+ * - 이벤트 로그/DB 조회는 전송 스레드와 수신 스레드를 막지 않도록 별도 가상 스레드에서 처리한다.
+ * - 클라이언트는 채팅방 구독 전에 /user/queue/resync 를 먼저 구독해야 한다.
+ * */
+@Slf4j
+@Component
+public class SubscribeResyncInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/sub/chat/room/([1-9]\\d*)$");
+    private static final String RESYNC_DESTINATION = "/queue/resync";
+
+    private final ChatResyncService chatResyncService;
+    // 브로커 설정이 이 인터셉터를 참조하므로 전송 템플릿은 사용 시점에 조회 (순환 참조 방지)
+    private final ObjectProvider<SimpMessagingTemplate> simpMessagingTemplate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SubscribeResyncInterceptor(ChatResyncService chatResyncService,
+            ObjectProvider<SimpMessagingTemplate> simpMessagingTemplate) {
+        this.chatResyncService = chatResyncService;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+            Exception ex) {
+        if (ex != null || !(handler instanceof SimpleBrokerMessageHandler)
+                || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.SUBSCRIBE) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String lastMessageIdStr = accessor.getFirstNativeHeader("lastMessageId");
+        String destination = accessor.getDestination();
+        if (lastMessageIdStr == null || destination == null) {
+            return;
+        }
+
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object memberIdObj = sessionAttributes != null ? sessionAttributes.get("memberId") : null;
+        if (!(memberIdObj instanceof Long memberId)) {
+            log.warn("재연결 동기화 실패 - 세션에 memberId 없음 또는 타입 불일치");
+            return;
+        }
+
+        Long chatRoomId = Long.valueOf(matcher.group(1));
+        Long lastMessageId;
+        try {
+            lastMessageId = Long.valueOf(lastMessageIdStr);
+        } catch (NumberFormatException e) {
+            log.warn("재연결 동기화 실패 - 잘못된 lastMessageId 형식 (memberId: {}, lastMessageId: {})", memberId, lastMessageIdStr);
+            return;
+        }
+
+        String sessionId = accessor.getSessionId();
+        try {
+            executor.execute(() -> resync(sessionId, chatRoomId, memberId, lastMessageId));
+        } catch (RejectedExecutionException e) {
+            log.debug("재연결 동기화 생략 - 종료 중 (sessionId: {})", sessionId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void resync(String sessionId, Long chatRoomId, Long memberId, Long lastMessageId) {
+        ChatResyncResponse response;
+        try {
+            response = chatResyncService.resync(chatRoomId, memberId, lastMessageId);
+        } catch (ChatRoomException e) {
+            log.warn("재연결 동기화 거부 - memberId: {}, chatRoomId: {}, reason: {}", memberId, chatRoomId, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            log.error("재연결 동기화 실패 - memberId: {}, chatRoomId: {}", memberId, chatRoomId, e);
+            return;
+        }
+
+        // 인증 Principal 없이 세션 단위로 전송
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        simpMessagingTemplate.getObject()
+                .convertAndSendToUser(sessionId, RESYNC_DESTINATION, response, headers.getMessageHeaders());
+
+        log.debug("재연결 동기화 전송 - memberId: {}, chatRoomId: {}, source: {}, messages: {}, events: {}",
+                memberId, chatRoomId, response.getSource(), response.getMessages().size(), response.getEvents().size());
+    }
+}
@@ -1,11 +1,17 @@
 package org.example.back.config.websocket;
 
 import lombok.RequiredArgsConstructor;
+import org.example.back.config.properties.WebSocketOutboundProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker // STOMP 전환
@@ -13,19 +19,74 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
     private final WebSocketHandshakeInterceptor handshakeInterceptor;
+    private final MemberHandshakeHandler memberHandshakeHandler;
+    private final WebSocketOutboundProperties outboundProperties;
+    private final OutboundSessionTracker outboundSessionTracker;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+    private final SubscribeResyncInterceptor subscribeResyncInterceptor;
+    private final Environment environment;
     
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub"); // 메시지 브로커에게 클라이언트로 전송할 때 사용하는 주소
+        config.enableSimpleBroker("/sub", "/queue"); // 메시지 브로커에게 클라이언트로 전송할 때 사용하는 주소 (/queue: 개인 전송)
         config.setApplicationDestinationPrefixes("/pub"); // 클라이언트가 메시지를 보낼 때 사용하는 주소
         config.setUserDestinationPrefix("/user"); // 1:1 메시징을 위한 사용자 전용 주소
+        
+        // 가상 스레드는 메시지마다 새 스레드라 세션별 전송 순서를 보장하지 않으므로 명시적으로 순서 유지
+        if (isVirtualThreads()) {
+            config.setPreservePublishOrder(true);
+        }
+    }
+    
+    /*
+     * 수신 프레임 처리 (@MessageMapping)
+     * - 가상 스레드 모드에서는 프레임마다 가상 스레드에서 실행해, 느린 JPA 호출이 다른 프레임 처리를 막지 않게 한다.
+     * - 플랫폼 스레드 모드는 기본 스레드 풀을 그대로 사용한다.
+     * */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 구독 등록이 끝난 뒤 재연결 동기화
+        registration.interceptors(subscribeResyncInterceptor);
+        if (isVirtualThreads()) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+        }
+    }
+    
+    // 구독 세션별 프레임 쓰기 전용 스레드 풀 (가상 스레드 모드에서는 가상 스레드)
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 느린 세션: 타이핑 폐기 → 읽음 병합 → 연결 종료
+        registration.interceptors(slowConsumerInterceptor);
+        if (isVirtualThreads()) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
+            return;
+        }
+        registration.taskExecutor()
+                .corePoolSize(outboundProperties.getCorePoolSize())
+                .maxPoolSize(outboundProperties.getMaxPoolSize())
+                .queueCapacity(outboundProperties.getQueueCapacity());
+    }
+    
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(outboundProperties.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(outboundProperties.getSendBufferSizeLimit())
+                .addDecoratorFactory(outboundSessionTracker); // 세션별 대기 프레임 집계
     }
     
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 같은 세션의 프레임이 여러 가상 스레드에서 동시에 처리되지 않도록 수신 순서 유지
+        registry.setPreserveReceiveOrder(isVirtualThreads());
         registry.addEndpoint("/ws/chat")
                 .setAllowedOrigins("http://localhost:5173", "http://localhost:8080")
+                .setHandshakeHandler(memberHandshakeHandler)
                 .addInterceptors(handshakeInterceptor)
                 .withSockJS();
     }
+    
+    // spring.threads.virtual.enabled=true (Tomcat 요청 처리, @Scheduled 도 함께 가상 스레드로 전환된다)
+    private boolean isVirtualThreads() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
 }
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.back.dto.message.request.ChatMessageEditRequest;
 import org.example.back.dto.message.response.ChatMessageResponse;
 import org.example.back.service.message.ChatMessageService;
+import org.example.back.service.message.RoomSequencer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatMessageController {
     
     private final ChatMessageService chatMessageService;
+    private final RoomSequencer roomSequencer;
     
     @Operation(summary = "채팅 메시지 수정", description = "본인의 메시지를 5분 이내 수정 가능")
     @ApiResponses({
@@ -40,7 +42,13 @@ public class ChatMessageController {
             @Valid @RequestBody ChatMessageEditRequest request,
             @AuthenticationPrincipal Long memberId
     ) {
-        ChatMessageResponse response = chatMessageService.editMessage(memberId, messageId, request);
+        // 대상이 아직 적재 대기 중이면 트랜잭션을 열기 전에 그 메시지만 적재
+        chatMessageService.flushPendingMessage(messageId);
+        
+        // 같은 채팅방의 메시지 전송/수정/삭제/복구와 순서를 맞춰 실행
+        Long chatRoomId = chatMessageService.getChatRoomIdOfMessage(messageId);
+        ChatMessageResponse response = roomSequencer.call(chatRoomId,
+                () -> chatMessageService.editMessage(memberId, messageId, request));
         
         return ResponseEntity.ok(response);
     }
@@ -56,7 +64,9 @@ public class ChatMessageController {
             @Parameter(description = "삭제할 메시지 ID") @PathVariable Long messageId,
             @AuthenticationPrincipal Long memberId
     ) {
-        chatMessageService.deleteMessage(memberId, messageId);
+        chatMessageService.flushPendingMessage(messageId);
+        Long chatRoomId = chatMessageService.getChatRoomIdOfMessage(messageId);
+        roomSequencer.run(chatRoomId, () -> chatMessageService.deleteMessage(memberId, messageId));
         
         return ResponseEntity.noContent().build();
     }
@@ -72,7 +82,9 @@ public class ChatMessageController {
             @Parameter(description = "복구할 메시지 ID") @PathVariable Long messageId,
             @AuthenticationPrincipal Long memberId
     ) {
-        chatMessageService.restoreMessage(memberId, messageId);
+        chatMessageService.flushPendingMessage(messageId);
+        Long chatRoomId = chatMessageService.getChatRoomIdOfMessage(messageId);
+        roomSequencer.run(chatRoomId, () -> chatMessageService.restoreMessage(memberId, messageId));
 
         return ResponseEntity.noContent().build();
     }
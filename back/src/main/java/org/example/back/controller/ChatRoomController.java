@@ -11,12 +11,17 @@ import org.example.back.dto.room.request.CreateGroupChatRoomRequest;
 import org.example.back.dto.room.request.CreatePrivateChatRoomRequest;
 import org.example.back.dto.room.request.InviteChatRoomRequest;
 import org.example.back.dto.room.request.LeaveChatRoomRequest;
+import org.example.back.dto.message.response.ChatMessageCursorResponse;
 import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.dto.message.response.ChatResyncResponse;
 import org.example.back.dto.room.response.ChatRoomResponse;
 import org.example.back.service.message.ChatMessageService;
+import org.example.back.service.message.ChatResyncService;
 import org.example.back.service.room.ChatRoomService;
+import org.example.back.util.pagination.MessageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -34,6 +39,9 @@ public class ChatRoomController {
     
     private final ChatMessageService chatMessageService;
     private final ChatRoomService chatRoomService;
+    private final ChatResyncService chatResyncService;
+    
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     
     @Operation(summary = "1:1 채팅방 생성", description = "상대방과의 1:1 채팅방을 생성합니다. 이미 존재하면 기존 채팅방을 반환합니다.")
     @ApiResponses({
@@ -87,6 +95,21 @@ public class ChatRoomController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "내 채팅방 목록 조회 (무한 스크롤)", description = "전체 개수 조회 없이 채팅방 목록과 다음 페이지 존재 여부(hasNext)를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/my/slice")
+    public ResponseEntity<Slice<ChatRoomResponse>> getMyChatRoomSlice(
+            @AuthenticationPrincipal Long memberId,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        Slice<ChatRoomResponse> response = chatRoomService.getMyChatRoomSlice(memberId, pageable);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "채팅방 메시지 히스토리 조회", description = "채팅방의 메시지를 최신순으로 페이징 조회합니다. 참여자만 조회 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -104,6 +127,77 @@ public class ChatRoomController {
         return ResponseEntity.ok(messages);
     }
 
+    @Operation(summary = "채팅방 메시지 커서 조회",
+            description = "keyset 페이징으로 조회합니다. cursor 가 있으면 우선 사용하고, 없으면 after(이후 메시지) 또는 before(이전 메시지, 생략 시 최신부터)를 사용합니다. "
+                    + "before 는 메시지 ID 순, after 는 기준 메시지의 채팅방 순번(seq) 이후를 순번 순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "채팅방 참여자가 아님")
+    })
+    @GetMapping("/{roomId}/messages/cursor")
+    public ResponseEntity<ChatMessageCursorResponse> getMessagesByCursor(
+            @Parameter(description = "채팅방 ID") @PathVariable Long roomId,
+            @AuthenticationPrincipal Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "이 메시지 ID 보다 오래된 메시지 조회") @RequestParam(required = false) Long before,
+            @Parameter(description = "이 메시지보다 채팅방 순번이 뒤인 메시지 조회") @RequestParam(required = false) Long after,
+            @Parameter(description = "조회할 메시지 수 (1~100)") @RequestParam(defaultValue = "50") int size
+    ) {
+        MessageCursor messageCursor;
+        if (cursor != null) {
+            messageCursor = MessageCursor.decode(cursor);
+        } else if (after != null) {
+            messageCursor = MessageCursor.after(after);
+        } else {
+            messageCursor = MessageCursor.before(before);
+        }
+
+        // 순번으로 따라잡으므로 앞 순번이 적재 대기 중이면 건너뛰지 않도록 이 채팅방의 대기 메시지를 먼저 적재
+        if (messageCursor.direction() == MessageCursor.Direction.AFTER) {
+            chatMessageService.flushPendingMessages(roomId, 0, Long.MAX_VALUE);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        ChatMessageCursorResponse response = chatMessageService.getMessagesByCursor(roomId, memberId, messageCursor, pageSize);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "채팅 메시지 순번 구간 조회", description = "재연결한 클라이언트가 놓친 순번 구간(fromSeq~toSeq)의 메시지만 조회합니다. 삭제된 메시지도 자리를 채워 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "채팅방 참여자가 아님")
+    })
+    @GetMapping("/{roomId}/messages/range")
+    public ResponseEntity<List<ChatMessageResponse>> getMessagesBySeqRange(
+            @Parameter(description = "채팅방 ID") @PathVariable Long roomId,
+            @AuthenticationPrincipal Long memberId,
+            @Parameter(description = "시작 순번 (포함)") @RequestParam long fromSeq,
+            @Parameter(description = "끝 순번 (포함)") @RequestParam long toSeq
+    ) {
+        // 구간 안의 메시지가 아직 적재 대기 중이면 조회 트랜잭션을 열기 전에 그 메시지들만 적재
+        chatMessageService.flushPendingMessages(roomId, fromSeq, toSeq);
+        List<ChatMessageResponse> messages = chatMessageService.getMessagesBySeqRange(roomId, memberId, fromSeq, toSeq, MAX_CURSOR_PAGE_SIZE);
+
+        return ResponseEntity.ok(messages);
+    }
+
+    @Operation(summary = "재연결 동기화", description = "lastMessageId 이후 새 메시지와 수정/삭제/복구 이벤트만 반환합니다. 변경분이 너무 많으면 fullReloadRequired=true 를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "채팅방 참여자가 아님")
+    })
+    @GetMapping("/{roomId}/resync")
+    public ResponseEntity<ChatResyncResponse> resync(
+            @Parameter(description = "채팅방 ID") @PathVariable Long roomId,
+            @AuthenticationPrincipal Long memberId,
+            @Parameter(description = "클라이언트가 마지막으로 받은 메시지 ID") @RequestParam(required = false) Long lastMessageId
+    ) {
+        return ResponseEntity.ok(chatResyncService.resync(roomId, memberId, lastMessageId));
+    }
+
     @Operation(summary = "채팅방에 멤버 초대", description = "그룹 채팅방에 새로운 멤버들을 초대합니다. 1:1 채팅방에는 초대할 수 없습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "초대 성공"),
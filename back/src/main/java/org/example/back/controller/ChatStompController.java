@@ -18,11 +18,19 @@ import org.example.back.exception.base.ErrorCode;
 import org.example.back.exception.message.ChatMessageErrorCode;
 import org.example.back.exception.message.ChatMessageException;
 import org.example.back.service.message.ChatMessageService;
+import org.example.back.service.message.MessageSequenceAllocator;
 import org.example.back.service.message.ReadReceiptService;
+import org.example.back.service.message.RoomBroadcastOutbox;
+import org.example.back.service.message.RoomSequencer;
+import org.example.back.service.message.TypingIndicator;
+import org.example.back.util.websocket.ChatDestinations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
@@ -30,6 +38,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Tag(name = "채팅 WebSocket", description = "STOMP 메시징 API")
 @Slf4j
@@ -39,8 +49,15 @@ public class ChatStompController {
     
     private final ChatMessageService chatMessageService;
     private final ReadReceiptService readReceiptService;
+    private final RoomBroadcastOutbox roomBroadcastOutbox;
+    private final RoomSequencer roomSequencer;
+    private final MessageSequenceAllocator messageSequenceAllocator;
+    private final TypingIndicator typingIndicator;
     private final SimpMessagingTemplate simpMessagingTemplate;
     
+    // 채팅방별 마지막 브로드캐스트 (적재 확인을 채팅방 작업 밖에서 기다리면서도 같은 방 메시지는 저장 순서대로 전송)
+    private final Map<Long, CompletableFuture<Void>> broadcastTails = new ConcurrentHashMap<>();
+    
     @Operation(
             summary = "채팅 메시지 전송",
             description = "클라이언트가 /pub/chat/send로 채팅 메시지를 전송하면 해당 채팅방 (/sub/chat/room/{id})에 브로드캐스트합니다."
@@ -48,7 +65,8 @@ public class ChatStompController {
     @MessageMapping("/chat/send")
     public void handleChatMessage(
             @Parameter(description = "채팅 메시지 요청 DTO") @Valid @Payload ChatMessageRequest request,
-            @Parameter(description = "WebSocket 세션 정보") @Header("simpSessionAttributes") Map<String, Object> attributes
+            @Parameter(description = "WebSocket 세션 정보") @Header("simpSessionAttributes") Map<String, Object> attributes,
+            @Parameter(hidden = true) @Header("simpSessionId") String sessionId
     ) {
         
         Long memberId = (Long) attributes.get("memberId");
@@ -61,22 +79,88 @@ public class ChatStompController {
         // 보안상 WebSocket 세션 기준으로 senderId 강제 설정
         request.setSenderId(memberId);
         
-        // 메시지 보내기
-        ChatMessage savedMessage = switch (request.getType()) {
-            case TEXT -> chatMessageService.saveTextMessage(request);
-            case IMAGE, FILE -> chatMessageService.saveFileMessage(request);
-            default -> {
-                log.warn("지원하지 않는 메시지 타입: {}", request.getType());
-                throw new ChatMessageException(ChatMessageErrorCode.UNSUPPORTED_MESSAGE_TYPE);
+        // 저장(커밋)은 채팅방 단위로 한 스레드에서 순서대로 실행하고, 브로드캐스트는 적재 확인 후 같은 순서로 이어서 전송
+        // 수신 스레드는 결과를 기다리지 않으므로, 작업 안의 실패는 여기서 직접 /user/queue/errors 로 보낸다.
+        roomSequencer.execute(request.getChatRoomId(), () -> {
+            try {
+                ChatMessage savedMessage = save(request);
+                broadcastWhenPersisted(request.getChatRoomId(), savedMessage, memberId, sessionId);
+            } catch (CustomException e) {
+                sendError(memberId, sessionId, handleCustomException(e));
+            } catch (RuntimeException e) {
+                sendError(memberId, sessionId, handleException(e));
             }
-        };
-        
-        ChatMessageResponse response = ChatMessageResponse.from(savedMessage);
+        });
+    }
+    
+    // @SendToUser 와 같은 /user/queue/errors 로, 요청을 보낸 세션에만 전송
+    private void sendError(Long memberId, String sessionId, StompErrorResponse error) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        simpMessagingTemplate.convertAndSendToUser(String.valueOf(memberId), "/queue/errors", error,
+                headers.getMessageHeaders());
+    }
+    
+    private ChatMessage save(ChatMessageRequest request) {
+        // 메시지 보내기
+        ChatMessage savedMessage;
+        try {
+            // 다른 노드와 순번이 겹치면 DB 기준으로 다시 맞춰 재시도
+            savedMessage = messageSequenceAllocator.retryOnSeqConflict(request.getChatRoomId(),
+                    () -> switch (request.getType()) {
+                        case TEXT -> chatMessageService.saveTextMessage(request);
+                        case IMAGE, FILE -> chatMessageService.saveFileMessage(request);
+                        default -> {
+                            log.warn("지원하지 않는 메시지 타입: {}", request.getType());
+                            throw new ChatMessageException(ChatMessageErrorCode.UNSUPPORTED_MESSAGE_TYPE);
+                        }
+                    });
+        } catch (DataIntegrityViolationException e) {
+            // 중복 검사를 통과한 재전송이 client_message_id UNIQUE 제약에 걸린 경우: 먼저 저장된 메시지로 멱등 응답
+            savedMessage = chatMessageService.findByClientMessageId(request.getClientMessageId())
+                    .orElseThrow(() -> e);
+            log.info("[Send Message] 중복 메시지 제약 위반을 멱등 응답으로 처리 - clientMessageId={}",
+                    request.getClientMessageId());
+        }
+        return savedMessage;
+    }
+    
+    /*
+     * write-behind AFTER_FLUSH 모드면 DB 적재 확인 후 브로드캐스트
+     * - 적재 확인은 채팅방 작업(RoomSequencer) 밖에서 기다리므로, 확인을 기다리는 동안에도 같은 방의 다음 메시지 저장이 진행된다.
+     * - 브로드캐스트는 같은 방의 이전 브로드캐스트 뒤에 이어 붙여 저장 순서대로 전송한다. (채팅방 작업 안에서 호출되므로 tail 갱신은 방 단위로 직렬화됨)
+     * - 적재 실패/시간 초과면 브로드캐스트하지 않고 보낸 세션에만 MESSAGE_PERSIST_FAILED 를 보낸다.
+     * */
+    private void broadcastWhenPersisted(Long chatRoomId, ChatMessage savedMessage, Long memberId, String sessionId) {
+        CompletableFuture<Void> persisted = chatMessageService.whenPersisted(savedMessage);
+        CompletableFuture<Void> previous = broadcastTails.getOrDefault(chatRoomId, CompletableFuture.completedFuture(null));
+        CompletableFuture<Void> tail = previous.thenCompose(ignored -> persisted.handle((result, failure) -> {
+            deliver(chatRoomId, savedMessage, failure, memberId, sessionId);
+            return null;
+        }));
         
-        // 메시지 전송
-        simpMessagingTemplate.convertAndSend("/sub/chat/room/" + request.getChatRoomId(), response);
-        log.debug("[Send Message] 브로드캐스트 완료 - messageId={}, roomId={}, clientMessageId={}",
-                response.getMessageId(), response.getChatRoomId(), response.getClientMessageId());
+        broadcastTails.put(chatRoomId, tail);
+        tail.whenComplete((result, failure) -> broadcastTails.remove(chatRoomId, tail));
+    }
+    
+    // 다음 브로드캐스트가 이어지도록 예외를 밖으로 던지지 않는다.
+    private void deliver(Long chatRoomId, ChatMessage savedMessage, Throwable failure, Long memberId, String sessionId) {
+        try {
+            if (failure != null) {
+                sendError(memberId, sessionId, handleCustomException(new ChatMessageException(ChatMessageErrorCode.MESSAGE_PERSIST_FAILED)));
+                return;
+            }
+            
+            ChatMessageResponse response = ChatMessageResponse.from(savedMessage);
+            
+            // 메시지 전송 (같은 방의 수정/삭제 이벤트와 같은 전송 순서를 따르도록 아웃박스 경유)
+            roomBroadcastOutbox.publish(chatRoomId, ChatDestinations.room(chatRoomId), response);
+            log.debug("[Send Message] 브로드캐스트 완료 - messageId={}, roomId={}, clientMessageId={}",
+                    response.getMessageId(), response.getChatRoomId(), response.getClientMessageId());
+        } catch (RuntimeException e) {
+            log.error("[Send Message] 브로드캐스트 실패 - messageId={}, roomId={}", savedMessage.getId(), chatRoomId, e);
+        }
     }
     
     @Operation(
@@ -118,7 +202,8 @@ public class ChatStompController {
         
         TypingStatus status = request.getTypingStatusEnum();
         
-        readReceiptService.broadcastTypingStatus(request.getChatRoomId(), memberId, status);
+        // DB 조회 없이 처리 (닉네임은 STOMP CONNECT 시 세션에 저장)
+        typingIndicator.onTyping(request.getChatRoomId(), memberId, (String) attributes.get("nickname"), status);
     }
     
     @MessageExceptionHandler(MethodArgumentNotValidException.class)
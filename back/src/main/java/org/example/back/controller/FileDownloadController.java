@@ -5,10 +5,13 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.example.back.service.file.DownloadableFile;
 import org.example.back.service.file.FileDownloadService;
-import org.springframework.core.io.Resource;
-import org.springframework.http.ResponseEntity;
+import org.example.back.service.file.FileTransferWriter;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,20 +25,28 @@ import org.springframework.web.bind.annotation.RestController;
 public class FileDownloadController {
 
     private final FileDownloadService fileDownloadService;
+    private final FileTransferWriter fileTransferWriter;
 
     @Operation(summary = "파일 다운로드",
-            description = "fileId 로 파일을 다운로드한다. 권한: 업로더 본인 OR 해당 파일이 사용된 채팅방의 참여자.")
+            description = "fileId 로 파일을 다운로드한다. 권한: 업로더 본인 OR 해당 파일이 사용된 채팅방의 참여자. "
+                    + "Range(단일 구간), If-None-Match(ETag) 를 지원한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+            @ApiResponse(responseCode = "206", description = "요청한 구간만 전송"),
+            @ApiResponse(responseCode = "304", description = "클라이언트 캐시와 동일 (본문 없음)"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
             @ApiResponse(responseCode = "403", description = "다운로드 권한 없음"),
-            @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
+            @ApiResponse(responseCode = "416", description = "요청한 구간이 파일 범위를 벗어남")
     })
     @GetMapping("/{fileId}")
-    public ResponseEntity<Resource> download(
+    public void download(
             @Parameter(description = "다운로드할 파일 ID", example = "42") @PathVariable Long fileId,
-            @AuthenticationPrincipal Long memberId
-    ) {
-        return fileDownloadService.download(fileId, memberId);
+            @AuthenticationPrincipal Long memberId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        DownloadableFile file = fileDownloadService.prepareDownload(fileId, memberId);
+        fileTransferWriter.write(file, request, response);
     }
 }
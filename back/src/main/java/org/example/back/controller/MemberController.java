@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.back.dto.auth.response.TokenResponse;
@@ -12,6 +13,7 @@ import org.example.back.dto.auth.request.MemberLoginRequest;
 import org.example.back.dto.auth.request.MemberPasswordChangeRequest;
 import org.example.back.dto.auth.request.MemberRegisterRequest;
 import org.example.back.dto.member.response.MemberResponse;
+import org.example.back.dto.member.response.NicknameAvailabilityResponse;
 import org.example.back.exception.member.MemberErrorCode;
 import org.example.back.exception.member.MemberException;
 import org.example.back.service.MemberService;
@@ -39,12 +41,24 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(memberService.registerMember(request));
     }
     
+    @GetMapping("/nickname-availability")
+    @Operation(summary = "닉네임 사용 가능 여부", description = "회원 가입 폼에서 입력 중인 닉네임의 사용 가능 여부를 확인한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "확인 성공"),
+            @ApiResponse(responseCode = "429", description = "클라이언트별 요청 한도 초과")
+    })
+    public ResponseEntity<NicknameAvailabilityResponse> checkNickname(
+            @Parameter(description = "확인할 닉네임", example = "홍길동") @RequestParam String nickname,
+            HttpServletRequest request) {
+        return ResponseEntity.ok(memberService.checkNicknameAvailability(nickname, request.getRemoteAddr()));
+    }
+    
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "사용자 로그인 처리")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그인 성공"),
-            @ApiResponse(responseCode = "401", description = "비밀번호 불일치"),
-            @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
+            @ApiResponse(responseCode = "401", description = "아이디 또는 비밀번호 불일치 (존재하지 않는 아이디와 구분하지 않음)"),
+            @ApiResponse(responseCode = "503", description = "비밀번호 해싱 대기열 포화 또는 시간 초과")
     })
     public ResponseEntity<TokenResponse> login(@Valid @RequestBody MemberLoginRequest request) {
         return ResponseEntity.ok(memberService.login(request));
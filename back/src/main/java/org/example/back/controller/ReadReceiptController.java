@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.back.dto.websocket.response.ReadReceiptResponse;
+import org.example.back.dto.websocket.response.UnreadCountResponse;
 import org.example.back.service.message.ReadReceiptService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -68,4 +69,24 @@ public class ReadReceiptController {
         
         return ResponseEntity.ok(unreadCount);
     }
+    
+    @Operation(
+            summary = "전체 채팅방 안읽은 메시지 수 조회",
+            description = "참여 중인 모든 채팅방의 안읽은 메시지 수를 한 번에 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/unread-counts")
+    public ResponseEntity<List<UnreadCountResponse>> getUnreadMessageCounts(
+            @AuthenticationPrincipal Long memberId
+    ) {
+        log.debug("[UnreadCounts API] 회원 ID: {}", memberId);
+        
+        List<UnreadCountResponse> responseList = readReceiptService.getUnreadMessageCounts(memberId);
+        log.debug("[UnreadCounts API] 채팅방 수: {}", responseList.size());
+        
+        return ResponseEntity.ok(responseList);
+    }
 }
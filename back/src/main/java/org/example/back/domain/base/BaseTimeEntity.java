@@ -19,4 +19,10 @@ public abstract class BaseTimeEntity {
     
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    // JPA Auditing 을 거치지 않고 직접 적재하는 엔티티(JDBC batch 등)의 생성/수정 시각 지정
+    protected void initAuditTimes(LocalDateTime time) {
+        this.createdAt = time;
+        this.updatedAt = time;
+    }
 }
@@ -47,14 +47,24 @@ public class UploadedFile extends BaseTimeEntity {
     @Column(nullable = false)
     private Long size;
 
+    // 업로드 시점에 결정한 Content-Type (다운로드마다 디스크를 probe 하지 않기 위함. 이전 데이터는 null)
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // 저장된 파일 내용의 SHA-256 (hex). 다운로드 강한 ETag 로 사용 (이전 데이터는 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     public static UploadedFile of(Member uploader, String savedPath, String originalName,
-                                  String extension, Long size) {
+                                  String extension, Long size, String contentType, String contentHash) {
         return UploadedFile.builder()
                 .uploader(uploader)
                 .savedPath(savedPath)
                 .originalName(originalName)
                 .extension(extension)
                 .size(size)
+                .contentType(contentType)
+                .contentHash(contentHash)
                 .build();
     }
 }
@@ -11,29 +11,41 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Member.UK_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = Member.UK_NICKNAME, columnNames = "nickname"),
+        @UniqueConstraint(name = Member.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = Member.UK_PHONE, columnNames = "phone")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Member extends BaseTimeEntity implements UserDetails {
     
+    // 고유 제약 이름 (INSERT 시 제약 위반을 중복 항목으로 변환할 때 사용)
+    public static final String UK_USERNAME = "uk_member_username";
+    public static final String UK_NICKNAME = "uk_member_nickname";
+    public static final String UK_EMAIL = "uk_member_email";
+    public static final String UK_PHONE = "uk_member_phone";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String username; // 회원 ID
     
     @Column(nullable = false)
     private String password;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String nickname;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
     
-    @Column(unique = true)
+    @Column
     private String phone;
     
     @Column
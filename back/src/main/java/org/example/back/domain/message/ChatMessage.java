@@ -17,11 +17,15 @@ import org.example.back.domain.room.ChatRoom;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id"),
+        @Index(name = "uk_chat_message_room_seq", columnList = "chat_room_id, seq", unique = true),
+        @Index(name = "idx_chat_message_room_updated_at", columnList = "chat_room_id, updated_at")
+})
 public class ChatMessage extends BaseTimeEntity {
     
+    // ID 는 MessageIdGenerator 가 저장 전에 발급 (INSERT batch 및 적재 전 브로드캐스트 대응)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     // 소속 채팅방
@@ -35,6 +39,9 @@ public class ChatMessage extends BaseTimeEntity {
     @JoinColumn(name = "sender_id")
     private Member sender;
     
+    // 채팅방 내 메시지 순번 (1 부터 증가, MessageSequenceAllocator 가 발급)
+    private Long seq;
+    
     // 메시지 내용
     @Lob
     @Column(nullable = false)
@@ -55,6 +62,7 @@ public class ChatMessage extends BaseTimeEntity {
     private String clientMessageId;
     
     // 낙관적 락 버전 필드 추가 (동시 수정 충돌 대비)
+    // ID 를 직접 발급하므로 신규 엔티티 여부(persist/merge)는 version == null 로 판단된다.
     @Version
     private Long version;
     
@@ -81,4 +89,9 @@ public class ChatMessage extends BaseTimeEntity {
         this.isDeleted = false;
         this.deletedAt = null;
     }
+
+    // write-behind 적재 시 브로드캐스트 시점의 생성 시각을 미리 지정
+    public void stampCreatedAt(LocalDateTime createdAt) {
+        initAuditTimes(createdAt);
+    }
 }
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,9 @@ import org.example.back.domain.member.Member;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "chat_participant")
+@Table(name = "chat_participant", indexes = {
+        @Index(name = "idx_chat_participant_member_room", columnList = "member_id, chat_room_id")
+})
 public class ChatParticipant extends BaseTimeEntity {
     
     @Schema(description = "채팅방 참여 기록 ID (Member와 ChatRoom의 관계를 식별하는 고유 키)", example = "1")
@@ -52,6 +55,16 @@ public class ChatParticipant extends BaseTimeEntity {
     @Column
     private Long lastReadMessageId;
     
+    // 마지막으로 읽은 메시지의 채팅방 내 순번 (안읽은 수 = 방 lastMessageSeq - lastReadSeq - unreadDeletedCount)
+    @Schema(description = "가장 마지막으로 읽은 메시지 순번", example = "120")
+    @Column
+    private Long lastReadSeq;
+    
+    // lastReadSeq 이후 순번 중 보이지 않는 수: 삭제된 메시지(삭제/복구 시 증감) + 빈 순번(읽음 처리 시 다시 셈)
+    @Schema(description = "읽지 않은 구간의 삭제된 메시지 수", example = "0")
+    @Column
+    private Long unreadDeletedCount;
+    
     // 메시지 읽음 상태 업데이트, 사용자가 마지막으로 읽은 메시지 ID 갱신
     public void updateLastReadMessage(Long messageId) {
         this.lastReadMessageId = messageId;
@@ -103,10 +116,25 @@ public class ChatParticipant extends BaseTimeEntity {
     }
     
     public static ChatParticipant create(ChatRoom chatRoom, Member member) {
+        return create(chatRoom, member, 0L);
+    }
+    
+    /**
+     * 이미 메시지가 있는 채팅방에 참여자로 추가
+     * - 참여 이전 메시지(삭제/롤백으로 빈 순번 포함)가 안읽은 수에 잡히지 않도록 현재 순번까지 읽은 것으로 시작한다.
+     *
+     * @param chatRoom 채팅방
+     * @param member 회원
+     * @param currentSeq 참여 시점의 채팅방 마지막 순번
+     * @return 일반 권한을 가진 참여자
+     */
+    public static ChatParticipant create(ChatRoom chatRoom, Member member, long currentSeq) {
         return ChatParticipant.builder()
                 .chatRoom(chatRoom)
                 .member(member)
                 .role(ChatRoomRole.MEMBER) // 기본값 명시
+                .lastReadSeq(currentSeq)
+                .unreadDeletedCount(0L)
                 .build();
     }
     
@@ -122,6 +150,8 @@ public class ChatParticipant extends BaseTimeEntity {
                 .chatRoom(chatRoom)
                 .member(member)
                 .role(ChatRoomRole.OWNER)
+                .lastReadSeq(0L)
+                .unreadDeletedCount(0L)
                 .build();
     }
     
@@ -137,6 +167,8 @@ public class ChatParticipant extends BaseTimeEntity {
                 .chatRoom(chatRoom)
                 .member(member)
                 .role(ChatRoomRole.MODERATOR)
+                .lastReadSeq(0L)
+                .unreadDeletedCount(0L)
                 .build();
     }
 }
@@ -1,6 +1,7 @@
 package org.example.back.domain.room;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import lombok.*;
 import org.example.back.domain.base.BaseTimeEntity;
 
@@ -14,7 +15,9 @@ import org.example.back.domain.base.BaseTimeEntity;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "chat_room")
+@Table(name = "chat_room", indexes = {
+        @Index(name = "idx_chat_room_last_message_at", columnList = "last_message_at, id")
+})
 public class ChatRoom extends BaseTimeEntity {
 
     @Id
@@ -35,11 +38,21 @@ public class ChatRoom extends BaseTimeEntity {
     @Column(nullable = false)
     private Boolean isDeleted = false;
     
+    // 마지막 메시지 정보 (채팅방 목록 정렬/미리보기용, RoomActivityUpdater 가 비동기로 갱신)
+    private Long lastMessageId;
+    
+    // 메시지가 없는 방은 생성 시각으로 시작해 목록 정렬에 포함된다.
+    private LocalDateTime lastMessageAt;
+    
+    @Column(length = 100)
+    private String lastMessagePreview;
+    
     // 1:1 채팅방 생성 메서드 이름 없이 PRIVATE 타입으로 생성됨
     public static ChatRoom createPrivateRoom() {
         return ChatRoom.builder()
                 .type(ChatRoomType.PRIVATE)
                 .isDeleted(false)
+                .lastMessageAt(LocalDateTime.now())
                 .build();
     }
     
@@ -49,6 +62,7 @@ public class ChatRoom extends BaseTimeEntity {
                 .type(ChatRoomType.GROUP)
                 .name(name)
                 .isDeleted(false)
+                .lastMessageAt(LocalDateTime.now())
                 .build();
     }
     
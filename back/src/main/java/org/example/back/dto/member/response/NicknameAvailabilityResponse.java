@@ -0,0 +1,17 @@
+package org.example.back.dto.member.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NicknameAvailabilityResponse {
+    
+    @Schema(description = "확인한 닉네임", example = "홍길동")
+    private String nickname;
+    
+    @Schema(description = "사용 가능 여부", example = "true")
+    private boolean available;
+}
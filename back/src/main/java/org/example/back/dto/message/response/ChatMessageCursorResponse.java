@@ -0,0 +1,25 @@
+package org.example.back.dto.message.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "커서 기반 채팅 메시지 조회 응답 DTO")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageCursorResponse {
+
+    @Schema(description = "메시지 목록 (BEFORE: 최신순, AFTER: 오래된 순)")
+    private List<ChatMessageResponse> messages;
+
+    @Schema(description = "다음 페이지 조회용 커서 (더 없으면 null)", example = "QkVGT1JFOjEwMDE")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -24,6 +24,9 @@ public class ChatMessageResponse {
     @Schema(description = "채팅방 ID", example = "1")
     private Long chatRoomId;
     
+    @Schema(description = "채팅방 내 메시지 순번 (누락 감지용, 1 씩 증가)", example = "57")
+    private Long seq;
+    
     @Schema(description = "메시지 내용", example = "테스트입니다!")
     private String content;
     
@@ -82,6 +85,7 @@ public class ChatMessageResponse {
         return ChatMessageResponse.builder()
                 .messageId(message.getId())
                 .chatRoomId(message.getChatRoom().getId())
+                .seq(message.getSeq())
                 .content(deleted ? "삭제된 메시지입니다." : message.getContent())
                 .type(deleted ? MessageType.SYSTEM : message.getMessageType())
                 .createdAt(message.getCreatedAt())
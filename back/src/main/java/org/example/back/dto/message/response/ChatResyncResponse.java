@@ -0,0 +1,46 @@
+package org.example.back.dto.message.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.back.dto.message.event.ChatMessageEvent;
+
+@Schema(description = "재연결 동기화 응답 DTO")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatResyncResponse {
+    
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+    
+    @Schema(description = "응답 출처", example = "MEMORY / DATABASE")
+    private Source source;
+    
+    @Schema(description = "변경분이 너무 많거나 기준 메시지를 찾을 수 없어 전체 재조회가 필요한지 여부")
+    private boolean fullReloadRequired;
+    
+    @Schema(description = "lastMessageId 이후 새 메시지 (ID 오름차순)")
+    private List<ChatMessageResponse> messages;
+    
+    @Schema(description = "lastMessageId 이후 발생한 수정/삭제/복구 이벤트 (DATABASE 출처는 현재 상태 기준: 삭제 → MESSAGE_DELETED, 그 외 → MESSAGE_EDITED)")
+    private List<ChatMessageEvent> events;
+    
+    public enum Source {
+        MEMORY,
+        DATABASE
+    }
+    
+    public static ChatResyncResponse fullReload(Long chatRoomId) {
+        return ChatResyncResponse.builder()
+                .chatRoomId(chatRoomId)
+                .fullReloadRequired(true)
+                .messages(List.of())
+                .events(List.of())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.back.dto.room.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,12 +29,24 @@ public class ChatRoomResponse {
     @Schema(description = "참여자 ID 목록", example = "[1, 2]")
     private List<Long> participantIds;
     
+    @Schema(description = "마지막 메시지 ID (메시지가 없으면 null)", example = "1001")
+    private Long lastMessageId;
+    
+    @Schema(description = "마지막 메시지 시각 (메시지가 없으면 채팅방 생성 시각)")
+    private LocalDateTime lastMessageAt;
+    
+    @Schema(description = "마지막 메시지 미리보기", example = "내일 몇 시에 만나?")
+    private String lastMessagePreview;
+    
     public static ChatRoomResponse from(ChatRoom chatRoom, List<Long> participantIds) {
         return ChatRoomResponse.builder()
                 .roomId(chatRoom.getId())
                 .type(chatRoom.getType().name())
                 .name(chatRoom.getName())
                 .participantIds(participantIds)
+                .lastMessageId(chatRoom.getLastMessageId())
+                .lastMessageAt(chatRoom.getLastMessageAt())
+                .lastMessagePreview(chatRoom.getLastMessagePreview())
                 .build();
     }
 }
@@ -0,0 +1,51 @@
+package org.example.back.dto.room.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅방 목록 변경분 (/user/queue/rooms 로 전송)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomListDelta {
+    
+    @Schema(description = "변경 유형", example = "BUMPED")
+    private Type type;
+    
+    @Schema(description = "채팅방 ID", example = "101")
+    private Long chatRoomId;
+    
+    @Schema(description = "채팅방 이름 (ADDED 에만 존재, 1:1 채팅은 null)", example = "스터디 그룹")
+    private String name;
+    
+    @Schema(description = "채팅방 타입 (ADDED 에만 존재)", example = "GROUP")
+    private String roomType;
+    
+    @Schema(description = "마지막 메시지 ID (BUMPED)", example = "1001")
+    private Long lastMessageId;
+    
+    @Schema(description = "마지막 메시지 시각 (BUMPED)")
+    private LocalDateTime lastMessageAt;
+    
+    @Schema(description = "마지막 메시지 미리보기 (BUMPED)", example = "내일 몇 시에 만나?")
+    private String lastMessagePreview;
+    
+    @Schema(description = "안읽은 메시지 수 (재계산된 경우에만 존재)", example = "3")
+    private Long unreadCount;
+    
+    @Schema(description = "안읽은 메시지 증가분 (unreadCount 가 없을 때 클라이언트가 더함)", example = "2")
+    private Integer unreadDelta;
+    
+    public enum Type {
+        // 같은 주기에 모이면 UNREAD_CHANGED < BUMPED 는 높은 쪽으로, ADDED / REMOVED 는 마지막 값으로 합친다
+        UNREAD_CHANGED,
+        BUMPED,
+        ADDED,
+        REMOVED
+    }
+}
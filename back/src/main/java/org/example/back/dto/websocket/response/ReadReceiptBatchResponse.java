@@ -0,0 +1,22 @@
+package org.example.back.dto.websocket.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅방 읽음 처리 묶음 응답 DTO (flush 주기마다 채팅방당 1회 전송)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadReceiptBatchResponse {
+
+    @Schema(description = "채팅방 ID", example = "101")
+    private Long chatRoomId;
+
+    @Schema(description = "이번 주기에 갱신된 회원별 마지막 읽은 메시지")
+    private List<ReadReceiptResponse> receipts;
+}
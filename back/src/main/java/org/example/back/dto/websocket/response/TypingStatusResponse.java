@@ -0,0 +1,27 @@
+package org.example.back.dto.websocket.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅방 타이핑 상태 응답 DTO")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TypingStatusResponse {
+    
+    @Schema(description = "채팅방 ID", example = "101")
+    private Long chatRoomId;
+    
+    @Schema(description = "입력 중인 회원 ID", example = "1")
+    private Long memberId;
+    
+    @Schema(description = "입력 중인 회원 닉네임 (세션에 없으면 null)", example = "홍길동")
+    private String nickname;
+    
+    @Schema(description = "입력 상태", example = "typing", allowableValues = {"typing", "stop"})
+    private String status;
+}
@@ -0,0 +1,21 @@
+package org.example.back.dto.websocket.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "채팅방별 안읽은 메시지 수 응답 DTO")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnreadCountResponse {
+    
+    @Schema(description = "채팅방 ID", example = "101")
+    private Long chatRoomId;
+    
+    @Schema(description = "안읽은 메시지 수", example = "3")
+    private long unreadCount;
+}
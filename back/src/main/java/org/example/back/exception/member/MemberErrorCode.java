@@ -12,9 +12,11 @@ public enum MemberErrorCode implements ErrorCode {
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다."),
     DUPLICATE_PHONE(HttpStatus.CONFLICT, "이미 존재하는 전화번호입니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
-    INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 일치하지 않습니다."),
     INVALID_CURRENT_PASSWORD(HttpStatus.BAD_REQUEST, "현재 비밀번호가 일치하지 않습니다."),
-    ACCESS_DENIED(HttpStatus.FORBIDDEN, "본인의 리소스만 접근할 수 있습니다.");
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "본인의 리소스만 접근할 수 있습니다."),
+    NICKNAME_CHECK_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "닉네임 확인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
     
     private final HttpStatus status;
     private final String message;
@@ -26,7 +26,11 @@ public enum ChatMessageErrorCode implements ErrorCode {
     INVALID_TYPING_STATUS(HttpStatus.BAD_REQUEST, "올바르지 않은 타이핑 상태입니다."),
     UNAUTHORIZED_ACCESS(HttpStatus.UNAUTHORIZED, "인증 정보가 없습니다. 다시 연결해주세요."),
     ATTACHED_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "첨부 파일을 찾을 수 없습니다."),
-    NOT_ATTACHED_FILE_OWNER(HttpStatus.FORBIDDEN, "본인이 업로드한 파일만 첨부할 수 있습니다.");
+    NOT_ATTACHED_FILE_OWNER(HttpStatus.FORBIDDEN, "본인이 업로드한 파일만 첨부할 수 있습니다."),
+    WRITE_BUFFER_FULL(HttpStatus.SERVICE_UNAVAILABLE, "메시지 처리량이 많아 잠시 후 다시 시도해주세요."),
+    ROOM_SEQUENCER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "채팅방에 처리 중인 요청이 많아 잠시 후 다시 시도해주세요."),
+    MESSAGE_PERSIST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "메시지 저장에 실패했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 커서입니다.");
 
     private final HttpStatus status;
     private final String message;
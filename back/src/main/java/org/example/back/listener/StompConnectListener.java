@@ -4,9 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.back.exception.member.MemberErrorCode;
 import org.example.back.exception.member.MemberException;
+import org.example.back.exception.message.ChatMessageException;
 import org.example.back.repository.MemberRepository;
-import org.example.back.repository.participant.ChatParticipantRepository;
 import org.example.back.service.message.ChatMessageService;
+import org.example.back.service.message.MessageSequenceAllocator;
+import org.example.back.service.message.RoomSequencer;
+import org.example.back.service.room.ChatRoomMembershipCache;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
@@ -21,7 +24,9 @@ public class StompConnectListener {
 
     private final ChatMessageService chatMessageService;
     private final MemberRepository memberRepository;
-    private final ChatParticipantRepository chatParticipantRepository;
+    private final RoomSequencer roomSequencer;
+    private final MessageSequenceAllocator messageSequenceAllocator;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @EventListener
     public void handleStompConnect(SessionConnectEvent event) {
@@ -39,6 +44,12 @@ public class StompConnectListener {
             return;
         }
 
+        // 타이핑 등 DB 없이 처리하는 이벤트에서 쓰도록 닉네임을 세션에 저장
+        String nickname = memberRepository.findById(memberId)
+                .orElseThrow(() -> new MemberException(MemberErrorCode.USER_NOT_FOUND))
+                .getNickname();
+        sessionAttributes.put("nickname", nickname);
+
         String chatRoomIdStr = accessor.getFirstNativeHeader("chatRoomId");
         if (chatRoomIdStr == null) {
             log.warn("입장 실패 - chatRoomId 헤더 누락 (memberId: {})", memberId);
@@ -54,7 +65,7 @@ public class StompConnectListener {
         }
 
         // 참여자가 아니면 입장 위장 차단 (임의 chatRoomId 헤더로 시스템 메시지 위조 방지)
-        if (chatParticipantRepository.findByChatRoomIdAndMemberId(chatRoomId, memberId).isEmpty()) {
+        if (!chatRoomMembershipCache.isMember(chatRoomId, memberId)) {
             log.warn("입장 거부 - 참여자 아님 (memberId: {}, chatRoomId: {})", memberId, chatRoomId);
             return;
         }
@@ -62,10 +73,19 @@ public class StompConnectListener {
         // 퇴장 시 사용할 수 있도록 세션에 chatRoomId 저장
         sessionAttributes.put("chatRoomId", chatRoomId);
 
-        String nickname = memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberException(MemberErrorCode.USER_NOT_FOUND))
-                .getNickname();
-        chatMessageService.sendSystemMessageAndBroadcast(chatRoomId, nickname + "님이 입장했습니다.");
+        // 이벤트 스레드(인바운드 채널)를 막지 않도록 결과를 기다리지 않는다. 작업 안의 실패는 작업에서 로그로 남긴다.
+        try {
+            roomSequencer.execute(chatRoomId, () -> {
+                try {
+                    messageSequenceAllocator.retryOnSeqConflict(chatRoomId,
+                            () -> chatMessageService.sendSystemMessageAndBroadcast(chatRoomId, nickname + "님이 입장했습니다."));
+                } catch (RuntimeException e) {
+                    log.error("입장 메시지 전송 실패 - memberId: {}, chatRoomId: {}", memberId, chatRoomId, e);
+                }
+            });
+        } catch (ChatMessageException e) {
+            log.warn("입장 메시지 전송 거부 - 채팅방 작업 대기열 포화 (memberId: {}, chatRoomId: {})", memberId, chatRoomId);
+        }
 
         log.info("입장: memberId={}, roomId={}, nickname={}", memberId, chatRoomId, nickname);
     }
@@ -2,8 +2,11 @@ package org.example.back.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.back.exception.message.ChatMessageException;
 import org.example.back.repository.MemberRepository;
 import org.example.back.service.message.ChatMessageService;
+import org.example.back.service.message.MessageSequenceAllocator;
+import org.example.back.service.message.RoomSequencer;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
@@ -18,6 +21,8 @@ public class StompDisconnectListener {
     
     private final ChatMessageService chatMessageService;
     private final MemberRepository memberRepository;
+    private final RoomSequencer roomSequencer;
+    private final MessageSequenceAllocator messageSequenceAllocator;
     
     @EventListener
     public void handleStompDisconnect(SessionDisconnectEvent event) {
@@ -37,8 +42,23 @@ public class StompDisconnectListener {
             return;
         }
         
-        String nickname = memberRepository.findById(memberId).orElseThrow().getNickname();
-        chatMessageService.sendSystemMessageAndBroadcast(chatRoomId, nickname + "님이 퇴장하셨습니다.");
+        // CONNECT 때 세션에 저장한 닉네임 사용 (없으면 조회)
+        String nickname = sessionAttributes.get("nickname") instanceof String stored
+                ? stored
+                : memberRepository.findById(memberId).orElseThrow().getNickname();
+        // 이벤트 스레드(인바운드 채널)를 막지 않도록 결과를 기다리지 않는다. 작업 안의 실패는 작업에서 로그로 남긴다.
+        try {
+            roomSequencer.execute(chatRoomId, () -> {
+                try {
+                    messageSequenceAllocator.retryOnSeqConflict(chatRoomId,
+                            () -> chatMessageService.sendSystemMessageAndBroadcast(chatRoomId, nickname + "님이 퇴장하셨습니다."));
+                } catch (RuntimeException e) {
+                    log.error("퇴장 메시지 전송 실패 - memberId: {}, chatRoomId: {}", memberId, chatRoomId, e);
+                }
+            });
+        } catch (ChatMessageException e) {
+            log.warn("퇴장 메시지 전송 거부 - 채팅방 작업 대기열 포화 (memberId: {}, chatRoomId: {})", memberId, chatRoomId);
+        }
         
         log.info("퇴장: memberId={}, roomId={}, nickname={}", memberId, chatRoomId, nickname);
     }
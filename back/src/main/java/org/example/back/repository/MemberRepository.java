@@ -2,8 +2,13 @@ package org.example.back.repository;
 
 import org.example.back.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByUsername(String username); // 회원 ID 중복 확인
@@ -14,6 +19,23 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     
     boolean existsByPhone(String phone); // 전화번호 중복 확
     
+    // 회원 가입 중복 검사 (아이디/닉네임/이메일/전화번호 중 하나라도 겹치는 회원을 한 번에 조회)
+    @Query("select new org.example.back.repository.MemberUniqueFields(m.username, m.nickname, m.email, m.phone) "
+            + "from Member m "
+            + "where m.username = :username or m.nickname = :nickname or m.email = :email or m.phone = :phone")
+    List<MemberUniqueFields> findUniqueConflicts(@Param("username") String username,
+            @Param("nickname") String nickname, @Param("email") String email, @Param("phone") String phone);
+    
+    // 로그인 시 재해싱 (읽은 뒤 비밀번호가 바뀌었으면 0 건)
+    @Modifying
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword);
+    
+    // 닉네임 인덱스 적재용 (트랜잭션 안에서 사용 후 close)
+    @Query("select m.nickname from Member m")
+    Stream<String> streamAllNicknames();
+    
     Optional<Member> findById(Long id); // 회원 정보 조회
     
     Optional<Member> findByUsername(String username); // 회원 정보 조회
@@ -0,0 +1,13 @@
+package org.example.back.repository;
+
+/*
+ * 회원 가입 중복 검사 결과 (고유 제약이 걸린 컬럼만 조회)
+ * - 입력값과 하나라도 겹치는 회원의 값을 모아 어떤 항목이 중복인지 판단한다.
+ * */
+public record MemberUniqueFields(
+        String username,
+        String nickname,
+        String email,
+        String phone
+) {
+}
@@ -0,0 +1,55 @@
+package org.example.back.repository.message;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.back.domain.message.ChatMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 채팅 메시지 JDBC batch 적재용 Repository
+ * - write-behind 모드에서 애플리케이션이 ID 를 미리 발급한 메시지를 한 번에 INSERT 한다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_SQL = "insert into chat_message "
+            + "(id, chat_room_id, seq, sender_id, content, message_type, file_id, client_message_id, "
+            + "version, is_deleted, deleted_at, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, 0, false, null, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(),
+                (ps, message) -> bind(ps, message));
+    }
+
+    private void bind(PreparedStatement ps, ChatMessage message) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+
+        ps.setLong(1, message.getId());
+        ps.setLong(2, message.getChatRoom().getId());
+        setNullableLong(ps, 3, message.getSeq());
+        setNullableLong(ps, 4, message.getSender() != null ? message.getSender().getId() : null);
+        ps.setString(5, message.getContent());
+        ps.setString(6, message.getMessageType().name());
+        setNullableLong(ps, 7, message.getFile() != null ? message.getFile().getId() : null);
+        ps.setString(8, message.getClientMessageId());
+        ps.setTimestamp(9, createdAt);
+        ps.setTimestamp(10, createdAt);
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.example.back.repository.message;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.example.back.domain.message.ChatMessage;
@@ -33,6 +34,89 @@ public class ChatMessageQueryRepository {
                 .fetch();
     }
 
+    // 커서 기반 조회: beforeId 보다 오래된 메시지 (최신순, beforeId 가 null 이면 최신부터)
+    // (chat_room_id, id) 인덱스를 타므로 과거로 깊이 스크롤해도 offset 스캔 비용이 없다.
+    public List<ChatMessage> findMessagesBeforeId(Long chatRoomId, Long beforeId, int limit) {
+        return queryFactory
+                .selectFrom(chatMessage)
+                .leftJoin(chatMessage.sender).fetchJoin()
+                .where(
+                        chatMessage.chatRoom.id.eq(chatRoomId),
+                        idLt(beforeId),
+                        notDeleted()
+                )
+                .orderBy(chatMessage.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /*
+     * 커서 기반 조회: 기준 메시지 이후 메시지 (채팅방 순번 순)
+     * - 메시지 ID 는 노드마다 따로 발급(Snowflake)되어 채팅방 안의 저장 순서와 어긋날 수 있으므로, 앞으로 따라잡기는 순번(seq)으로 한다.
+     * - 순번 도입 전 메시지(seq null)는 모든 순번 메시지보다 오래됐으므로, 기준이 그런 메시지면 이후의 순번 없는 메시지(ID 순) 뒤에 순번 메시지 전체가 온다.
+     * */
+    public List<ChatMessage> findMessagesAfter(Long chatRoomId, Long afterId, Long afterSeq, int limit) {
+        return queryFactory
+                .selectFrom(chatMessage)
+                .leftJoin(chatMessage.sender).fetchJoin()
+                .where(
+                        chatMessage.chatRoom.id.eq(chatRoomId),
+                        after(afterId, afterSeq),
+                        notDeleted()
+                )
+                .orderBy(chatMessage.seq.asc().nullsFirst(), chatMessage.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 순번 구간 조회: fromSeq 이상 toSeq 이하 (순번 오름차순)
+    // 누락 구간 재조회용이므로 삭제된 메시지도 포함해 순번이 비지 않게 한다.
+    public List<ChatMessage> findMessagesBySeqRange(Long chatRoomId, long fromSeq, long toSeq, int limit) {
+        return queryFactory
+                .selectFrom(chatMessage)
+                .leftJoin(chatMessage.sender).fetchJoin()
+                .where(
+                        chatMessage.chatRoom.id.eq(chatRoomId),
+                        chatMessage.seq.between(fromSeq, toSeq)
+                )
+                .orderBy(chatMessage.seq.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 기준 메시지(maxId, maxSeq)까지의 메시지 중 since 이후 수정/삭제/복구된 메시지 (재연결 동기화용, 삭제 메시지 포함)
+    public List<ChatMessage> findMessagesChangedSince(Long chatRoomId, Long maxId, Long maxSeq, LocalDateTime since, int limit) {
+        return queryFactory
+                .selectFrom(chatMessage)
+                .leftJoin(chatMessage.sender).fetchJoin()
+                .where(
+                        chatMessage.chatRoom.id.eq(chatRoomId),
+                        upTo(maxId, maxSeq),
+                        chatMessage.updatedAt.gt(since)
+                )
+                .orderBy(chatMessage.updatedAt.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 채팅방의 마지막 메시지 순번 ((chat_room_id, seq) 인덱스로 조회, 메시지가 없으면 null)
+    public Long findMaxSeqByChatRoomId(Long chatRoomId) {
+        return queryFactory
+                .select(chatMessage.seq.max())
+                .from(chatMessage)
+                .where(chatMessage.chatRoom.id.eq(chatRoomId))
+                .fetchOne();
+    }
+
+    // 메시지가 속한 채팅방 ID (없으면 null)
+    public Long findChatRoomIdByMessageId(Long messageId) {
+        return queryFactory
+                .select(chatMessage.chatRoom.id)
+                .from(chatMessage)
+                .where(chatMessage.id.eq(messageId))
+                .fetchOne();
+    }
+
     // 최근 메시지 N 개 조회 (최신순)
     public List<ChatMessage> findRecentMessagesByChatRoomId(Long chatRoomId, int limit) {
         return queryFactory
@@ -46,18 +130,24 @@ public class ChatMessageQueryRepository {
                 .fetch();
     }
     
-    // 안 읽은 메시지 수 조회 (소프트 삭제 메시지 제외)
-    public int countUnreadByChatRoomId(Long chatRoomId, Long lastReadMessageId) {
-        Long count = queryFactory
-                .select(chatMessage.count())
-                .from(chatMessage)
-                .where(
-                        chatMessage.chatRoom.id.eq(chatRoomId)
-                                .and(chatMessage.id.gt(lastReadMessageId))
-                                .and(notDeleted())
-                )
-                .fetchOne();
-        return count == null ? 0 : count.intValue();
+    private BooleanExpression idLt(Long beforeId) {
+        return beforeId == null ? null : chatMessage.id.lt(beforeId);
+    }
+
+    // 기준 메시지보다 채팅방 순서상 뒤 (기준에 순번이 없으면 순번 메시지 전체 + 더 큰 ID 의 순번 없는 메시지)
+    private BooleanExpression after(Long afterId, Long afterSeq) {
+        if (afterSeq != null) {
+            return chatMessage.seq.gt(afterSeq);
+        }
+        return chatMessage.seq.isNotNull().or(chatMessage.id.gt(afterId));
+    }
+
+    // 기준 메시지까지 (after 의 반대, 순번 없는 메시지는 기준에 순번이 있으면 모두 포함)
+    private BooleanExpression upTo(Long maxId, Long maxSeq) {
+        if (maxSeq != null) {
+            return chatMessage.seq.isNull().or(chatMessage.seq.loe(maxSeq));
+        }
+        return chatMessage.seq.isNull().and(chatMessage.id.loe(maxId));
     }
 
     // Soft Delete 공통 필터 (isDeleted = false)
@@ -1,7 +1,10 @@
 package org.example.back.repository.message;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.example.back.domain.message.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +14,17 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     // clientMessageId 중복 여부 확인용
     boolean existsByClientMessageId(String clientMessageId);
 
+    // clientMessageId 인덱스 크기 산정용
+    long countByClientMessageIdIsNotNull();
+
+    // clientMessageId 인덱스 적재 범위 산정용, 최신 순 메시지 ID (offset 으로 N 번째 최신 메시지를 찾는다)
+    @Query("SELECT m.id FROM ChatMessage m WHERE m.clientMessageId IS NOT NULL ORDER BY m.id DESC")
+    List<Long> findIdsWithClientMessageId(Pageable pageable);
+
+    // clientMessageId 인덱스 적재용, fromId 이후 오래된 순 (트랜잭션 안에서 사용 후 close)
+    @Query("SELECT m.clientMessageId FROM ChatMessage m WHERE m.clientMessageId IS NOT NULL AND m.id >= :fromId ORDER BY m.id")
+    Stream<String> streamClientMessageIdsFrom(@Param("fromId") Long fromId);
+
     // 메시지 중복 저장 방지
     Optional<ChatMessage> findByClientMessageId(String clientMessageId);
 
@@ -0,0 +1,52 @@
+package org.example.back.repository.participant;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 채팅방 참여자 JDBC batch 갱신용 Repository
+ * - 모아 둔 읽음 처리 결과를 한 번의 batch UPDATE 로 반영한다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ChatParticipantBatchRepository {
+
+    // 메시지가 해당 채팅방에 존재하고, 마지막 읽은 ID 보다 클 때만 갱신 (null 은 아직 읽지 않은 상태)
+    // 읽은 순번과 함께 그 이후 구간에서 보이지 않는 순번 수(삭제 메시지 + 저장되지 않아 빈 순번)를
+    // (MAX(seq) - 읽은 순번) - (읽은 순번 이후 삭제되지 않은 메시지 수) 로 다시 세어 안읽은 수 계산 기준을 갱신한다.
+    // 읽은 직후라 세는 구간은 보통 짧고, (chat_room_id, seq) 인덱스 범위로 끝난다.
+    private static final String UPDATE_LAST_READ_SQL = "update chat_participant "
+            + "set last_read_message_id = ?, "
+            + "last_read_seq = (select m.seq from chat_message m where m.id = ?), "
+            + "unread_deleted_count = (select coalesce(max(x.seq), 0) from chat_message x where x.chat_room_id = ?) "
+            + "- (select m2.seq from chat_message m2 where m2.id = ?) "
+            + "- (select count(*) from chat_message d where d.chat_room_id = ? and d.is_deleted = false "
+            + "and d.seq > (select m3.seq from chat_message m3 where m3.id = ?)) "
+            + "where chat_room_id = ? and member_id = ? "
+            + "and (last_read_message_id is null or last_read_message_id < ?) "
+            + "and exists (select 1 from chat_message e where e.id = ? and e.chat_room_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 항목별 갱신 건수 반환 (드라이버가 건수를 알려주지 않으면 Statement.SUCCESS_NO_INFO)
+    public int[] updateLastReadMessageIds(List<LastReadUpdate> updates) {
+        return jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setLong(1, update.messageId());
+            ps.setLong(2, update.messageId());
+            ps.setLong(3, update.chatRoomId());
+            ps.setLong(4, update.messageId());
+            ps.setLong(5, update.chatRoomId());
+            ps.setLong(6, update.messageId());
+            ps.setLong(7, update.chatRoomId());
+            ps.setLong(8, update.memberId());
+            ps.setLong(9, update.messageId());
+            ps.setLong(10, update.messageId());
+            ps.setLong(11, update.chatRoomId());
+        })[0];
+    }
+
+    public record LastReadUpdate(Long chatRoomId, Long memberId, Long messageId) {
+    }
+}
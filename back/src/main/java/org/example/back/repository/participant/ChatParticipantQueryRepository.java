@@ -1,9 +1,16 @@
 package org.example.back.repository.participant;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.example.back.domain.message.QChatMessage;
 import org.example.back.domain.room.QChatParticipant;
-import org.example.back.dto.websocket.request.ReadMessageRequest;
+import org.example.back.domain.room.QChatRoom;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,16 +19,71 @@ public class ChatParticipantQueryRepository {
     
     private final JPAQueryFactory queryFactory;
     private final QChatParticipant chatParticipant = QChatParticipant.chatParticipant;
+    private final QChatRoom chatRoom = QChatRoom.chatRoom;
+    private final QChatMessage chatMessage = QChatMessage.chatMessage;
     
-    public long updateLastReadMessageId(ReadMessageRequest request) {
+    // 여러 채팅방의 참여자 ID 를 한 번에 조회 (채팅방 목록 페이지 조립용)
+    public List<RoomMemberId> findMemberIdsByChatRoomIds(Collection<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(Projections.constructor(RoomMemberId.class,
+                        chatParticipant.chatRoom.id,
+                        chatParticipant.member.id))
+                .from(chatParticipant)
+                .where(chatParticipant.chatRoom.id.in(chatRoomIds))
+                .orderBy(chatParticipant.chatRoom.id.asc(), chatParticipant.member.id.asc())
+                .fetch();
+    }
+    
+    // 특정 채팅방의 안읽은 수 계산용 값 조회 (참여자가 아니면 empty)
+    public Optional<ParticipantUnreadSnapshot> findUnreadSnapshot(Long chatRoomId, Long memberId) {
+        return Optional.ofNullable(queryFactory
+                .select(unreadSnapshot())
+                .from(chatParticipant)
+                .join(chatParticipant.chatRoom, chatRoom)
+                .where(
+                        chatParticipant.chatRoom.id.eq(chatRoomId),
+                        chatParticipant.member.id.eq(memberId)
+                )
+                .fetchOne());
+    }
+    
+    // 사용자가 참여 중인 모든 채팅방의 안읽은 수 계산용 값을 한 번에 조회
+    public List<ParticipantUnreadSnapshot> findUnreadSnapshots(Long memberId) {
+        return queryFactory
+                .select(unreadSnapshot())
+                .from(chatParticipant)
+                .join(chatParticipant.chatRoom, chatRoom)
+                .where(
+                        chatParticipant.member.id.eq(memberId),
+                        chatRoom.isDeleted.isFalse()
+                )
+                .fetch();
+    }
+    
+    // 메시지 삭제(+1)/복구(-1) 시, 해당 메시지를 아직 읽지 않은 참여자의 삭제 메시지 수 보정
+    public long adjustUnreadDeletedCount(Long chatRoomId, Long messageSeq, long delta) {
         return queryFactory
                 .update(chatParticipant)
-                .set(chatParticipant.lastReadMessageId, request.getMessageId())
+                .set(chatParticipant.unreadDeletedCount,
+                        chatParticipant.unreadDeletedCount.coalesce(0L).add(delta))
                 .where(
-                        chatParticipant.chatRoom.id.eq(request.getChatRoomId()),
-                        chatParticipant.member.id.eq(request.getMemberId()),
-                        chatParticipant.lastReadMessageId.lt(request.getMessageId()) // 메시지 ID 증가 시에만 업데이트
+                        chatParticipant.chatRoom.id.eq(chatRoomId),
+                        chatParticipant.lastReadSeq.isNull().or(chatParticipant.lastReadSeq.lt(messageSeq))
                 )
                 .execute();
     }
+    
+    private ConstructorExpression<ParticipantUnreadSnapshot> unreadSnapshot() {
+        return Projections.constructor(ParticipantUnreadSnapshot.class,
+                chatRoom.id,
+                JPAExpressions
+                        .select(chatMessage.seq.max())
+                        .from(chatMessage)
+                        .where(chatMessage.chatRoom.id.eq(chatRoom.id)),
+                chatParticipant.lastReadSeq,
+                chatParticipant.unreadDeletedCount);
+    }
 }
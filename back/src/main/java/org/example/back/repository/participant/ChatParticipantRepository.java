@@ -4,12 +4,18 @@ import java.util.List;
 import java.util.Optional;
 import org.example.back.domain.room.ChatParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, Long> {
     
     // 특정 채팅방에 속한 모든 참여자 조회
     List<ChatParticipant> findByChatRoomId(Long chatRoomId);
     
+    // 특정 채팅방의 참여자 회원 ID 만 조회 (참여자 캐시 로딩용)
+    @Query("select cp.member.id from ChatParticipant cp where cp.chatRoom.id = :chatRoomId")
+    List<Long> findMemberIdsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+    
     // 특정 채팅방 + 특정 사용자 조합으로 참여자 찾기
     Optional<ChatParticipant> findByChatRoomIdAndMemberId(Long chatRoomId, Long memberId);
     
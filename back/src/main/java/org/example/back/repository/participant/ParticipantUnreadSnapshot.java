@@ -0,0 +1,28 @@
+package org.example.back.repository.participant;
+
+/*
+ * 안읽은 메시지 수 계산용 조회 결과
+ * - 안읽은 수 = 채팅방 마지막 순번 - 마지막 읽은 순번 - 읽지 않은 구간의 삭제 메시지 수
+ * - 저장되지 않아 빈 순번(롤백 후 반납하지 못한 순번, write-behind 적재 실패)도 읽음 처리 때 삭제 메시지와 함께 세어
+ *   unreadDeletedCount 에 반영되므로 안읽은 수에 잡히지 않는다. 읽음 처리 이후 새로 생긴 빈 순번만 다음 읽음 처리 전까지 남는다.
+ * - lastMessageSeq 는 DB 에 적재된 최대 순번이므로, 적재 전 메시지까지 반영하려면 발급기의 순번을 함께 넘긴다.
+ * */
+public record ParticipantUnreadSnapshot(
+        Long chatRoomId,
+        Long lastMessageSeq,
+        Long lastReadSeq,
+        Long unreadDeletedCount
+) {
+
+    public long unreadCount() {
+        return unreadCount(0L);
+    }
+
+    // allocatedSeq: 메모리에서 마지막으로 발급한 순번 (모르면 0)
+    public long unreadCount(long allocatedSeq) {
+        long last = Math.max(lastMessageSeq == null ? 0L : lastMessageSeq, allocatedSeq);
+        long read = lastReadSeq == null ? 0L : lastReadSeq;
+        long deleted = unreadDeletedCount == null ? 0L : unreadDeletedCount;
+        return Math.max(0L, last - read - deleted);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.back.repository.participant;
+
+/*
+ * 채팅방 참여자 ID 조회 결과 (채팅방 ID, 회원 ID)
+ * - 참여자 엔티티 대신 ID 쌍만 조회해 채팅방 목록 응답을 조립한다.
+ * */
+public record RoomMemberId(
+        Long chatRoomId,
+        Long memberId
+) {
+}
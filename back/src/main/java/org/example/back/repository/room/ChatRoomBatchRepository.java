@@ -0,0 +1,55 @@
+package org.example.back.repository.room;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 채팅방 JDBC batch 갱신용 Repository
+ * - 모아 둔 채팅방별 마지막 메시지 정보를 한 번의 batch UPDATE 로 반영한다.
+ * - 마지막 메시지가 수정/삭제/복구되면 미리보기만 조건부로 다시 쓴다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomBatchRepository {
+
+    // 이미 더 최신 메시지가 반영된 경우는 건너뛴다. (null 은 아직 메시지가 없는 상태)
+    private static final String UPDATE_LAST_MESSAGE_SQL = "update chat_room "
+            + "set last_message_id = ?, last_message_at = ?, last_message_preview = ? "
+            + "where id = ? and (last_message_id is null or last_message_id < ?)";
+
+    // 미리보기 대상 메시지가 여전히 마지막 메시지일 때만 교체한다.
+    private static final String UPDATE_PREVIEW_SQL = "update chat_room "
+            + "set last_message_preview = ? "
+            + "where id = ? and last_message_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] updateLastMessages(List<LastMessageUpdate> updates) {
+        return jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setLong(1, update.messageId());
+            ps.setTimestamp(2, Timestamp.valueOf(update.createdAt()));
+            ps.setString(3, update.preview());
+            ps.setLong(4, update.chatRoomId());
+            ps.setLong(5, update.messageId());
+        })[0];
+    }
+
+    // 마지막 메시지가 수정/삭제/복구된 경우 미리보기만 갱신
+    public int[] updatePreviews(List<PreviewUpdate> updates) {
+        return jdbcTemplate.batchUpdate(UPDATE_PREVIEW_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setString(1, update.preview());
+            ps.setLong(2, update.chatRoomId());
+            ps.setLong(3, update.messageId());
+        })[0];
+    }
+
+    public record LastMessageUpdate(Long chatRoomId, Long messageId, LocalDateTime createdAt, String preview) {
+    }
+
+    public record PreviewUpdate(Long chatRoomId, Long messageId, String preview) {
+    }
+}
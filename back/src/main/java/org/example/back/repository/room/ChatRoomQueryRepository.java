@@ -9,8 +9,10 @@ import org.example.back.domain.room.ChatRoomType;
 import org.example.back.domain.room.QChatParticipant;
 import org.example.back.domain.room.QChatRoom;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 /*
@@ -25,10 +27,33 @@ public class ChatRoomQueryRepository {
     private final QChatRoom chatRoom = QChatRoom.chatRoom;
     private final QChatParticipant chatParticipant = QChatParticipant.chatParticipant;
     
-    // 사용자가 참여 중인 채팅방 목록 조회 (페이징)
+    // 사용자가 참여 중인 채팅방 목록 조회 (페이징, 최근 대화순)
+    // 마지막 페이지처럼 전체 수를 알 수 있는 경우 count 쿼리를 생략한다.
     public Page<ChatRoom> findMyChatRooms(Long memberId, Pageable pageable) {
         
-        List<ChatRoom> results = queryFactory
+        List<ChatRoom> results = findMyChatRoomContent(memberId, pageable.getOffset(), pageable.getPageSize());
+        
+        return PageableExecutionUtils.getPage(results, pageable, () -> {
+            Long total = countMyChatRooms(memberId);
+            return total == null ? 0 : total;
+        });
+    }
+    
+    // 사용자가 참여 중인 채팅방 목록 조회 (count 쿼리 없는 Slice, 무한 스크롤용)
+    public Slice<ChatRoom> findMyChatRoomSlice(Long memberId, Pageable pageable) {
+        
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        List<ChatRoom> results = findMyChatRoomContent(memberId, pageable.getOffset(), pageable.getPageSize() + 1);
+        
+        boolean hasNext = results.size() > pageable.getPageSize();
+        if (hasNext) {
+            results = results.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+    
+    private List<ChatRoom> findMyChatRoomContent(Long memberId, long offset, int limit) {
+        return queryFactory
                 .select(chatRoom)
                 .from(chatRoom)
                 .join(chatParticipant)
@@ -37,23 +62,10 @@ public class ChatRoomQueryRepository {
                         chatParticipant.member.id.eq(memberId),
                         chatRoom.isDeleted.isFalse()
                 )
-                .orderBy(chatRoom.updatedAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(chatRoom.lastMessageAt.desc(), chatRoom.id.desc())
+                .offset(offset)
+                .limit(limit)
                 .fetch();
-        
-        Long total = queryFactory
-                .select(chatRoom.count())
-                .from(chatRoom)
-                .join(chatParticipant)
-                .on(chatParticipant.chatRoom.eq(chatRoom))
-                .where(
-                        chatParticipant.member.id.eq(memberId),
-                        chatRoom.isDeleted.isFalse()
-                )
-                .fetchOne();
-        
-        return new PageImpl<>(results, pageable, total == null ? 0 : total);
     }
     
     // 내가 참여 중인 채팅방 수 조회
@@ -0,0 +1,34 @@
+package org.example.back.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/*
+ * 설정한 비용과 다른 비용으로 저장된 해시를 재해싱 대상으로 판단하는 BCrypt 인코더
+ * - 기본 BCryptPasswordEncoder 는 비용이 낮아진 경우만 업그레이드 대상으로 보므로,
+ *   부하에 맞춰 비용을 내린 경우에도 다음 로그인 때 새 비용으로 다시 저장되도록 양방향으로 비교한다.
+ * */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -1,5 +1,8 @@
 package org.example.back.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -7,6 +10,8 @@ import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.back.security.VerifiedTokenCache.TokenCacheStats;
+import org.example.back.security.VerifiedTokenCache.Verified;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -29,12 +34,26 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidityInSeconds;
 
+    // 검증 결과 캐시 크기 (0 이면 캐시하지 않음)
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private int verifiedCacheMaxEntries;
+
     private SecretKey key;
+
+    // 불변·스레드 안전하므로 한 번만 만들어 재사용
+    private JwtParser parser;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private TokenRevocationList revocationList;
     
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);  // HS256용 SecretKey 반환
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxEntries);
+        this.revocationList = new TokenRevocationList(accessTokenValidityInSeconds * 1000);
     }
     
     // 엑세스 토큰 생성
@@ -51,19 +70,51 @@ public class JwtTokenProvider {
     private String createToken(Long memberId, String role, long validityInSeconds) {
         Instant now = Instant.now();
         Instant expiry = now.plusSeconds(validityInSeconds);
+        // 로그아웃과 같은 초에 다시 발급되는 토큰이 폐기 대상에 걸리지 않도록 iat 를 폐기 기준 시각 이후로 맞춘다.
+        Instant issuedAt = Instant.ofEpochMilli(revocationList.issuedAtFloor(memberId, now.toEpochMilli()));
         
-        return Jwts.builder().subject(String.valueOf(memberId)).issuedAt(Date.from(now)).expiration(Date.from(expiry))
+        return Jwts.builder().subject(String.valueOf(memberId)).issuedAt(Date.from(issuedAt)).expiration(Date.from(expiry))
                 .claim("role", role) // null 이면 무시됨
                 .signWith(key, Jwts.SIG.HS256).compact();
         
     }
     
+    /*
+    * 토큰 검증 후 회원 정보 추출
+    * - 이미 검증한 토큰은 exp 전까지 캐시된 결과를 반환한다. (서명 검증 생략)
+    * - 캐시 여부와 관계없이 로그아웃으로 폐기된 토큰(폐기 이전 iat)이면 JwtException 을 던진다.
+    * */
     public TokenInfo parseToken(String token) {
-        var claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        return new TokenInfo(
-                Long.valueOf(claims.getSubject()),
-                (String) claims.get("role")
-        );
+        Verified verified = verifiedTokenCache.get(token);
+        if (verified == null) {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verified = new Verified(
+                    new TokenInfo(Long.valueOf(claims.getSubject()), (String) claims.get("role")),
+                    claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime()
+            );
+            if (claims.getExpiration() != null) {
+                verifiedTokenCache.put(token, verified, claims.getExpiration().getTime());
+            }
+        }
+
+        TokenInfo tokenInfo = verified.tokenInfo();
+        if (revocationList.isRevoked(tokenInfo.memberId(), verified.issuedAtMillis())) {
+            throw new JwtException("로그아웃으로 폐기된 토큰입니다.");
+        }
+        return tokenInfo;
+    }
+    
+    // 로그아웃 시 해당 회원에게 revokedAtMillis 이전에 발급된 토큰을 모두 거부 (다른 노드에서 중계된 폐기도 같은 시각으로 반영)
+    public void revokeIssuedBefore(Long memberId, long revokedAtMillis) {
+        revocationList.revoke(memberId, revokedAtMillis);
+    }
+    
+    public TokenCacheStats verifiedCacheStats() {
+        return verifiedTokenCache.stats();
+    }
+    
+    public int revokedMemberCount() {
+        return revocationList.size();
     }
 
 }
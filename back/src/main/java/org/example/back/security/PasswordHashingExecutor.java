@@ -0,0 +1,91 @@
+package org.example.back.security;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.PasswordHashingProperties;
+import org.example.back.exception.member.MemberErrorCode;
+import org.example.back.exception.member.MemberException;
+import org.springframework.stereotype.Component;
+
+/*
+ * 비밀번호 해싱 전용 실행기
+ * - BCrypt 는 요청당 수십~수백 ms 의 CPU 를 쓰므로, 로그인이 몰리면 요청 스레드 전체가 해싱에 묶인다.
+ * - 고정 크기 스레드 풀 + 제한된 대기열에서만 해싱하고, 가득 차면 기다리지 않고 즉시 거절(503)한다.
+ * - 따라서 해싱을 기다리는 요청 스레드는 최대 (threads + queueCapacity) 개로 제한된다.
+ * - 결과는 timeoutMs 까지만 기다리고, 넘으면 작업을 취소하고 503 으로 응답한다.
+ * */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public PasswordHashingExecutor(PasswordHashingProperties properties) {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = properties.getTimeoutMs();
+    }
+
+    // 해싱 작업을 전용 풀에서 실행하고 결과를 기다린다. (포화 또는 시간 초과 시 PASSWORD_HASHING_BUSY)
+    public <T> T call(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[PasswordHashing] 해싱 대기열 포화로 요청 거절 - queued: {}", executor.getQueue().size());
+            throw new MemberException(MemberErrorCode.PASSWORD_HASHING_BUSY);
+        }
+        submitted.increment();
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("[PasswordHashing] 해싱 대기 시간 초과 - timeoutMs: {}, queued: {}", timeoutMs, executor.getQueue().size());
+            throw new MemberException(MemberErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MemberException(MemberErrorCode.PASSWORD_HASHING_BUSY);
+        }
+    }
+
+    public HashingStats stats() {
+        return new HashingStats(executor.getQueue().size(), executor.getActiveCount(),
+                submitted.sum(), rejected.sum(), timedOut.sum());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public record HashingStats(int queued, int active, long submitted, long rejected, long timedOut) {
+    }
+}
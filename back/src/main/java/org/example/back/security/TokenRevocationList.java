@@ -0,0 +1,52 @@
+package org.example.back.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 회원별 토큰 폐기 기준 시각 (로그아웃 denylist)
+ * - 폐기 기준 시각보다 먼저 발급(iat)된 토큰은 서명과 exp 가 유효해도 거부한다.
+ * - iat 는 초 단위이므로 기준 시각은 폐기 시각을 다음 초로 올린 값이다. 같은 초에 다시 로그인하면
+ *   issuedAtFloor 로 새 토큰의 iat 를 기준 시각에 맞춰 새 토큰까지 거부되지 않게 한다.
+ * - 기준 시각 이전에 발급된 access token 은 기준 시각 + retentionMillis(access token 유효 시간) 안에 모두 만료되므로
+ *   그 뒤 항목은 정리한다. (refresh token 은 DB 의 저장 토큰 삭제로 거부된다)
+ * - 보관 개수는 access token 유효 시간 동안의 로그아웃 수로 제한된다.
+ * */
+class TokenRevocationList {
+
+    private final long retentionMillis;
+
+    // memberId -> 이 시각(ms, 초 단위로 올림)보다 먼저 발급된 토큰은 거부
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    TokenRevocationList(long retentionMillis) {
+        this.retentionMillis = retentionMillis;
+    }
+
+    void revoke(Long memberId, long revokedAtMillis) {
+        long cutoff = ceilToSecond(revokedAtMillis);
+        revokedBefore.merge(memberId, cutoff, Math::max);
+
+        long now = System.currentTimeMillis();
+        revokedBefore.values().removeIf(before -> before + retentionMillis <= now);
+    }
+
+    boolean isRevoked(Long memberId, long issuedAtMillis) {
+        Long before = revokedBefore.get(memberId);
+        return before != null && issuedAtMillis < before;
+    }
+
+    // 새로 발급할 토큰의 iat (폐기 기준 시각과 같은 초에 발급되면 기준 시각으로 맞춘다)
+    long issuedAtFloor(Long memberId, long nowMillis) {
+        Long before = revokedBefore.get(memberId);
+        return before != null && nowMillis < before ? before : nowMillis;
+    }
+
+    int size() {
+        return revokedBefore.size();
+    }
+
+    private static long ceilToSecond(long millis) {
+        return (millis + 999) / 1000 * 1000;
+    }
+}
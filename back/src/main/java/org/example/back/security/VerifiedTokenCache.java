@@ -0,0 +1,105 @@
+package org.example.back.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 서명 검증을 마친 토큰 캐시
+ * - 같은 access token 이 만료 전까지 수백 번 들어오므로, 검증 결과(TokenInfo, iat)를 토큰 다이제스트(SHA-256 앞 128bit) 기준으로 보관한다.
+ * - 항목은 토큰의 exp 시각까지만 유효하며, 만료된 항목은 조회 시 무시하고 제거한다.
+ * - 보관 개수가 maxEntries 를 넘으면 가장 오래 사용하지 않은 항목을 제거(LRU)하므로, 가득 차도 새 토큰을 O(1) 로 캐시한다.
+ * - 로그아웃 거부는 캐시가 아니라 TokenRevocationList 가 맡는다. (캐시 적중 시에도 iat 로 폐기 여부를 확인)
+ * */
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+
+    // access-order LinkedHashMap: 조회할 때마다 가장 최근 위치로 이동
+    private final LinkedHashMap<TokenKey, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TokenKey, Entry> eldest) {
+                if (size() <= VerifiedTokenCache.this.maxEntries) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    // 캐시된 검증 결과 (없거나 만료됐으면 null)
+    Verified get(String token) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        TokenKey key = TokenKey.of(token);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.verified();
+    }
+
+    void put(String token, Verified verified, long expiresAtMillis) {
+        if (maxEntries <= 0 || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        TokenKey key = TokenKey.of(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(verified, expiresAtMillis));
+        }
+    }
+
+    TokenCacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new TokenCacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    // 서명 검증을 마친 토큰의 회원 정보와 발급 시각(ms)
+    record Verified(TokenInfo tokenInfo, long issuedAtMillis) {
+    }
+
+    private record Entry(Verified verified, long expiresAtMillis) {
+    }
+
+    private record TokenKey(long high, long low) {
+
+        static TokenKey of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenKey(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+
+    public record TokenCacheStats(long hits, long misses, long evictions, int entries) {
+    }
+}
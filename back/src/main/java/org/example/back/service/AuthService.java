@@ -1,6 +1,7 @@
 package org.example.back.service;
 
 import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.back.domain.auth.RefreshToken;
@@ -12,6 +13,7 @@ import org.example.back.repository.MemberRepository;
 import org.example.back.repository.auth.RefreshTokenRepository;
 import org.example.back.security.JwtTokenProvider;
 import org.example.back.security.TokenInfo;
+import org.example.back.service.cluster.ClusterRelay;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,9 +23,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AuthService {
     
+    private static final String CLUSTER_CHANNEL = "token-revocation";
+    
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final MemberRepository memberRepository;
+    private final ClusterRelay clusterRelay;
+    
+    // 다른 노드에서 로그아웃한 회원의 토큰도 이 노드에서 거부하도록 폐기 이벤트를 중계받는다.
+    @PostConstruct
+    void subscribeCluster() {
+        clusterRelay.subscribe(CLUSTER_CHANNEL, TokenRevocation.class,
+                revocation -> jwtTokenProvider.revokeIssuedBefore(revocation.memberId(), revocation.revokedAtMillis()));
+    }
     
     @Transactional
     public TokenResponse refreshAccessToken(String refreshToken) {
@@ -80,6 +92,15 @@ public class AuthService {
                 });
         
         refreshTokenRepository.delete(token);
-        log.info("[로그아웃 성공] RefreshToken 삭제 완료");
+        
+        // 이미 발급된 access token 도 만료 전까지 거부 (모든 노드에 같은 기준 시각으로 반영)
+        TokenRevocation revocation = new TokenRevocation(token.getMember().getId(), System.currentTimeMillis());
+        jwtTokenProvider.revokeIssuedBefore(revocation.memberId(), revocation.revokedAtMillis());
+        clusterRelay.relayEvent(CLUSTER_CHANNEL, revocation);
+        log.info("[로그아웃 성공] RefreshToken 삭제 및 발급된 토큰 폐기 완료");
+    }
+    
+    // 노드 사이에 중계하는 토큰 폐기 이벤트
+    record TokenRevocation(Long memberId, long revokedAtMillis) {
     }
 }
@@ -1,5 +1,6 @@
 package org.example.back.service;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.back.domain.auth.RefreshToken;
@@ -9,18 +10,28 @@ import org.example.back.dto.auth.request.MemberPasswordChangeRequest;
 import org.example.back.dto.auth.request.MemberRegisterRequest;
 import org.example.back.dto.auth.response.TokenResponse;
 import org.example.back.dto.member.response.MemberResponse;
+import org.example.back.dto.member.response.NicknameAvailabilityResponse;
+import org.example.back.exception.member.MemberErrorCode;
 import org.example.back.exception.member.MemberException;
 import org.example.back.repository.MemberRepository;
+import org.example.back.repository.MemberUniqueFields;
 import org.example.back.repository.auth.RefreshTokenRepository;
 import org.example.back.security.JwtTokenProvider;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.example.back.security.PasswordHashingExecutor;
+import org.example.back.util.text.CollationKey;
+import org.example.back.util.transaction.TransactionUtils;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.example.back.exception.member.MemberErrorCode.*;
 
@@ -33,51 +44,134 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final NicknameIndex nicknameIndex;
+    private final NicknameCheckRateLimiter nicknameCheckRateLimiter;
+    private final PlatformTransactionManager transactionManager;
+    
+    // 없는 아이디로 로그인할 때 비교에 쓰는 해시 (최초 사용 시 생성)
+    private volatile String dummyPasswordHash;
     
     // 중복 코드 제거용
     private Member findMemberById(Long id) {
         return memberRepository.findById(id).orElseThrow(() -> new MemberException(USER_NOT_FOUND));
     }
     
+    // 설정된 비용으로 만든 임의 비밀번호 해시 (동시에 처음 호출되면 여러 번 만들어질 수 있으나 결과는 같은 용도)
+    private String dummyPasswordHash() {
+        String hash = dummyPasswordHash;
+        if (hash == null) {
+            hash = passwordHashingExecutor.call(() -> passwordEncoder.encode(UUID.randomUUID().toString()));
+            dummyPasswordHash = hash;
+        }
+        return hash;
+    }
+    
     // 회원 가입
     @Transactional
     public MemberResponse registerMember(MemberRegisterRequest request) {
-        if (memberRepository.existsByUsername(request.getUsername())) {
-            throw new MemberException(DUPLICATE_USERNAME);
-        }
-        
-        if (memberRepository.existsByNickname(request.getNickname())) {
-            throw new MemberException(DUPLICATE_NICKNAME);
-        }
-        
-        if (memberRepository.existsByEmail(request.getEmail())) {
-            throw new MemberException(DUPLICATE_EMAIL);
-        }
-        
-        if (memberRepository.existsByPhone(request.getPhone())) {
-            throw new MemberException(DUPLICATE_PHONE);
+        // 아이디/닉네임/이메일/전화번호 중복을 한 번의 조회로 확인
+        List<MemberUniqueFields> conflicts = memberRepository.findUniqueConflicts(request.getUsername(),
+                request.getNickname(), request.getEmail(), request.getPhone());
+        MemberErrorCode conflict = firstConflict(request, conflicts);
+        if (conflict != null) {
+            throw new MemberException(conflict);
         }
         
         Member member = Member.builder().username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword())).nickname(request.getNickname())
+                .password(passwordHashingExecutor.call(() -> passwordEncoder.encode(request.getPassword())))
+                .nickname(request.getNickname())
                 .email(request.getEmail()).phone(request.getPhone()).build();
         
-        memberRepository.save(member);
+        // 조회와 INSERT 사이에 같은 값으로 가입한 경우는 고유 제약 위반으로 판단 (추가 조회 없음)
+        try {
+            memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new MemberException(toDuplicateErrorCode(e));
+        }
+        
+        String nickname = member.getNickname();
+        TransactionUtils.runAfterCommit(() -> nicknameIndex.add(nickname));
         return new MemberResponse(member.getId(), member.getUsername(), member.getNickname(), member.getEmail(),
                 member.getPhone());
     }
     
-    // 로그인
-    @Transactional
+    // 닉네임 사용 가능 여부 (회원 가입 폼의 실시간 확인용, 비로그인 허용이라 클라이언트별 요청 수 제한)
+    public NicknameAvailabilityResponse checkNicknameAvailability(String nickname, String clientKey) {
+        if (!nicknameCheckRateLimiter.tryAcquire(clientKey)) {
+            throw new MemberException(NICKNAME_CHECK_RATE_LIMITED);
+        }
+        return NicknameAvailabilityResponse.builder()
+                .nickname(nickname)
+                .available(!nicknameIndex.isTaken(nickname))
+                .build();
+    }
+    
+    /*
+     * 기존 검사 순서(아이디 → 닉네임 → 이메일 → 전화번호)대로 첫 번째 중복 항목
+     * - DB collation 은 대소문자/끝 공백을 무시하므로 같은 규칙(CollationKey)으로 비교한다.
+     * - 어느 항목인지 판별하지 못하면 null 을 반환하고, INSERT 의 고유 제약 위반으로 판단한다.
+     * */
+    private MemberErrorCode firstConflict(MemberRegisterRequest request, List<MemberUniqueFields> conflicts) {
+        if (conflicts.stream().anyMatch(c -> CollationKey.matches(c.username(), request.getUsername()))) {
+            return DUPLICATE_USERNAME;
+        }
+        if (conflicts.stream().anyMatch(c -> CollationKey.matches(c.nickname(), request.getNickname()))) {
+            return DUPLICATE_NICKNAME;
+        }
+        if (conflicts.stream().anyMatch(c -> CollationKey.matches(c.email(), request.getEmail()))) {
+            return DUPLICATE_EMAIL;
+        }
+        if (conflicts.stream().anyMatch(c -> CollationKey.matches(c.phone(), request.getPhone()))) {
+            return DUPLICATE_PHONE;
+        }
+        return null;
+    }
+    
+    // 고유 제약 이름으로 중복 항목 판단 (DB 마다 메시지 형식이 달라 이름 포함 여부로 확인)
+    private MemberErrorCode toDuplicateErrorCode(DataIntegrityViolationException e) {
+        String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+                .toLowerCase(Locale.ROOT);
+        if (message.contains(Member.UK_USERNAME)) {
+            return DUPLICATE_USERNAME;
+        }
+        if (message.contains(Member.UK_NICKNAME)) {
+            return DUPLICATE_NICKNAME;
+        }
+        if (message.contains(Member.UK_EMAIL)) {
+            return DUPLICATE_EMAIL;
+        }
+        if (message.contains(Member.UK_PHONE)) {
+            return DUPLICATE_PHONE;
+        }
+        throw e;
+    }
+    
+    /*
+     * 로그인
+     * - BCrypt 비교/재해싱은 수백 ms 걸리므로 트랜잭션(커넥션) 밖에서 실행한다.
+     * - 회원 조회는 조회 직후 커넥션을 반납하고, 토큰 저장과 재해싱 반영만 짧은 트랜잭션으로 묶는다.
+     * - 없는 아이디도 더미 해시로 같은 BCrypt 비교를 거쳐 비밀번호 불일치와 같은 INVALID_CREDENTIALS 로 응답한다.
+     *   (응답 코드나 응답 시간으로 아이디 존재 여부를 알 수 없게 함)
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(MemberLoginRequest request) {
         
-        // Spring Security 의 내부 인증 로직 실행 (UserDetailsService + PasswordEncoder 사용)
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
+        Optional<Member> found = memberRepository.findByUsername(request.getUsername());
+        
+        // BCrypt 비교는 요청 스레드가 아닌 해싱 전용 풀에서 실행 (포화 시 즉시 503)
+        String encodedPassword = found.map(Member::getPassword).orElseGet(this::dummyPasswordHash);
+        boolean matches = passwordHashingExecutor.call(
+                () -> passwordEncoder.matches(request.getPassword(), encodedPassword));
+        if (found.isEmpty() || !matches) {
+            throw new MemberException(INVALID_CREDENTIALS);
+        }
+        Member member = found.get();
         
-        Member member = (Member) authentication.getPrincipal();
+        // 설정된 비용과 다른 비용으로 저장된 해시는 이번 로그인에서 새 비용으로 재해싱
+        String rehashedPassword = passwordEncoder.upgradeEncoding(encodedPassword)
+                ? passwordHashingExecutor.call(() -> passwordEncoder.encode(request.getPassword()))
+                : null;
         
         // 토큰 발급
         String accessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getRole().name());
@@ -87,19 +181,26 @@ public class MemberService {
         long validity = jwtTokenProvider.getRefreshTokenValidityInSeconds();
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(validity);
         
-        // 기존 토큰이 있는지 조회
-        Optional<RefreshToken> existing = refreshTokenRepository.findByMember(member);
-        
-        if (existing.isPresent()) {
-            // 있으므로 갱신
-            existing.get().update(refreshTokenStr, expiresAt);
-        } else {
-            // 없으므로 새로 생성
-            RefreshToken refreshToken = RefreshToken.builder().member(member).token(refreshTokenStr)
-                    .expiresAt(expiresAt).build();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 그 사이 비밀번호가 변경됐다면 재해싱 결과는 버린다.
+            if (rehashedPassword != null) {
+                memberRepository.updatePasswordIfUnchanged(member.getId(), encodedPassword, rehashedPassword);
+            }
             
-            refreshTokenRepository.save(refreshToken);
-        }
+            // 기존 토큰이 있는지 조회
+            Optional<RefreshToken> existing = refreshTokenRepository.findByMember(member);
+            
+            if (existing.isPresent()) {
+                // 있으므로 갱신
+                existing.get().update(refreshTokenStr, expiresAt);
+            } else {
+                // 없으므로 새로 생성
+                RefreshToken refreshToken = RefreshToken.builder().member(member).token(refreshTokenStr)
+                        .expiresAt(expiresAt).build();
+                
+                refreshTokenRepository.save(refreshToken);
+            }
+        });
         
         return TokenResponse.builder().accessToken(accessToken).refreshToken(refreshTokenStr).build();
     }
@@ -118,11 +219,12 @@ public class MemberService {
         
         Member member = memberRepository.findById(id).orElseThrow(() -> new MemberException(USER_NOT_FOUND));
         
-        if (!passwordEncoder.matches(request.getOldPassword(), member.getPassword())) {
+        String encodedPassword = member.getPassword();
+        if (!passwordHashingExecutor.call(() -> passwordEncoder.matches(request.getOldPassword(), encodedPassword))) {
             throw new MemberException(INVALID_CURRENT_PASSWORD);
         }
         
-        member.changePassword(passwordEncoder.encode(request.getNewPassword()));
+        member.changePassword(passwordHashingExecutor.call(() -> passwordEncoder.encode(request.getNewPassword())));
         memberRepository.save(member);
     }
     
@@ -0,0 +1,105 @@
+package org.example.back.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 닉네임 사용 가능 여부 확인 요청 제한 (비로그인 허용 API 라 클라이언트 IP 별 token bucket)
+ * - 클라이언트마다 burst 개까지 연속 허용하고, 이후에는 초당 refillPerSecond 개씩 다시 채운다.
+ *   (입력할 때마다 확인하는 가입 폼은 디바운스 기준 초당 1~2회라 걸리지 않는다)
+ * - 다 채워진 bucket 은 기본 상태와 같으므로, 추적 클라이언트가 maxClients 에 닿으면 이런 bucket 부터 지운다.
+ *   지워도 maxClients 이상이면 새 클라이언트는 거절한다. (메모리 상한, 가입 자체는 uk_member_nickname 제약으로 판단)
+ * - 노드별로 센다. (클러스터 모드에서는 노드 수만큼 허용량이 늘어난다)
+ * */
+@Slf4j
+@Component
+public class NicknameCheckRateLimiter {
+
+    private final int burst;
+    private final double refillPerNano;
+    private final int maxClients;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public NicknameCheckRateLimiter(
+            @Value("${chat.member.nickname-check.burst:20}") int burst,
+            @Value("${chat.member.nickname-check.refill-per-second:2}") double refillPerSecond,
+            @Value("${chat.member.nickname-check.max-clients:10000}") int maxClients) {
+        this.burst = burst;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxClients = maxClients;
+    }
+
+    // 요청 1건을 허용하면 true
+    public boolean tryAcquire(String clientKey) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                evictFull(now);
+            }
+            if (buckets.size() >= maxClients) {
+                rejected.increment();
+                log.warn("[NicknameCheck] 추적 클라이언트 한도 초과로 요청 거절 - clients: {}", buckets.size());
+                return false;
+            }
+            bucket = buckets.computeIfAbsent(clientKey, key -> new Bucket(burst, now));
+        }
+
+        if (bucket.tryTake(now, burst, refillPerNano)) {
+            allowed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public RateLimitStats stats() {
+        return new RateLimitStats(buckets.size(), allowed.sum(), rejected.sum());
+    }
+
+    private void evictFull(long now) {
+        buckets.values().removeIf(bucket -> bucket.isFull(now, burst, refillPerNano));
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryTake(long now, int burst, double refillPerNano) {
+            refill(now, burst, refillPerNano);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean isFull(long now, int burst, double refillPerNano) {
+            refill(now, burst, refillPerNano);
+            return tokens >= burst;
+        }
+
+        private void refill(long now, int burst, double refillPerNano) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+
+    public record RateLimitStats(int clients, long allowed, long rejected) {
+    }
+}
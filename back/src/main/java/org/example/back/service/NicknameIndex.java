@@ -0,0 +1,100 @@
+package org.example.back.service;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.repository.MemberRepository;
+import org.example.back.util.bloom.ScalableBloomFilter;
+import org.example.back.util.text.CollationKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 닉네임 사용 여부 인덱스 (회원 가입 폼의 실시간 중복 확인용)
+ * - 기동 시 전체 닉네임을 Bloom filter 에 적재하고, 가입 커밋 후 새 닉네임을 추가한다.
+ * - Bloom filter 가 "없음" 이라고 하면 DB 조회 없이 사용 가능으로 응답하고, "있을 수도" 일 때만 DB 로 확인한다.
+ * - DB collation 과 같은 규칙(CollationKey)으로 정규화한 값을 넣고 확인한다. (대소문자/끝 공백만 다른 닉네임도 "있을 수도")
+ * - 탈퇴한 회원의 닉네임은 Bloom filter 에서 지울 수 없으므로 오탐으로 남아 DB 확인으로 처리된다.
+ * - 적재가 끝나기 전이나 오래된 단계가 버려진 뒤에는 항상 DB 로 확인한다. 최종 판단은 가입 시 uk_member_nickname 제약이 한다.
+ *
+ * 메모리와 접두사 검색
+ * - 닉네임 문자열을 보관하지 않고 회원당 약 10~14 bit 만 쓴다. 기본 설정(첫 단계 10만, 오탐률 1%, 단계마다 2배)에서
+ *   회원 10만 명 약 120KB, 100만 명 약 2.4MB 이며, 회원 수에 비례해 단계가 늘어난다. (max-stages 16 은 실제로 닿지 않는 상한)
+ * - 기동 시 읽는 것은 member 테이블의 닉네임 컬럼뿐이며 회원 수에 비례한다. (메시지 테이블과 달리 작아 전체를 적재)
+ * - 접두사 인덱스(trie)는 두지 않는다. 가입 폼에 필요한 것은 정확히 같은 닉네임의 사용 여부이고, trie 는 닉네임 문자열 전체를
+ *   보관해 메모리가 수십 배 크며, 비로그인 API 로 접두사 조회를 열면 접두사를 넓혀 가며 전체 닉네임을 수집할 수 있기 때문이다.
+ * - 비로그인 API 라 호출 수는 NicknameCheckRateLimiter 로 제한한다.
+ * */
+@Slf4j
+@Component
+public class NicknameIndex {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScalableBloomFilter bloomFilter;
+
+    private volatile boolean loaded = false;
+
+    private final LongAdder bloomAnswers = new LongAdder();
+    private final LongAdder dbLookups = new LongAdder();
+
+    public NicknameIndex(MemberRepository memberRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.member.nickname-index.initial-capacity:100000}") long initialCapacity,
+            @Value("${chat.member.nickname-index.fpp:0.01}") double fpp,
+            @Value("${chat.member.nickname-index.max-stages:16}") int maxStages) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bloomFilter = new ScalableBloomFilter(initialCapacity, fpp, maxStages);
+    }
+
+    // 기동 지연이 없도록 별도 스레드에서 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        Thread.ofVirtual().name("nickname-index-loader").start(this::load);
+    }
+
+    void load() {
+        try {
+            long count = readOnlyTransaction.execute(status -> {
+                try (Stream<String> nicknames = memberRepository.streamAllNicknames()) {
+                    return nicknames.mapToLong(nickname -> {
+                        bloomFilter.put(CollationKey.of(nickname));
+                        return 1L;
+                    }).sum();
+                }
+            });
+            loaded = true;
+            log.info("[NicknameIndex] 닉네임 인덱스 적재 완료 - count: {}, stages: {}", count,
+                    bloomFilter.getStageCount());
+        } catch (RuntimeException e) {
+            log.warn("[NicknameIndex] 닉네임 인덱스 적재 실패 - DB 조회로 중복 확인", e);
+        }
+    }
+
+    public boolean isTaken(String nickname) {
+        if (loaded && bloomFilter.getDroppedStages() == 0 && !bloomFilter.mightContain(CollationKey.of(nickname))) {
+            bloomAnswers.increment();
+            return false;
+        }
+        dbLookups.increment();
+        return memberRepository.existsByNickname(nickname);
+    }
+
+    // 가입 커밋 후 호출
+    public void add(String nickname) {
+        bloomFilter.put(CollationKey.of(nickname));
+    }
+
+    public NicknameIndexStats stats() {
+        return new NicknameIndexStats(loaded, bloomAnswers.sum(), dbLookups.sum(), bloomFilter.getMemoryBytes());
+    }
+
+    public record NicknameIndexStats(boolean loaded, long bloomAnswers, long dbLookups, long bloomBytes) {
+    }
+}
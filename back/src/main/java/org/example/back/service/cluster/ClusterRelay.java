@@ -0,0 +1,156 @@
+package org.example.back.service.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.ChatClusterProperties;
+import org.example.back.service.message.ChatRoomBroadcaster;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 다중 노드 /sub 브로드캐스트 중계
+ * - 이 노드에서 발생한 브로드캐스트를 다른 노드로 보내고, 다른 노드에서 온 프레임은 이 노드의 구독자에게 전달한다.
+ * - 다른 노드에서 받은 프레임은 다시 중계하지 않으므로 노드 사이에서 되돌아오지 않는다.
+ * - /cluster/{channel} 프레임은 브로커가 아니라 subscribe 로 등록한 처리기에 넘긴다.
+ *   (회원별 /user/queue/** 처럼 받는 노드에서 직접 계산해야 하는 이벤트용)
+ * - ClusterTransport 빈이 없으면 (chat.cluster.enabled=false) 아무 일도 하지 않는다.
+ * */
+@Slf4j
+@Component
+public class ClusterRelay {
+
+    private static final String RELAY_PREFIX = "/sub/";
+    private static final String EVENT_PREFIX = "/cluster/";
+
+    private final ObjectProvider<ClusterTransport> transportProvider;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+
+    // channel -> 다른 노드에서 온 이벤트 처리기
+    private final Map<String, Consumer<byte[]>> eventHandlers = new ConcurrentHashMap<>();
+
+    private ClusterTransport transport;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    public ClusterRelay(ObjectProvider<ClusterTransport> transportProvider,
+            SimpMessagingTemplate simpMessagingTemplate,
+            ObjectMapper objectMapper,
+            ChatClusterProperties properties) {
+        this.transportProvider = transportProvider;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.objectMapper = objectMapper;
+        this.nodeId = properties.getNodeId();
+    }
+
+    @PostConstruct
+    void start() {
+        transport = transportProvider.getIfAvailable();
+        if (transport != null) {
+            transport.start(this::deliver);
+            log.info("[Cluster] 브로드캐스트 중계 활성화 - nodeId: {}, transport: {}",
+                    nodeId, transport.getClass().getSimpleName());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (transport != null) {
+            transport.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return transport != null;
+    }
+
+    // 이 노드에서 발생한 브로드캐스트를 다른 노드로 전달 (직렬화된 payload 재사용)
+    public void relay(String destination, byte[] payload) {
+        if (transport == null || !destination.startsWith(RELAY_PREFIX)) {
+            return;
+        }
+        transport.publish(new RelayFrame(nodeId, destination, payload));
+        published.increment();
+    }
+
+    // 이 노드에서 발생한 이벤트를 다른 노드의 channel 처리기로 전달
+    public void relayEvent(String channel, Object event) {
+        if (transport == null) {
+            return;
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            log.warn("[Cluster] 이벤트 직렬화 실패 - channel: {}", channel, e);
+            return;
+        }
+        transport.publish(new RelayFrame(nodeId, EVENT_PREFIX + channel, payload));
+        published.increment();
+    }
+
+    // 다른 노드에서 온 channel 이벤트 처리기 등록 (전송 수신 스레드에서 호출된다)
+    public <T> void subscribe(String channel, Class<T> type, Consumer<T> handler) {
+        eventHandlers.put(EVENT_PREFIX + channel, payload -> {
+            T event;
+            try {
+                event = objectMapper.readValue(payload, type);
+            } catch (IOException e) {
+                log.warn("[Cluster] 이벤트 역직렬화 실패 - channel: {}", channel, e);
+                return;
+            }
+            handler.accept(event);
+        });
+    }
+
+    public RelayStats stats() {
+        return new RelayStats(published.sum(), delivered.sum());
+    }
+
+    // 다른 노드에서 온 프레임을 이 노드의 simple broker 로 전달
+    private void deliver(RelayFrame frame) {
+        if (nodeId.equals(frame.originNodeId())) {
+            return;
+        }
+        if (frame.destination().startsWith(EVENT_PREFIX)) {
+            deliverEvent(frame);
+            return;
+        }
+        if (!frame.destination().startsWith(RELAY_PREFIX)) {
+            return;
+        }
+        try {
+            simpMessagingTemplate.send(frame.destination(),
+                    ChatRoomBroadcaster.toMessage(frame.destination(), frame.payload()));
+            delivered.increment();
+        } catch (RuntimeException e) {
+            log.warn("[Cluster] 중계 프레임 전달 실패 - destination: {}", frame.destination(), e);
+        }
+    }
+
+    private void deliverEvent(RelayFrame frame) {
+        Consumer<byte[]> handler = eventHandlers.get(frame.destination());
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.accept(frame.payload());
+            delivered.increment();
+        } catch (RuntimeException e) {
+            log.warn("[Cluster] 중계 이벤트 처리 실패 - destination: {}", frame.destination(), e);
+        }
+    }
+
+    public record RelayStats(long published, long delivered) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.back.service.cluster;
+
+import java.util.function.Consumer;
+
+/*
+ * 노드 간 중계 전송 방식
+ * - publish 는 호출 스레드를 막지 않아야 한다. (느린 노드 때문에 로컬 브로드캐스트가 지연되지 않도록)
+ * */
+public interface ClusterTransport {
+
+    // 다른 노드에서 받은 프레임을 receiver 로 넘기기 시작한다.
+    void start(Consumer<RelayFrame> receiver);
+
+    // 다른 모든 노드로 프레임을 보낸다.
+    void publish(RelayFrame frame);
+
+    void close();
+}
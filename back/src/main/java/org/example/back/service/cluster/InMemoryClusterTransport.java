@@ -0,0 +1,46 @@
+package org.example.back.service.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * JVM 안에서 같은 group 의 노드끼리 프레임을 주고받는 전송 방식 (통합 테스트용)
+ * - 한 JVM 에 애플리케이션 컨텍스트를 여러 개 띄워 다중 노드를 흉내 낸다.
+ * */
+public class InMemoryClusterTransport implements ClusterTransport {
+
+    private static final Map<String, List<InMemoryClusterTransport>> GROUPS = new ConcurrentHashMap<>();
+
+    private final String group;
+    private volatile Consumer<RelayFrame> receiver;
+
+    public InMemoryClusterTransport(String group) {
+        this.group = group;
+    }
+
+    @Override
+    public void start(Consumer<RelayFrame> receiver) {
+        this.receiver = receiver;
+        GROUPS.computeIfAbsent(group, key -> new CopyOnWriteArrayList<>()).add(this);
+    }
+
+    @Override
+    public void publish(RelayFrame frame) {
+        for (InMemoryClusterTransport peer : GROUPS.getOrDefault(group, List.of())) {
+            if (peer != this && peer.receiver != null) {
+                peer.receiver.accept(frame);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        List<InMemoryClusterTransport> members = GROUPS.get(group);
+        if (members != null) {
+            members.remove(this);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.back.service.cluster;
+
+/*
+ * 노드 간 중계 단위
+ * - payload 는 브로드캐스트 때 한 번 직렬화한 JSON byte[] 를 그대로 사용한다.
+ * */
+public record RelayFrame(String originNodeId, String destination, byte[] payload) {
+}
@@ -0,0 +1,237 @@
+package org.example.back.service.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.ChatClusterProperties;
+
+/*
+ * 노드끼리 TCP 로 직접 연결하는 전송 방식 (외부 브로커 불필요)
+ * - 노드마다 수신 포트를 열고, 설정된 peer 마다 전송 전용 연결을 하나씩 유지한다.
+ * - peer 별 대기열은 크기가 제한되어 있어, 느리거나 끊긴 peer 의 프레임은 버리고 다른 peer/로컬 전송은 막지 않는다.
+ * - 대기열에 쌓인 프레임은 batchSize 단위로 묶어 쓰고 한 번만 flush 한다.
+ * - 인증/암호화가 없으므로 내부망에서만 사용한다.
+ *
+ * 프레임 형식: [originNodeId: UTF][destination: UTF][payload length: int][payload]
+ * */
+@Slf4j
+public class TcpClusterTransport implements ClusterTransport {
+
+    private static final int MAGIC = 0x43484154; // "CHAT"
+
+    private final ChatClusterProperties.Tcp properties;
+    private final List<PeerLink> peers = new ArrayList<>();
+    private final Set<Socket> inboundSockets = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder sentFrames = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    private volatile boolean running;
+    private ServerSocket serverSocket;
+
+    public TcpClusterTransport(ChatClusterProperties.Tcp properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void start(Consumer<RelayFrame> receiver) {
+        running = true;
+        try {
+            serverSocket = new ServerSocket(properties.getPort());
+        } catch (IOException e) {
+            throw new IllegalStateException("클러스터 중계 포트를 열 수 없습니다. port: " + properties.getPort(), e);
+        }
+        Thread.ofVirtual().name("cluster-accept").start(() -> acceptLoop(receiver));
+
+        for (String peer : properties.getPeers()) {
+            PeerLink link = new PeerLink(peer);
+            peers.add(link);
+            Thread.ofVirtual().name("cluster-send-" + peer).start(link::sendLoop);
+        }
+        log.info("[Cluster] TCP 중계 시작 - port: {}, peers: {}", properties.getPort(), properties.getPeers());
+    }
+
+    @Override
+    public void publish(RelayFrame frame) {
+        for (PeerLink peer : peers) {
+            if (!peer.queue.offer(frame)) {
+                droppedFrames.increment();
+                log.debug("[Cluster] peer 대기열 포화 - 프레임 폐기. peer: {}", peer.address);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        closeQuietly(serverSocket);
+        inboundSockets.forEach(TcpClusterTransport::closeQuietly);
+        peers.forEach(PeerLink::close);
+    }
+
+    public long getSentFrames() {
+        return sentFrames.sum();
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    private void acceptLoop(Consumer<RelayFrame> receiver) {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                inboundSockets.add(socket);
+                Thread.ofVirtual().name("cluster-receive-" + socket.getRemoteSocketAddress())
+                        .start(() -> receiveLoop(socket, receiver));
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("[Cluster] 연결 수락 실패 - {}", e.toString());
+                }
+            }
+        }
+    }
+
+    private void receiveLoop(Socket socket, Consumer<RelayFrame> receiver) {
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            if (in.readInt() != MAGIC) {
+                log.warn("[Cluster] 알 수 없는 연결 - 종료. remote: {}", socket.getRemoteSocketAddress());
+                return;
+            }
+            while (running) {
+                String origin = in.readUTF();
+                String destination = in.readUTF();
+                int length = in.readInt();
+                if (length < 0 || length > properties.getMaxFrameBytes()) {
+                    log.warn("[Cluster] 프레임 크기 초과 - 연결 종료. remote: {}, length: {}",
+                            socket.getRemoteSocketAddress(), length);
+                    return;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                receiver.accept(new RelayFrame(origin, destination, payload));
+            }
+        } catch (EOFException e) {
+            log.debug("[Cluster] peer 연결 종료 - remote: {}", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            if (running) {
+                log.warn("[Cluster] 수신 실패 - remote: {}, {}", socket.getRemoteSocketAddress(), e.toString());
+            }
+        } finally {
+            inboundSockets.remove(socket);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // 종료 중 예외는 무시
+        }
+    }
+
+    /*
+     * peer 하나로의 전송 연결
+     * - 끊기면 reconnectDelayMs 후 다시 연결하며, 그동안 대기열이 가득 차면 publish 쪽에서 프레임을 버린다.
+     * */
+    private final class PeerLink {
+
+        private final String address;
+        private final BlockingQueue<RelayFrame> queue;
+        private volatile Socket socket;
+        private volatile Thread sender;
+
+        private PeerLink(String address) {
+            this.address = address;
+            this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        }
+
+        private void sendLoop() {
+            sender = Thread.currentThread();
+            List<RelayFrame> batch = new ArrayList<>(properties.getBatchSize());
+            while (running) {
+                try (Socket connected = connect();
+                        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connected.getOutputStream()))) {
+                    out.writeInt(MAGIC);
+                    out.flush();
+                    log.info("[Cluster] peer 연결 - {}", address);
+
+                    while (running) {
+                        batch.add(queue.take());
+                        queue.drainTo(batch, properties.getBatchSize() - 1);
+                        for (RelayFrame frame : batch) {
+                            out.writeUTF(frame.originNodeId());
+                            out.writeUTF(frame.destination());
+                            out.writeInt(frame.payload().length);
+                            out.write(frame.payload());
+                        }
+                        out.flush();
+                        sentFrames.add(batch.size());
+                        batch.clear();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    // 쓰던 묶음은 버린다. (일부가 이미 전달됐을 수 있어 재전송하면 중복될 수 있음)
+                    droppedFrames.add(batch.size());
+                    batch.clear();
+                    if (!running) {
+                        return;
+                    }
+                    log.warn("[Cluster] peer 전송 실패 - {}ms 후 재연결. peer: {}, {}",
+                            properties.getReconnectDelayMs(), address, e.toString());
+                    if (!sleepBeforeReconnect()) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private Socket connect() throws IOException {
+            int separator = address.lastIndexOf(':');
+            Socket connected = new Socket();
+            connected.setTcpNoDelay(true);
+            connected.connect(new InetSocketAddress(address.substring(0, separator),
+                    Integer.parseInt(address.substring(separator + 1))), 3_000);
+            socket = connected;
+            return connected;
+        }
+
+        private boolean sleepBeforeReconnect() {
+            try {
+                Thread.sleep(properties.getReconnectDelayMs());
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void close() {
+            closeQuietly(socket);
+            Thread thread = sender;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.back.service.file;
+
+import java.nio.file.Path;
+
+/*
+ * 권한 검증을 마친 다운로드 대상 파일
+ * - 디스크 경로와 응답 헤더에 필요한 값만 담아 FileTransferWriter 로 넘긴다.
+ * */
+public record DownloadableFile(
+        Long fileId,
+        Path path,
+        long size,
+        String contentType,
+        String etag,
+        String originalName
+) {
+}
@@ -1,8 +1,6 @@
 package org.example.back.service.file;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,11 +13,8 @@ import org.example.back.exception.file.FileErrorCode;
 import org.example.back.exception.file.FileException;
 import org.example.back.repository.file.UploadedFileRepository;
 import org.example.back.repository.message.ChatMessageRepository;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,7 +34,7 @@ public class FileDownloadServiceImpl implements FileDownloadService {
     private final FileStorageProperties fileStorageProperties;
 
     @Override
-    public ResponseEntity<Resource> download(Long fileId, Long memberId) {
+    public DownloadableFile prepareDownload(Long fileId, Long memberId) {
         // 1. 파일 메타데이터 조회
         UploadedFile file = uploadedFileRepository.findById(fileId)
                 .orElseThrow(() -> {
@@ -64,19 +59,24 @@ public class FileDownloadServiceImpl implements FileDownloadService {
             throw new FileException(FileErrorCode.EXTENSION_NOT_ALLOWED);
         }
 
-        // 4. 디스크에서 파일 읽기
-        Resource resource = readFromDisk(file);
-
-        // 5. 응답 헤더 구성
-        HttpHeaders headers = buildHeaders(file);
+        // 4. 디스크 파일 확인
+        Path target = resolveOnDisk(file);
+        long size;
+        try {
+            size = Files.size(target);
+        } catch (IOException e) {
+            log.error("[다운로드] 파일 크기 확인 실패 - fileId={}", file.getId(), e);
+            throw new FileException(FileErrorCode.FILE_READ_FAILED, e);
+        }
 
-        log.info("[다운로드] 성공 - fileId={}, memberId={}, isUploader={}, isParticipant={}",
+        log.info("[다운로드] 권한 확인 - fileId={}, memberId={}, isUploader={}, isParticipant={}",
                 fileId, memberId, isUploader, isParticipant);
 
-        return ResponseEntity.ok().headers(headers).body(resource);
+        return new DownloadableFile(file.getId(), target, size, contentTypeOf(file), etagOf(file),
+                file.getOriginalName());
     }
 
-    private Resource readFromDisk(UploadedFile file) {
+    private Path resolveOnDisk(UploadedFile file) {
         Path uploadPath = Paths.get(fileStorageProperties.getUploadDir())
                 .toAbsolutePath().normalize();
         Path target = uploadPath.resolve(file.getSavedPath()).normalize();
@@ -91,44 +91,24 @@ public class FileDownloadServiceImpl implements FileDownloadService {
             log.error("[다운로드] 디스크 파일 없음/읽기 불가 - fileId={}, path={}", file.getId(), target);
             throw new FileException(FileErrorCode.FILE_NOT_FOUND);
         }
-
-        try {
-            return new UrlResource(target.toUri());
-        } catch (IOException e) {
-            log.error("[다운로드] Resource 생성 실패 - fileId={}", file.getId(), e);
-            throw new FileException(FileErrorCode.FILE_READ_FAILED, e);
-        }
+        return target;
     }
 
-    private HttpHeaders buildHeaders(UploadedFile file) {
-        HttpHeaders headers = new HttpHeaders();
-
-        // Content-Type 추론 (실패 시 octet-stream)
-        String contentType = probeContentType(file);
-        headers.setContentType(MediaType.parseMediaType(contentType));
-
-        // Content-Disposition: attachment + 한글 파일명 RFC 5987 인코딩
-        String encoded = URLEncoder.encode(file.getOriginalName(), StandardCharsets.UTF_8)
-                .replace("+", "%20");
-        headers.add(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename=\"" + file.getOriginalName() + "\"; filename*=UTF-8''" + encoded);
-
-        // MIME sniffing 방어
-        headers.add("X-Content-Type-Options", "nosniff");
-
-        headers.setContentLength(file.getSize());
-
-        return headers;
+    // 업로드 시 저장한 값 사용. 이전 데이터는 원본 파일명으로 결정 (디스크 probe 없음)
+    private String contentTypeOf(UploadedFile file) {
+        if (file.getContentType() != null) {
+            return file.getContentType();
+        }
+        return MediaTypeFactory.getMediaType(file.getOriginalName())
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
     }
 
-    private String probeContentType(UploadedFile file) {
-        try {
-            Path target = Paths.get(fileStorageProperties.getUploadDir())
-                    .toAbsolutePath().normalize().resolve(file.getSavedPath());
-            String detected = Files.probeContentType(target);
-            return detected != null ? detected : MediaType.APPLICATION_OCTET_STREAM_VALUE;
-        } catch (IOException e) {
-            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    // 강한 ETag: 파일 내용의 SHA-256. 해시가 없는 이전 데이터는 ID + 크기 (저장 파일은 UUID 경로라 덮어쓰지 않음)
+    private String etagOf(UploadedFile file) {
+        if (file.getContentHash() != null) {
+            return "\"" + file.getContentHash() + "\"";
         }
+        return "\"" + file.getId() + "-" + file.getSize() + "\"";
     }
 }
@@ -1,9 +1,14 @@
 package org.example.back.service.file;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +22,8 @@ import org.example.back.exception.member.MemberErrorCode;
 import org.example.back.exception.member.MemberException;
 import org.example.back.repository.MemberRepository;
 import org.example.back.repository.file.UploadedFileRepository;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -54,24 +61,36 @@ public class FileStorageServiceImpl implements FileStorageService {
                 .orElseThrow(() -> new MemberException(MemberErrorCode.USER_NOT_FOUND));
 
         // 3. 디스크 저장 (파일명: UUID + 확장자. 원본명은 DB에만 보관)
+        //    저장하면서 SHA-256 을 함께 계산해 다운로드 ETag 로 사용
         String savedPath = UUID.randomUUID() + "." + extension;
         Path uploadPath = Paths.get(fileStorageProperties.getUploadDir())
                 .toAbsolutePath().normalize();
 
+        String contentHash;
         try {
             if (!Files.exists(uploadPath)) {
                 Files.createDirectories(uploadPath);
             }
             Path targetPath = uploadPath.resolve(savedPath);
-            file.transferTo(targetPath.toFile());
-        } catch (IOException e) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, targetPath);
+            }
+            contentHash = HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
             log.error("파일 저장 중 에러 발생 - memberId={}, 파일명={}", memberId, originalName, e);
             throw new FileException(FileErrorCode.FILE_STORAGE_FAILED, e);
         }
 
+        // Content-Type 은 화이트리스트 확장자 기준으로 업로드 시 한 번만 결정 (클라이언트가 보낸 값은 신뢰하지 않음)
+        String contentType = MediaTypeFactory.getMediaType(originalName)
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
         // 4. DB 기록
         UploadedFile saved = uploadedFileRepository.save(
-                UploadedFile.of(uploader, savedPath, originalName, extension, file.getSize())
+                UploadedFile.of(uploader, savedPath, originalName, extension, file.getSize(), contentType,
+                        contentHash)
         );
 
         log.info("[파일 업로드] uploadedFileId={}, uploader={}, 원본명={}, savedPath={}, size={}",
@@ -0,0 +1,161 @@
+package org.example.back.service.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+
+/*
+ * 파일 다운로드 응답 작성기
+ * - If-None-Match 가 ETag 와 일치하면 본문 없이 304 로 응답한다.
+ * - Range(bytes, 단일 구간)를 지원해 이어받기/부분 로딩에 206 으로 응답하고, 범위를 벗어나면 416 으로 응답한다.
+ *   (여러 구간 요청은 RFC 9110 에 따라 무시하고 전체를 보낸다.)
+ * - Tomcat 이 sendfile 을 지원하면 요청 속성으로 파일 구간만 넘겨 커널이 직접 전송(zero-copy)하게 하고,
+ *   지원하지 않으면 FileChannel.transferTo 로 응답 스트림에 복사한다.
+ * */
+@Slf4j
+@Component
+public class FileTransferWriter {
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    public void write(DownloadableFile file, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ETag etag = ETag.create(file.etag());
+
+        // 권한 검증은 매 요청마다 거치도록 캐시는 항상 재검증(no-cache) 으로 둔다.
+        response.setHeader(HttpHeaders.ETAG, etag.formattedTag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(file.contentType());
+        // Content-Disposition: attachment + 한글 파일명 RFC 5987 인코딩
+        String encoded = URLEncoder.encode(file.originalName(), StandardCharsets.UTF_8).replace("+", "%20");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + file.originalName() + "\"; filename*=UTF-8''" + encoded);
+        // MIME sniffing 방어
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long end = file.size() - 1;
+
+        HttpRange range;
+        try {
+            range = resolveRange(request, etag);
+        } catch (IllegalArgumentException e) {
+            rejectRange(file, response);
+            return;
+        }
+
+        if (range != null) {
+            try {
+                start = range.getRangeStart(file.size());
+                end = range.getRangeEnd(file.size());
+            } catch (IllegalArgumentException e) {
+                rejectRange(file, response);
+                return;
+            }
+            // HttpRange 는 시작 위치가 파일 크기 이상이어도 예외 없이 end 만 잘라내므로 (예: 20-9) 직접 확인한다.
+            if (start >= file.size() || start > end) {
+                rejectRange(file, response);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+        } else {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(Math.max(length, 0));
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 본문을 쓰지 않고 구간만 넘기면 Tomcat 이 서블릿 반환 후 sendfile 로 전송한다. (end 는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        transfer(file, start, length, response);
+    }
+
+    // 만족할 수 없는 범위: 416 + 전체 크기 (RFC 9110 15.5.17)
+    private void rejectRange(DownloadableFile file, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+    }
+
+    private void transfer(DownloadableFile file, long start, long length, HttpServletResponse response)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    // 파일이 예상보다 짧아진 경우 (외부에서 잘린 파일)
+                    log.warn("[다운로드] 파일 전송 중단 - fileId={}, position={}, remaining={}",
+                            file.fileId(), position, remaining);
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+        response.flushBuffer();
+    }
+
+    private boolean isNotModified(HttpServletRequest request, ETag etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match 는 약한 비교 (RFC 9110 13.1.2)
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(etag, false));
+    }
+
+    // 적용할 단일 구간. Range 가 없거나 If-Range 가 현재 ETag 와 다르거나 여러 구간이면 null (전체 전송)
+    private HttpRange resolveRange(HttpServletRequest request, ETag etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        // If-Range 는 강한 비교. 날짜 형식이나 다른 ETag 면 Range 를 무시하고 전체를 보낸다.
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ETag.create(ifRange).compare(etag, true)) {
+            return null;
+        }
+
+        List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+}
@@ -3,10 +3,14 @@ package org.example.back.service.message;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.example.back.domain.message.ChatMessage;
 import org.example.back.dto.message.request.ChatMessageEditRequest;
 import org.example.back.dto.message.request.ChatMessageRequest;
+import org.example.back.dto.message.response.ChatMessageCursorResponse;
 import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.util.pagination.MessageCursor;
 import org.springframework.data.domain.Pageable;
 
 public interface ChatMessageService {
@@ -32,6 +36,25 @@ public interface ChatMessageService {
             @Parameter(description = "페이징 정보") Pageable pageable
     );
     
+    // 채팅방의 메시지를 커서(keyset) 기반으로 조회한다.
+    @Operation(summary = "채팅 메시지 커서 조회", description = "기준 메시지 ID 이전(BEFORE) 또는 이후(AFTER) 메시지를 size 개 조회하고 다음 커서를 함께 반환한다.")
+    ChatMessageCursorResponse getMessagesByCursor(
+            @Parameter(description = "채팅방 ID") Long chatRoomId,
+            @Parameter(description = "요청자 ID") Long memberId,
+            @Parameter(description = "조회 커서") MessageCursor cursor,
+            @Parameter(description = "조회할 메시지 수") int size
+    );
+    
+    // 채팅방의 메시지를 순번 구간으로 조회한다. (재연결 시 누락 구간 재조회용)
+    @Operation(summary = "채팅 메시지 순번 구간 조회", description = "fromSeq 이상 toSeq 이하 순번의 메시지를 순번 오름차순으로 최대 limit 개 조회한다. 삭제된 메시지도 포함한다.")
+    List<ChatMessageResponse> getMessagesBySeqRange(
+            @Parameter(description = "채팅방 ID") Long chatRoomId,
+            @Parameter(description = "요청자 ID") Long memberId,
+            @Parameter(description = "시작 순번 (포함)") long fromSeq,
+            @Parameter(description = "끝 순번 (포함)") long toSeq,
+            @Parameter(description = "최대 조회 수") int limit
+    );
+    
     // 최근 채팅 메시지 N 개를 조회한다.
     @Operation(summary = "최근 채팅 메시지 조회", description = "채팅방에서 가장 최신 메시지 N 개를 조회한다.")
     List<ChatMessageResponse> getRecentMessages(
@@ -57,4 +80,36 @@ public interface ChatMessageService {
     // 채팅 메시지 삭제를 취소한다.
     @Operation(summary = "채팅 메시지 삭제 취소", description = "본인이 삭제한 메시지를 5분 이내에 복구한다.")
     void restoreMessage(Long memberId, Long messageId);
+
+    // clientMessageId 로 저장된 메시지를 조회한다. (UNIQUE 제약 위반 시 멱등 응답용)
+    @Operation(summary = "clientMessageId 로 메시지 조회", description = "적재 대기 중인 메시지를 포함해 clientMessageId 로 저장된 메시지를 조회한다.")
+    Optional<ChatMessage> findByClientMessageId(
+            @Parameter(description = "클라이언트 메시지 ID") String clientMessageId
+    );
+
+    // 메시지가 속한 채팅방 ID 를 조회한다. (채팅방 단위 순차 실행 키)
+    @Operation(summary = "메시지의 채팅방 ID 조회", description = "수정/삭제/복구를 채팅방 순서대로 실행하기 위해 메시지가 속한 채팅방 ID 를 조회한다.")
+    Long getChatRoomIdOfMessage(
+            @Parameter(description = "메시지 ID") Long messageId
+    );
+
+    // 수정/삭제/복구 전에 대상 메시지가 적재 대기 중이면 그 메시지만 먼저 적재한다. (트랜잭션 밖에서 호출)
+    @Operation(summary = "대기 메시지 적재", description = "write-behind 대기열에 남아 있는 대상 메시지만 먼저 DB 에 적재한다. 대기 중이 아니면 즉시 반환한다.")
+    void flushPendingMessage(
+            @Parameter(description = "메시지 ID") Long messageId
+    );
+
+    // 순번 구간 조회 전에 그 구간의 메시지가 적재 대기 중이면 그 메시지들만 먼저 적재한다. (트랜잭션 밖에서 호출)
+    @Operation(summary = "구간 대기 메시지 적재", description = "write-behind 대기열에서 채팅방의 fromSeq~toSeq 구간 메시지만 먼저 DB 에 적재한다. 대기 중이 아니면 즉시 반환한다.")
+    void flushPendingMessages(
+            @Parameter(description = "채팅방 ID") Long chatRoomId,
+            @Parameter(description = "시작 순번 (포함)") long fromSeq,
+            @Parameter(description = "끝 순번 (포함)") long toSeq
+    );
+
+    // write-behind AFTER_FLUSH 모드에서 메시지가 DB 에 적재되면 완료되는 future 를 반환한다. (호출 스레드는 기다리지 않음)
+    @Operation(summary = "메시지 적재 확인", description = "write-behind 모드에서 ack 시점이 AFTER_FLUSH 이면 DB 적재 완료 시 완료되는 future 를 반환한다. 그 외에는 완료된 future 를 반환한다.")
+    CompletableFuture<Void> whenPersisted(
+            @Parameter(description = "저장 요청한 메시지") ChatMessage message
+    );
 }
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.back.domain.file.UploadedFile;
@@ -18,6 +19,7 @@ import org.example.back.domain.room.ChatRoom;
 import org.example.back.dto.message.event.ChatMessageEvent;
 import org.example.back.dto.message.request.ChatMessageEditRequest;
 import org.example.back.dto.message.request.ChatMessageRequest;
+import org.example.back.dto.message.response.ChatMessageCursorResponse;
 import org.example.back.dto.message.response.ChatMessageResponse;
 import org.example.back.exception.chatroom.ChatRoomException;
 import org.example.back.exception.member.MemberErrorCode;
@@ -27,12 +29,19 @@ import org.example.back.repository.MemberRepository;
 import org.example.back.repository.file.UploadedFileRepository;
 import org.example.back.repository.message.ChatMessageQueryRepository;
 import org.example.back.repository.message.ChatMessageRepository;
-import org.example.back.repository.participant.ChatParticipantRepository;
+import org.example.back.repository.participant.ChatParticipantQueryRepository;
 import org.example.back.repository.room.ChatRoomQueryRepository;
 import org.example.back.repository.room.ChatRoomRepository;
+import org.example.back.service.message.id.MessageIdGenerator;
+import org.example.back.service.room.ChatRoomMembershipCache;
+import org.example.back.service.room.RoomActivityUpdater;
+import org.example.back.service.room.RoomListDeltaPublisher;
+import org.example.back.util.pagination.MessageCursor;
+import org.example.back.util.transaction.TransactionUtils;
+import org.example.back.util.websocket.ChatDestinations;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -45,10 +54,19 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     private final ChatRoomQueryRepository chatRoomQueryRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final MemberRepository memberRepository;
-    private final ChatParticipantRepository chatParticipantRepository;
     private final ChatMessageQueryRepository chatMessageQueryRepository;
+    private final ChatParticipantQueryRepository chatParticipantQueryRepository;
+    private final MessageSequenceAllocator messageSequenceAllocator;
     private final UploadedFileRepository uploadedFileRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final RoomBroadcastOutbox roomBroadcastOutbox;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final MessageIdGenerator messageIdGenerator;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final RecentMessageCache recentMessageCache;
+    private final ClientMessageIdIndex clientMessageIdIndex;
+    private final RoomEventLog roomEventLog;
+    private final RoomActivityUpdater roomActivityUpdater;
+    private final RoomListDeltaPublisher roomListDeltaPublisher;
 
     @Override
     @Transactional
@@ -99,8 +117,8 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             throw new ChatMessageException(CLIENT_MESSAGE_ID_REQUIRED);
         }
 
-        Optional<ChatMessage> existing = chatMessageRepository.findByClientMessageId(
-                request.getClientMessageId());
+        // 중복 판별: write-behind 대기 → 최근 저장 LRU(PK 조회) → Bloom filter 가 "있을 수도" 라고 할 때만 clientMessageId 조회
+        Optional<ChatMessage> existing = findDuplicate(request.getClientMessageId());
         if (existing.isPresent()) {
             log.warn("중복 메시지 요청 - clientMessageId: {}", request.getClientMessageId());
             return existing.get();
@@ -123,15 +141,16 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                     return new MemberException(MemberErrorCode.USER_NOT_FOUND);
                 });
 
-        if (chatParticipantRepository.findByChatRoomIdAndMemberId(
-                room.getId(), sender.getId()).isEmpty()) {
+        if (!chatRoomMembershipCache.isMember(room.getId(), sender.getId())) {
             log.warn("메시지 전송 요청자는 참여자가 아님 - senderId: {}, chatRoomId: {}",
                     sender.getId(), room.getId());
             throw new ChatRoomException(NOT_PARTICIPANT);
         }
 
         ChatMessage message = ChatMessage.builder()
+                .id(messageIdGenerator.nextId())
                 .chatRoom(room)
+                .seq(messageSequenceAllocator.next(room.getId()))
                 .sender(sender)
                 .content(request.getContent())
                 .messageType(request.getType())
@@ -139,9 +158,18 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 .file(file)
                 .build();
 
-        ChatMessage saved = chatMessageRepository.save(message);
+        ChatMessage saved = persist(message, writeBehindBuffer.isAckAfterFlush());
         log.info("메시지 저장 완료 - id: {}, roomId: {}, fileId: {}",
                 saved.getId(), saved.getChatRoom().getId(), file != null ? file.getId() : null);
+
+        ChatMessageResponse response = ChatMessageResponse.from(saved);
+        TransactionUtils.runAfterCommit(() -> {
+            clientMessageIdIndex.record(response.getClientMessageId(), response.getMessageId());
+            recentMessageCache.onSaved(response);
+            roomEventLog.onSaved(response);
+            roomActivityUpdater.record(response);
+            roomListDeltaPublisher.onMessageSaved(response);
+        });
         return saved;
     }
 
@@ -149,7 +177,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     public List<ChatMessageResponse> getMessages(Long chatRoomId, Long memberId, Pageable pageable) {
         log.debug("메시지 리스트 조회 요청 - roomId: {}, memberId: {}, page: {}", chatRoomId, memberId, pageable.getPageNumber());
 
-        if (chatParticipantRepository.findByChatRoomIdAndMemberId(chatRoomId, memberId).isEmpty()) {
+        if (!chatRoomMembershipCache.isMember(chatRoomId, memberId)) {
             log.warn("메시지 조회 실패 - 채팅방 참여자가 아님 - chatRoomId: {}, memberId: {}", chatRoomId, memberId);
             throw new ChatRoomException(NOT_PARTICIPANT);
         }
@@ -166,9 +194,24 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     }
 
     @Override
-    public List<ChatMessageResponse> getRecentMessages(Long chatRoomId, int limit) {
-        log.debug("최근 메시지 {} 개 조회 요청 - roomId: {}", limit, chatRoomId);
-        List<ChatMessage> messages = chatMessageQueryRepository.findRecentMessagesByChatRoomId(chatRoomId, limit);
+    public ChatMessageCursorResponse getMessagesByCursor(Long chatRoomId, Long memberId, MessageCursor cursor, int size) {
+        log.debug("메시지 커서 조회 요청 - roomId: {}, memberId: {}, cursor: {}, size: {}", chatRoomId, memberId, cursor, size);
+
+        if (!chatRoomMembershipCache.isMember(chatRoomId, memberId)) {
+            log.warn("메시지 조회 실패 - 채팅방 참여자가 아님 - chatRoomId: {}, memberId: {}", chatRoomId, memberId);
+            throw new ChatRoomException(NOT_PARTICIPANT);
+        }
+
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        List<ChatMessage> messages = cursor.direction() == MessageCursor.Direction.AFTER
+                ? chatMessageQueryRepository.findMessagesAfter(chatRoomId, cursor.messageId(),
+                        findAnchorSeq(chatRoomId, cursor.messageId()), size + 1)
+                : chatMessageQueryRepository.findMessagesBeforeId(chatRoomId, cursor.messageId(), size + 1);
+
+        boolean hasNext = messages.size() > size;
+        if (hasNext) {
+            messages = messages.subList(0, size);
+        }
 
         List<ChatMessageResponse> responseList = new ArrayList<>();
 
@@ -176,7 +219,56 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             responseList.add(ChatMessageResponse.from(message));
         }
 
-        return responseList;
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = messages.get(messages.size() - 1).getId();
+            nextCursor = new MessageCursor(cursor.direction(), lastId).encode();
+        }
+
+        return ChatMessageCursorResponse.builder()
+                .messages(responseList)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // AFTER 커서 기준 메시지의 순번 (순번 도입 전 메시지면 null, 채팅방에 없는 메시지면 INVALID_CURSOR)
+    private Long findAnchorSeq(Long chatRoomId, Long messageId) {
+        ChatMessage anchor = chatMessageRepository.findById(messageId)
+                .or(() -> writeBehindBuffer.findPendingById(messageId))
+                .filter(message -> message.getChatRoom().getId().equals(chatRoomId))
+                .orElseThrow(() -> {
+                    log.warn("메시지 커서 조회 실패 - 기준 메시지 없음 - chatRoomId: {}, messageId: {}", chatRoomId, messageId);
+                    return new ChatMessageException(INVALID_CURSOR);
+                });
+        return anchor.getSeq();
+    }
+
+    @Override
+    public List<ChatMessageResponse> getMessagesBySeqRange(Long chatRoomId, Long memberId, long fromSeq, long toSeq, int limit) {
+        log.debug("메시지 순번 구간 조회 요청 - roomId: {}, memberId: {}, seq: {}~{}", chatRoomId, memberId, fromSeq, toSeq);
+
+        if (!chatRoomMembershipCache.isMember(chatRoomId, memberId)) {
+            log.warn("메시지 조회 실패 - 채팅방 참여자가 아님 - chatRoomId: {}, memberId: {}", chatRoomId, memberId);
+            throw new ChatRoomException(NOT_PARTICIPANT);
+        }
+
+        if (fromSeq > toSeq) {
+            return List.of();
+        }
+
+        // 적재 대기 중인 구간 메시지는 호출 전에 flushPendingMessages 로 적재해야 조회된다. (트랜잭션 안에서 flush 하지 않음)
+        return chatMessageQueryRepository.findMessagesBySeqRange(chatRoomId, fromSeq, toSeq, limit).stream()
+                .map(ChatMessageResponse::from)
+                .toList();
+    }
+
+    @Override
+    public List<ChatMessageResponse> getRecentMessages(Long chatRoomId, int limit) {
+        log.debug("최근 메시지 {} 개 조회 요청 - roomId: {}", limit, chatRoomId);
+
+        // 활성 방은 메모리 링 버퍼에서 바로 응답, 없으면 DB 조회 후 캐시 적재
+        return recentMessageCache.getRecent(chatRoomId, limit);
     }
 
     @Override
@@ -191,17 +283,26 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 });
 
         ChatMessage message = ChatMessage.builder()
+                .id(messageIdGenerator.nextId())
                 .chatRoom(room)
+                .seq(messageSequenceAllocator.next(room.getId()))
                 .sender(null)
                 .content(content)
                 .messageType(MessageType.SYSTEM)
                 .clientMessageId("SYSTEM-" + UUID.randomUUID())
                 .build();
 
-        chatMessageRepository.save(message);
+        // 시스템 메시지는 적재 완료를 기다리지 않고 바로 브로드캐스트
+        persist(message, false);
 
         ChatMessageResponse response = ChatMessageResponse.from(message);
-        simpMessagingTemplate.convertAndSend("/sub/chat/room/" + chatRoomId, response);
+        TransactionUtils.runAfterCommit(() -> {
+            recentMessageCache.onSaved(response);
+            roomEventLog.onSaved(response);
+            roomActivityUpdater.record(response);
+            roomListDeltaPublisher.onMessageSaved(response);
+        });
+        roomBroadcastOutbox.publish(chatRoomId, ChatDestinations.room(chatRoomId), response);
     }
 
     @Override
@@ -239,15 +340,20 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 request.getNewContent()
         );
 
-        simpMessagingTemplate.convertAndSend(
-                "/sub/chat/room/" + message.getChatRoom().getId() + "/edit",
-                editEvent
-        );
+        // 커밋 후 전송 (롤백되면 전송하지 않음)
+        roomBroadcastOutbox.publish(message.getChatRoom().getId(), ChatDestinations.edit(message.getChatRoom().getId()), editEvent);
 
         log.info("메시지 수정 완료 및 실시간 알림 전송 - messageId: {}, chatRoomId: {}",
                 messageId, message.getChatRoom().getId());
 
-        return ChatMessageResponse.from(message);
+        ChatMessageResponse response = ChatMessageResponse.from(message);
+        Long lastMessageId = message.getChatRoom().getLastMessageId();
+        TransactionUtils.runAfterCommit(() -> {
+            recentMessageCache.onEdited(response);
+            roomEventLog.onChanged(editEvent);
+            onMessageChanged(response, lastMessageId);
+        });
+        return response;
     }
 
     @Override
@@ -271,6 +377,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         log.info("메시지 삭제 요청 - memberId: {}, messageId: {}", memberId, messageId);
 
         message.softDelete();
+        adjustUnreadDeletedCount(message, 1);
 
         ChatMessageEvent deleteEvent = ChatMessageEvent.deleted(
                 messageId,
@@ -279,13 +386,20 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 message.getSender().getNickname()
         );
 
-        simpMessagingTemplate.convertAndSend(
-                "/sub/chat/room/" + message.getChatRoom().getId() + "/delete",
-                deleteEvent
-        );
+        // 커밋 후 전송 (롤백되면 전송하지 않음)
+        roomBroadcastOutbox.publish(message.getChatRoom().getId(), ChatDestinations.delete(message.getChatRoom().getId()), deleteEvent);
+
+        Long chatRoomId = message.getChatRoom().getId();
+        ChatMessageResponse response = ChatMessageResponse.from(message);
+        Long lastMessageId = message.getChatRoom().getLastMessageId();
+        TransactionUtils.runAfterCommit(() -> {
+            recentMessageCache.onDeleted(chatRoomId, messageId);
+            roomEventLog.onChanged(deleteEvent);
+            onMessageChanged(response, lastMessageId);
+        });
 
         log.info("메시지 삭제 완료 및 실시간 알림 전송 - messageId: {}, chatRoomId: {}",
-                messageId, message.getChatRoom().getId());
+                messageId, chatRoomId);
     }
 
     @Override
@@ -313,6 +427,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         log.info("메시지 복구 요청 - memberId: {}, messageId: {}", memberId, messageId);
 
         message.restore();
+        adjustUnreadDeletedCount(message, -1);
 
         ChatMessageEvent restoreEvent = ChatMessageEvent.restored(
                 messageId,
@@ -321,15 +436,127 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 message.getSender().getNickname()
         );
 
-        simpMessagingTemplate.convertAndSend(
-                "/sub/chat/room/" + message.getChatRoom().getId() + "/restore",
-                restoreEvent
-        );
+        // 커밋 후 전송 (롤백되면 전송하지 않음)
+        roomBroadcastOutbox.publish(message.getChatRoom().getId(), ChatDestinations.restore(message.getChatRoom().getId()), restoreEvent);
+
+        ChatMessageResponse response = ChatMessageResponse.from(message);
+        Long lastMessageId = message.getChatRoom().getLastMessageId();
+        TransactionUtils.runAfterCommit(() -> {
+            recentMessageCache.onRestored(response);
+            roomEventLog.onChanged(restoreEvent);
+            onMessageChanged(response, lastMessageId);
+        });
 
         log.info("메시지 복구 완료 및 실시간 알림 전송 - messageId: {}, chatRoomId: {}",
                 messageId, message.getChatRoom().getId());
     }
 
+    @Override
+    public Optional<ChatMessage> findByClientMessageId(String clientMessageId) {
+        Optional<ChatMessage> existing = writeBehindBuffer.findPending(clientMessageId)
+                .or(() -> chatMessageRepository.findByClientMessageId(clientMessageId));
+        existing.ifPresent(message -> clientMessageIdIndex.record(clientMessageId, message.getId()));
+        return existing;
+    }
+
+    @Override
+    public Long getChatRoomIdOfMessage(Long messageId) {
+        Optional<ChatMessage> pending = writeBehindBuffer.findPendingById(messageId);
+        if (pending.isPresent()) {
+            return pending.get().getChatRoom().getId();
+        }
+
+        Long chatRoomId = chatMessageQueryRepository.findChatRoomIdByMessageId(messageId);
+        if (chatRoomId == null) {
+            throw new ChatMessageException(MESSAGE_NOT_FOUND);
+        }
+        return chatRoomId;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushPendingMessage(Long messageId) {
+        if (writeBehindBuffer.isEnabled()) {
+            writeBehindBuffer.flushPending(messageId);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushPendingMessages(Long chatRoomId, long fromSeq, long toSeq) {
+        if (writeBehindBuffer.isEnabled() && fromSeq <= toSeq) {
+            writeBehindBuffer.flushPending(chatRoomId, fromSeq, toSeq);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> whenPersisted(ChatMessage message) {
+        if (writeBehindBuffer.isEnabled() && writeBehindBuffer.isAckAfterFlush()) {
+            return writeBehindBuffer.persisted(message.getId());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * write-behind 모드면 커밋 후 대기열에 등록하고, 아니면 즉시 저장한다.
+     * - 호출자 트랜잭션이 롤백되면 등록하지 않아야 하므로 커밋 후에 등록한다. (같은 방 요청은 RoomSequencer 로 직렬화되어
+     *   다음 요청의 중복 판별 전에 등록이 끝난다)
+     * - 대기열이 가득 차 WRITE_BUFFER_FULL 이 나면 이미 커밋된 뒤라 롤백 훅이 돌지 않으므로 순번을 직접 반납한다.
+     *   예외는 커밋한 호출자에게 그대로 전달되고, 뒤에 등록된 커밋 후 작업(캐시 반영, 브로드캐스트)은 실행되지 않는다.
+     * */
+    private ChatMessage persist(ChatMessage message, boolean awaitAck) {
+        if (!writeBehindBuffer.isEnabled()) {
+            return chatMessageRepository.save(message);
+        }
+
+        message.stampCreatedAt(LocalDateTime.now());
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                writeBehindBuffer.enqueue(message, awaitAck);
+            } catch (ChatMessageException e) {
+                messageSequenceAllocator.release(message.getChatRoom().getId(), message.getSeq());
+                throw e;
+            }
+        });
+        return message;
+    }
+
+    // 채팅방 마지막 메시지가 수정/삭제/복구되면 목록 미리보기 갱신 (DB 반영은 조건부 UPDATE 라 항상 등록)
+    private void onMessageChanged(ChatMessageResponse response, Long persistedLastMessageId) {
+        roomActivityUpdater.onChanged(response);
+        if (roomActivityUpdater.isLastMessage(response.getChatRoomId(), response.getMessageId(), persistedLastMessageId)) {
+            roomListDeltaPublisher.onLastMessageChanged(response);
+        }
+    }
+
+    // 아직 이 메시지를 읽지 않은 참여자의 안읽은 수에서 삭제 메시지를 제외(+1)하거나 되돌린다(-1).
+    private void adjustUnreadDeletedCount(ChatMessage message, long delta) {
+        if (message.getSeq() == null) {
+            return;
+        }
+        chatParticipantQueryRepository.adjustUnreadDeletedCount(message.getChatRoom().getId(), message.getSeq(), delta);
+    }
+
+    private Optional<ChatMessage> findDuplicate(String clientMessageId) {
+        Optional<ChatMessage> pending = writeBehindBuffer.findPending(clientMessageId);
+        if (pending.isPresent()) {
+            return pending;
+        }
+
+        Optional<ChatMessage> recent = clientMessageIdIndex.findRecent(clientMessageId)
+                .flatMap(chatMessageRepository::findById);
+        if (recent.isPresent()) {
+            return recent;
+        }
+
+        if (!clientMessageIdIndex.mightExist(clientMessageId)) {
+            return Optional.empty();
+        }
+        return chatMessageRepository.findByClientMessageId(clientMessageId);
+    }
+
+    // 적재 대기 중인 메시지는 호출 전에 flushPendingMessage 로 적재해야 조회된다. (트랜잭션 안에서 flush 하지 않음)
     private ChatMessage findMessageById(Long messageId) {
         return chatMessageRepository.findById(messageId)
                 .orElseThrow(() -> new ChatMessageException(MESSAGE_NOT_FOUND));
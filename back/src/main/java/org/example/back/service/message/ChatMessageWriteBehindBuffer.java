@@ -0,0 +1,312 @@
+package org.example.back.service.message;
+
+import static org.example.back.exception.message.ChatMessageErrorCode.WRITE_BUFFER_FULL;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.ChatMessageWriteBehindProperties;
+import org.example.back.config.properties.ChatMessageWriteBehindProperties.AckMode;
+import org.example.back.domain.message.ChatMessage;
+import org.example.back.exception.message.ChatMessageException;
+import org.example.back.repository.message.ChatMessageBatchRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 채팅 메시지 write-behind 버퍼
+ * - 메시지를 메모리 대기열에 모아 두었다가 flushSize 또는 flushIntervalMs 단위로 JDBC batch INSERT 한다.
+ * - 요청 스레드는 INSERT 를 기다리지 않으므로 트랜잭션이 짧아지고 커넥션 점유 시간이 줄어든다.
+ * - 적재 전 메시지는 clientMessageId / id 로 조회할 수 있어 중복 전송, 수정/삭제 요청에 대응한다.
+ * */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindBuffer {
+
+    private final ChatMessageWriteBehindProperties properties;
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<ChatMessage> queue;
+    private final Map<String, ChatMessage> pendingByClientMessageId = new ConcurrentHashMap<>();
+    private final Map<Long, ChatMessage> pendingById = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<Void>> ackFutures = new ConcurrentHashMap<>();
+    private final AtomicBoolean sizeFlushRequested = new AtomicBoolean(false);
+
+    private ScheduledExecutorService flushExecutor;
+
+    public ChatMessageWriteBehindBuffer(ChatMessageWriteBehindProperties properties,
+            ChatMessageBatchRepository chatMessageBatchRepository,
+            PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출자 트랜잭션과 무관하게 batch 단위로 커밋
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-message-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly,
+                properties.getFlushIntervalMs(), properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+
+        log.info("메시지 write-behind 활성화 - flushSize: {}, flushIntervalMs: {}, ackMode: {}",
+                properties.getFlushSize(), properties.getFlushIntervalMs(), properties.getAckMode());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isAckAfterFlush() {
+        return properties.getAckMode() == AckMode.AFTER_FLUSH;
+    }
+
+    // 메시지를 대기열에 등록한다. awaitAck 가 true 이면 awaitFlushed 로 적재 완료를 기다릴 수 있다.
+    public void enqueue(ChatMessage message, boolean awaitAck) {
+        if (awaitAck) {
+            ackFutures.put(message.getId(), new CompletableFuture<>());
+        }
+        pendingByClientMessageId.put(message.getClientMessageId(), message);
+        pendingById.put(message.getId(), message);
+
+        boolean offered;
+        try {
+            offered = queue.offer(message, properties.getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+
+        if (!offered) {
+            release(message);
+            ackFutures.remove(message.getId());
+            log.warn("write-behind 대기열 포화 - 메시지 거절. clientMessageId: {}", message.getClientMessageId());
+            throw new ChatMessageException(WRITE_BUFFER_FULL);
+        }
+
+        if (queue.size() >= properties.getFlushSize() && sizeFlushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                sizeFlushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    // 아직 적재되지 않은 메시지를 clientMessageId 로 조회
+    public Optional<ChatMessage> findPending(String clientMessageId) {
+        return Optional.ofNullable(pendingByClientMessageId.get(clientMessageId));
+    }
+
+    // 아직 적재되지 않은 메시지를 id 로 조회
+    public Optional<ChatMessage> findPendingById(Long messageId) {
+        return Optional.ofNullable(pendingById.get(messageId));
+    }
+
+    /*
+     * 대상 메시지가 아직 대기 중이면 그 메시지만 먼저 적재해 DB 에서 조회 가능하게 만든다.
+     * - 대기열에 남아 있으면 꺼내서 단건 INSERT 하고, 이미 다른 flush 가 꺼내 간 경우에는 그 batch 가 끝날 때까지만 기다린다.
+     * - REQUIRES_NEW 로 커넥션을 하나 더 쓰므로 호출자 트랜잭션 밖에서 호출해야 한다.
+     * */
+    public void flushPending(Long messageId) {
+        ChatMessage message = messageId != null ? pendingById.get(messageId) : null;
+        if (message == null) {
+            return;
+        }
+
+        if (queue.remove(message)) {
+            persistSingle(message);
+            return;
+        }
+
+        // drain 부터 적재까지 flushBatch 의 모니터 안에서 일어나므로, 모니터를 얻으면 진행 중이던 batch 는 끝난 상태
+        synchronized (this) {
+            log.debug("진행 중인 batch 적재 완료 대기 후 반환 - messageId: {}", messageId);
+        }
+    }
+
+    /*
+     * 채팅방의 순번 구간(fromSeq ~ toSeq)에 해당하는 대기 메시지만 먼저 적재한다. (순번 구간 재조회용)
+     * - 대기열에 남아 있는 것은 꺼내서 batch INSERT 하고, 다른 flush 가 이미 꺼내 간 것이 있으면 그 batch 가 끝날 때까지만 기다린다.
+     * - 대기 메시지 수(queueCapacity 이하)만큼 훑으므로 전체 flush 와 달리 다른 방의 적재를 기다리지 않는다.
+     * - REQUIRES_NEW 로 커넥션을 하나 더 쓰므로 호출자 트랜잭션 밖에서 호출해야 한다.
+     * */
+    public void flushPending(Long chatRoomId, long fromSeq, long toSeq) {
+        List<ChatMessage> targets = new ArrayList<>();
+        for (ChatMessage message : pendingById.values()) {
+            Long seq = message.getSeq();
+            if (seq != null && seq >= fromSeq && seq <= toSeq && message.getChatRoom().getId().equals(chatRoomId)) {
+                targets.add(message);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        targets.sort(Comparator.comparing(ChatMessage::getSeq));
+        List<ChatMessage> removed = new ArrayList<>(targets.size());
+        for (ChatMessage message : targets) {
+            if (queue.remove(message)) {
+                removed.add(message);
+            }
+        }
+        if (!removed.isEmpty()) {
+            persistBatch(removed);
+        }
+
+        if (removed.size() < targets.size()) {
+            // flushPending(messageId) 와 같이 모니터를 얻으면 진행 중이던 batch 는 끝난 상태
+            synchronized (this) {
+                log.debug("진행 중인 batch 적재 완료 대기 후 반환 - chatRoomId: {}, seq: {}~{}", chatRoomId, fromSeq, toSeq);
+            }
+        }
+    }
+
+    /*
+     * AFTER_FLUSH 모드에서 메시지가 DB 에 적재되면 완료되는 future
+     * - 호출 스레드는 기다리지 않는다. 적재 실패나 ackTimeoutMs 초과 시 예외로 완료된다.
+     * - 등록된 ack 가 없으면 (AFTER_ENQUEUE 모드, 이미 적재됨) 완료된 future 를 돌려준다.
+     * */
+    public CompletableFuture<Void> persisted(Long messageId) {
+        CompletableFuture<Void> future = ackFutures.get(messageId);
+        if (future == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return future.orTimeout(properties.getAckTimeoutMs(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, e) -> {
+                    ackFutures.remove(messageId);
+                    if (e != null) {
+                        log.warn("메시지 적재 확인 실패 - messageId: {}, reason: {}", messageId, e.toString());
+                    }
+                });
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    // 적재 대기 중인 메시지가 있는 채팅방 ID (순번 발급기가 유휴 채팅방을 정리할 때 제외 대상)
+    public Set<Long> getPendingChatRoomIds() {
+        Set<Long> chatRoomIds = new HashSet<>();
+        for (ChatMessage message : pendingById.values()) {
+            chatRoomIds.add(message.getChatRoom().getId());
+        }
+        return chatRoomIds;
+    }
+
+    // 대기열을 비울 때까지 flushSize 단위로 적재 (batch 단위로만 직렬화해 flushPending 이 전체 flush 를 기다리지 않게 함)
+    public void flush() {
+        while (flushBatch()) {
+            // 대기열이 빌 때까지 반복
+        }
+    }
+
+    // batch 하나를 꺼내 적재한다. 꺼낼 메시지가 없으면 false
+    private synchronized boolean flushBatch() {
+        List<ChatMessage> batch = new ArrayList<>(properties.getFlushSize());
+        if (queue.drainTo(batch, properties.getFlushSize()) == 0) {
+            return false;
+        }
+        persistBatch(batch);
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushExecutor == null) {
+            return;
+        }
+
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(properties.getAckTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        log.info("메시지 write-behind 종료 - 남은 메시지 적재 완료");
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("메시지 write-behind flush 중 오류", e);
+        }
+    }
+
+    private void persistBatch(List<ChatMessage> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatMessageBatchRepository.insertAll(batch));
+            batch.forEach(message -> complete(message, null));
+            log.debug("메시지 batch 적재 완료 - size: {}", batch.size());
+        } catch (RuntimeException e) {
+            // 한 건의 제약 조건 위반으로 batch 전체가 실패할 수 있으므로 건별로 재시도
+            log.warn("메시지 batch 적재 실패 - 건별 재시도. size: {}, reason: {}", batch.size(), e.getMessage());
+            for (ChatMessage message : batch) {
+                persistSingle(message);
+            }
+        }
+    }
+
+    private void persistSingle(ChatMessage message) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> chatMessageBatchRepository.insertAll(List.of(message)));
+            complete(message, null);
+        } catch (RuntimeException e) {
+            log.error("메시지 적재 실패 - id: {}, clientMessageId: {}",
+                    message.getId(), message.getClientMessageId(), e);
+            complete(message, e);
+        }
+    }
+
+    private void complete(ChatMessage message, Throwable failure) {
+        release(message);
+
+        CompletableFuture<Void> future = ackFutures.get(message.getId());
+        if (future == null) {
+            return;
+        }
+        if (failure == null) {
+            ackFutures.remove(message.getId());
+            future.complete(null);
+        } else {
+            // 실패한 future 는 persisted 에서 결과를 확인한 뒤 제거한다.
+            future.completeExceptionally(failure);
+        }
+    }
+
+    private void release(ChatMessage message) {
+        pendingByClientMessageId.remove(message.getClientMessageId(), message);
+        pendingById.remove(message.getId(), message);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.back.service.message;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.example.back.dto.message.response.ChatResyncResponse;
+
+public interface ChatResyncService {
+    
+    // 재연결한 클라이언트에게 lastMessageId 이후 변경분만 반환한다.
+    @Operation(summary = "재연결 동기화", description = "lastMessageId 이후 새 메시지와 수정/삭제/복구 이벤트를 메모리 이벤트 로그 또는 DB 에서 조회한다. 변경분이 너무 많으면 전체 재조회를 요청한다.")
+    ChatResyncResponse resync(
+            @Parameter(description = "채팅방 ID") Long chatRoomId,
+            @Parameter(description = "요청자 ID") Long memberId,
+            @Parameter(description = "클라이언트가 마지막으로 받은 메시지 ID") Long lastMessageId
+    );
+}
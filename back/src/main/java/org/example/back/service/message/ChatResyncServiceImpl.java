@@ -0,0 +1,113 @@
+package org.example.back.service.message;
+
+import static org.example.back.exception.chatroom.ChatRoomErrorCode.NOT_PARTICIPANT;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.properties.ChatMessageResyncProperties;
+import org.example.back.domain.member.Member;
+import org.example.back.domain.message.ChatMessage;
+import org.example.back.dto.message.event.ChatMessageEvent;
+import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.dto.message.response.ChatResyncResponse;
+import org.example.back.dto.message.response.ChatResyncResponse.Source;
+import org.example.back.exception.chatroom.ChatRoomException;
+import org.example.back.repository.message.ChatMessageQueryRepository;
+import org.example.back.repository.message.ChatMessageRepository;
+import org.example.back.service.room.ChatRoomMembershipCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChatResyncServiceImpl implements ChatResyncService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageQueryRepository chatMessageQueryRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final RoomEventLog roomEventLog;
+    private final ChatMessageResyncProperties resyncProperties;
+
+    @Override
+    public ChatResyncResponse resync(Long chatRoomId, Long memberId, Long lastMessageId) {
+        log.debug("재연결 동기화 요청 - roomId: {}, memberId: {}, lastMessageId: {}", chatRoomId, memberId, lastMessageId);
+
+        if (!chatRoomMembershipCache.isMember(chatRoomId, memberId)) {
+            log.warn("재연결 동기화 실패 - 채팅방 참여자가 아님 - chatRoomId: {}, memberId: {}", chatRoomId, memberId);
+            throw new ChatRoomException(NOT_PARTICIPANT);
+        }
+
+        if (lastMessageId == null) {
+            return ChatResyncResponse.fullReload(chatRoomId);
+        }
+
+        int maxItems = resyncProperties.getMaxItems();
+
+        Optional<RoomEventLog.Replay> replay = roomEventLog.replaySince(chatRoomId, lastMessageId);
+        if (replay.isPresent()) {
+            if (replay.get().size() > maxItems) {
+                return ChatResyncResponse.fullReload(chatRoomId);
+            }
+            return ChatResyncResponse.builder()
+                    .chatRoomId(chatRoomId)
+                    .source(Source.MEMORY)
+                    .messages(replay.get().messages())
+                    .events(replay.get().events())
+                    .build();
+        }
+
+        return resyncFromDatabase(chatRoomId, lastMessageId, maxItems);
+    }
+
+    // 메모리 로그로 응답할 수 없을 때: 이후 메시지 + 기준 메시지 생성 이후 수정/삭제/복구된 이전 메시지
+    private ChatResyncResponse resyncFromDatabase(Long chatRoomId, Long lastMessageId, int maxItems) {
+        if (writeBehindBuffer.isEnabled()) {
+            writeBehindBuffer.flush();
+        }
+
+        ChatMessage anchor = chatMessageRepository.findById(lastMessageId)
+                .filter(message -> message.getChatRoom().getId().equals(chatRoomId))
+                .orElse(null);
+        if (anchor == null) {
+            log.debug("재연결 동기화 - 기준 메시지 없음, 전체 재조회 필요 - roomId: {}, lastMessageId: {}", chatRoomId, lastMessageId);
+            return ChatResyncResponse.fullReload(chatRoomId);
+        }
+
+        // 한도 판단을 위해 1건 더 조회
+        List<ChatMessage> newMessages = chatMessageQueryRepository.findMessagesAfter(chatRoomId, lastMessageId, anchor.getSeq(), maxItems + 1);
+        if (newMessages.size() > maxItems) {
+            return ChatResyncResponse.fullReload(chatRoomId);
+        }
+
+        int remaining = maxItems - newMessages.size();
+        List<ChatMessage> changed = chatMessageQueryRepository.findMessagesChangedSince(
+                chatRoomId, lastMessageId, anchor.getSeq(), anchor.getCreatedAt(), remaining + 1);
+        if (changed.size() > remaining) {
+            return ChatResyncResponse.fullReload(chatRoomId);
+        }
+
+        return ChatResyncResponse.builder()
+                .chatRoomId(chatRoomId)
+                .source(Source.DATABASE)
+                .messages(newMessages.stream().map(ChatMessageResponse::from).toList())
+                .events(changed.stream().map(this::toCurrentStateEvent).toList())
+                .build();
+    }
+
+    private ChatMessageEvent toCurrentStateEvent(ChatMessage message) {
+        Member sender = message.getSender();
+        Long senderId = sender != null ? sender.getId() : null;
+        String nickname = sender != null ? sender.getNickname() : null;
+        Long chatRoomId = message.getChatRoom().getId();
+
+        if (message.isDeleted()) {
+            return ChatMessageEvent.deleted(message.getId(), chatRoomId, senderId, nickname);
+        }
+        return ChatMessageEvent.edited(message.getId(), chatRoomId, senderId, nickname, message.getContent());
+    }
+}
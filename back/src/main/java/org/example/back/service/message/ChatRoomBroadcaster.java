@@ -0,0 +1,58 @@
+package org.example.back.service.message;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.service.cluster.ClusterRelay;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/*
+ * 채팅방 브로드캐스트 전용 전송기
+ * - payload 를 애플리케이션 ObjectMapper 로 JSON byte[] 로 직렬화해 완성된 Message 로 브로커에 넘긴다.
+ *   (convertAndSend 도 브로드캐스트당 한 번만 변환하므로 구독자별 변환 비용은 원래 없다. STOMP 프레임 인코딩은 여전히 세션마다 일어난다.)
+ * - 직렬화해 둔 byte[] 를 ClusterRelay 중계에 그대로 재사용해, 다중 노드 모드에서 다시 직렬화하지 않는다.
+ * - 세션별 프레임 쓰기는 전용 outbound executor(WebSocketConfig) 에서 처리한다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomBroadcaster {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ClusterRelay clusterRelay;
+
+    public void broadcast(String destination, Object payload) {
+        Message<byte[]> message = encode(destination, payload);
+        simpMessagingTemplate.send(destination, message);
+        clusterRelay.relay(destination, message.getPayload());
+    }
+
+    // 직렬화된 STOMP MESSAGE
+    public Message<byte[]> encode(String destination, Object payload) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("브로드캐스트 payload 직렬화 실패 - destination: " + destination, e);
+        }
+        return toMessage(destination, body);
+    }
+
+    // 이미 직렬화된 JSON body 로 STOMP MESSAGE 구성 (다른 노드에서 중계받은 프레임 포함)
+    public static Message<byte[]> toMessage(String destination, byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+}
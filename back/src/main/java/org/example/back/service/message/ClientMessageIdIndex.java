@@ -0,0 +1,165 @@
+package org.example.back.service.message;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.repository.message.ChatMessageRepository;
+import org.example.back.util.bloom.ScalableBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * clientMessageId 중복 판별용 메모리 인덱스
+ * - 최근 저장된 clientMessageId -> messageId 를 LRU 로 보관해 재전송을 PK 조회로 처리한다.
+ * - 기동 시 DB 의 최근 loadWindow 개 clientMessageId 를 Bloom filter 에 적재하고, 저장 커밋 후 새 ID 를 추가한다.
+ * - Bloom filter 가 "본 적 없음" 이라고 하면 clientMessageId 인덱스 조회(SELECT)를 건너뛴다.
+ * - 적재가 끝나기 전에는 "본 적 없음" 을 믿을 수 없으므로 항상 DB 로 확인한다.
+ *
+ * 적재 범위와 크기
+ * - 전체 clientMessageId 를 매 기동마다 읽지 않도록 최근 loadWindow 개만 적재한다. (COUNT 후 N 번째 최신 메시지 ID 부터)
+ * - 첫 단계 용량은 max(initial-capacity, 적재 수 x 2) 로 잡아, 기동 후 같은 양이 더 쌓일 때까지 단계가 늘지 않는다.
+ * - 단계가 max-stages 를 넘어 버려지는 것은 가장 오래된 ID 들이므로, 적재 범위 밖과 같은 취급이다.
+ * - 트레이드오프: 범위 밖(오래된) 메시지의 clientMessageId 로 재전송하면 "없음" 으로 판단해 SELECT 를 건너뛴다.
+ *   재전송은 보통 수 초 안에 일어나므로 최근 수십만 건 안에 있고, 범위 밖 재전송은
+ *   client_message_id UNIQUE 제약 위반을 멱등 응답으로 바꾸는 처리(ChatStompController)가 막는다.
+ *   (write-behind BROADCAST_FIRST 에서는 이 경우 브로드캐스트된 뒤 적재가 실패할 수 있다)
+ * */
+@Slf4j
+@Component
+public class ClientMessageIdIndex {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int lruSize;
+    private final long bloomCapacity;
+    private final double bloomFpp;
+    private final int bloomMaxStages;
+    private final int loadWindow;
+
+    // 적재 시 적재량에 맞춘 필터로 교체한다.
+    private volatile ScalableBloomFilter bloomFilter;
+
+    private volatile boolean loaded = false;
+
+    private final LinkedHashMap<String, Long> recent;
+
+    private final LongAdder lruHits = new LongAdder();
+    private final LongAdder bloomSkips = new LongAdder();
+    private final LongAdder dbLookups = new LongAdder();
+
+    public ClientMessageIdIndex(ChatMessageRepository chatMessageRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.message.idempotency.lru-size:100000}") int lruSize,
+            @Value("${chat.message.idempotency.bloom.initial-capacity:1000000}") long bloomCapacity,
+            @Value("${chat.message.idempotency.bloom.fpp:0.001}") double bloomFpp,
+            @Value("${chat.message.idempotency.bloom.max-stages:4}") int bloomMaxStages,
+            @Value("${chat.message.idempotency.bloom.load-window:1000000}") int loadWindow) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lruSize = lruSize;
+        this.bloomCapacity = bloomCapacity;
+        this.bloomFpp = bloomFpp;
+        this.bloomMaxStages = bloomMaxStages;
+        this.loadWindow = loadWindow;
+        this.bloomFilter = new ScalableBloomFilter(bloomCapacity, bloomFpp, bloomMaxStages);
+        this.recent = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > ClientMessageIdIndex.this.lruSize;
+            }
+        };
+    }
+
+    // 기동 지연이 없도록 별도 스레드에서 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        Thread.ofVirtual().name("client-message-id-index-loader").start(this::load);
+    }
+
+    void load() {
+        try {
+            long count = readOnlyTransaction.execute(status -> {
+                long total = chatMessageRepository.countByClientMessageIdIsNotNull();
+                long fromId = total > loadWindow
+                        ? chatMessageRepository.findIdsWithClientMessageId(PageRequest.of(loadWindow - 1, 1))
+                                .stream().findFirst().orElse(0L)
+                        : 0L;
+
+                // 조회 전에 교체해야 조회 시작 후 커밋된 ID 가 record 로 새 필터에 들어간다.
+                ScalableBloomFilter filter = new ScalableBloomFilter(
+                        Math.max(bloomCapacity, Math.min(total, loadWindow) * 2), bloomFpp, bloomMaxStages);
+                bloomFilter = filter;
+
+                try (Stream<String> clientMessageIds = chatMessageRepository.streamClientMessageIdsFrom(fromId)) {
+                    return clientMessageIds.mapToLong(clientMessageId -> {
+                        filter.put(clientMessageId);
+                        return 1L;
+                    }).sum();
+                }
+            });
+            loaded = true;
+            log.info("[ClientMessageIdIndex] clientMessageId 인덱스 적재 완료 - count: {}, window: {}, bytes: {}",
+                    count, loadWindow, bloomFilter.getMemoryBytes());
+        } catch (RuntimeException e) {
+            log.warn("[ClientMessageIdIndex] clientMessageId 인덱스 적재 실패 - DB 조회로 중복 확인", e);
+        }
+    }
+
+    // 최근 저장된 메시지 ID
+    public Optional<Long> findRecent(String clientMessageId) {
+        Long messageId;
+        synchronized (recent) {
+            messageId = recent.get(clientMessageId);
+        }
+        if (messageId != null) {
+            lruHits.increment();
+        }
+        return Optional.ofNullable(messageId);
+    }
+
+    // DB 조회가 필요한지 (false 면 저장된 적 없는 ID 로 보고 조회를 건너뛴다)
+    public boolean mightExist(String clientMessageId) {
+        if (isAuthoritative() && !bloomFilter.mightContain(clientMessageId)) {
+            bloomSkips.increment();
+            return false;
+        }
+        dbLookups.increment();
+        return true;
+    }
+
+    // 저장(커밋) 완료된 메시지 등록
+    public void record(String clientMessageId, Long messageId) {
+        bloomFilter.put(clientMessageId);
+        synchronized (recent) {
+            recent.put(clientMessageId, messageId);
+        }
+    }
+
+    // 적재가 끝난 뒤에는 적재 범위(최근 loadWindow 개 + 이후 저장분) 안에서 "없음" 이 확실하다. (버려진 단계는 범위 밖 취급)
+    private boolean isAuthoritative() {
+        return loaded;
+    }
+
+    public IdempotencyStats stats() {
+        ScalableBloomFilter bloomFilter = this.bloomFilter;
+        int size;
+        synchronized (recent) {
+            size = recent.size();
+        }
+        return new IdempotencyStats(loaded, size, lruHits.sum(), bloomSkips.sum(), dbLookups.sum(),
+                bloomFilter.getStageCount(), bloomFilter.getDroppedStages(), bloomFilter.getMemoryBytes());
+    }
+
+    public record IdempotencyStats(boolean loaded, int lruEntries, long lruHits, long bloomSkips, long dbLookups,
+            int bloomStages, long bloomDroppedStages, long bloomBytes) {
+    }
+}
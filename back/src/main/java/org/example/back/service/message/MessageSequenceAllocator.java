@@ -0,0 +1,238 @@
+package org.example.back.service.message;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.repository.message.ChatMessageQueryRepository;
+import org.example.back.util.transaction.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 채팅방별 메시지 순번 발급기
+ * - 메시지마다 채팅방 행을 잠그지 않고 메모리의 AtomicLong 으로 1 씩 증가하는 순번을 발급한다.
+ * - 채팅방을 처음 사용할 때 DB 의 MAX(seq) 로 초기화하며, 초기화만 채팅방 ID 기준 stripe 락으로 직렬화한다.
+ *   (락을 잡은 채 DB 를 조회하므로 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock 을 쓴다.)
+ * - 발급한 트랜잭션이 롤백되면(clientMessageId 중복, WRITE_BUFFER_FULL 등) 그 순번을 돌려받아 다음 메시지가 다시 쓴다.
+ *   같은 방의 저장은 RoomSequencer 로 직렬화되므로 롤백 시점에는 보통 그 순번이 마지막 발급값이다.
+ *   그 사이 다른 순번이 발급됐거나 write-behind 적재가 실패한 경우에만 순번이 비며,
+ *   빈 순번은 읽음 처리 시 삭제 메시지와 같이 안읽은 수에서 제외된다. (ChatParticipantBatchRepository)
+ * - 다중 노드에서는 노드마다 따로 발급하므로 같은 순번이 나올 수 있다. uk_chat_message_room_seq 위반 시
+ *   retryOnSeqConflict 가 DB 의 MAX(seq) 로 다시 맞춘 뒤 저장을 재시도한다.
+ * - idle-evict-ms 동안 발급이 없고 write-behind 대기 메시지도 없는 채팅방은 메모리에서 제거하고, 다음 사용 때 다시 초기화한다.
+ * */
+@Slf4j
+@Component
+public class MessageSequenceAllocator {
+
+    // 제거가 확정된 순번의 lastUsedAt 표시값
+    private static final long RETIRED = -1L;
+
+    private static final String SEQ_CONSTRAINT = "uk_chat_message_room_seq";
+    private static final int MAX_CONFLICT_RETRIES = 3;
+
+    private final ChatMessageQueryRepository chatMessageQueryRepository;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final ReentrantLock[] stripes;
+    private final long idleEvictMs;
+
+    private final Map<Long, RoomSequence> sequences = new ConcurrentHashMap<>();
+
+    public MessageSequenceAllocator(ChatMessageQueryRepository chatMessageQueryRepository,
+            ChatMessageWriteBehindBuffer writeBehindBuffer,
+            @Value("${chat.message.seq.stripes:64}") int stripes,
+            @Value("${chat.message.seq.idle-evict-ms:600000}") long idleEvictMs) {
+        this.chatMessageQueryRepository = chatMessageQueryRepository;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.stripes = new ReentrantLock[Math.max(1, stripes)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.idleEvictMs = idleEvictMs;
+    }
+
+    // 새 메시지 순번 발급 (트랜잭션 안이면 롤백 시 release 로 되돌린다)
+    public long next(Long chatRoomId) {
+        while (true) {
+            RoomSequence sequence = sequence(chatRoomId);
+            long seq = sequence.value.incrementAndGet();
+            // 발급 직후 정리된 순번이면 버리고 DB 에서 다시 초기화한 순번으로 발급
+            if (sequence.touch()) {
+                TransactionUtils.runAfterRollback(() -> release(chatRoomId, seq));
+                return seq;
+            }
+        }
+    }
+
+    // 저장되지 않은 순번 반납. 그 뒤로 다른 순번이 발급되지 않았을 때만 되돌리고, 되돌리지 못하면 false (빈 순번으로 남음)
+    public boolean release(Long chatRoomId, long seq) {
+        RoomSequence sequence = sequences.get(chatRoomId);
+        if (sequence != null && sequence.value.compareAndSet(seq, seq - 1)) {
+            log.debug("메시지 순번 반납 - chatRoomId: {}, seq: {}", chatRoomId, seq);
+            return true;
+        }
+        log.warn("메시지 순번 반납 실패 - 이후 순번이 이미 발급됨. chatRoomId: {}, seq: {}", chatRoomId, seq);
+        return false;
+    }
+
+    // 마지막으로 발급한 순번 (메모리에 없는 채팅방이면 DB 에서 초기화)
+    public long current(Long chatRoomId) {
+        while (true) {
+            RoomSequence sequence = sequence(chatRoomId);
+            long seq = sequence.value.get();
+            if (sequence.touch()) {
+                return seq;
+            }
+        }
+    }
+
+    /*
+     * 순번 충돌(다른 노드가 같은 순번을 먼저 저장) 시 DB 기준으로 다시 맞추고 저장을 재시도한다.
+     * - save 는 자체 트랜잭션으로 실행되어야 하므로 트랜잭션 밖에서 호출한다.
+     * - 다른 제약 조건 위반(clientMessageId 중복 등)은 그대로 던진다.
+     * */
+    public <T> T retryOnSeqConflict(Long chatRoomId, Supplier<T> save) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return save.get();
+            } catch (DataIntegrityViolationException e) {
+                if (attempt > MAX_CONFLICT_RETRIES || !isSeqConflict(e)) {
+                    throw e;
+                }
+                long seq = reseed(chatRoomId);
+                log.info("메시지 순번 충돌 - DB 기준으로 다시 맞춘 뒤 재시도. chatRoomId: {}, seq: {}, attempt: {}",
+                        chatRoomId, seq, attempt);
+            }
+        }
+    }
+
+    public void retryOnSeqConflict(Long chatRoomId, Runnable save) {
+        retryOnSeqConflict(chatRoomId, () -> {
+            save.run();
+            return null;
+        });
+    }
+
+    // 메모리에 적재된 채팅방만 마지막 순번을 반환 (없으면 0, DB 조회 없음)
+    public long peek(Long chatRoomId) {
+        RoomSequence sequence = sequences.get(chatRoomId);
+        return sequence == null ? 0L : sequence.value.get();
+    }
+
+    /*
+     * 유휴 채팅방 순번 정리
+     * - write-behind 대기 메시지가 있는 채팅방은 DB 의 MAX(seq) 가 아직 뒤처져 있으므로 건드리지 않는다.
+     * - lastUsedAt 을 RETIRED 로 CAS 한 뒤에 제거하므로, 그 사이 발급된 순번은 touch 실패로 재발급된다.
+     * */
+    @Scheduled(fixedDelayString = "${chat.message.seq.idle-sweep-interval-ms:60000}")
+    public void evictIdle() {
+        if (sequences.isEmpty()) {
+            return;
+        }
+
+        Set<Long> pendingChatRoomIds = writeBehindBuffer.getPendingChatRoomIds();
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        Iterator<Map.Entry<Long, RoomSequence>> iterator = sequences.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, RoomSequence> entry = iterator.next();
+            Long chatRoomId = entry.getKey();
+            RoomSequence sequence = entry.getValue();
+            if (pendingChatRoomIds.contains(chatRoomId) || !sequence.retireIfIdle(now, idleEvictMs)) {
+                continue;
+            }
+            ReentrantLock lock = stripe(chatRoomId);
+            lock.lock();
+            try {
+                sequences.remove(chatRoomId, sequence);
+            } finally {
+                lock.unlock();
+            }
+            evicted++;
+        }
+
+        if (evicted > 0) {
+            log.debug("유휴 채팅방 순번 정리 - evicted: {}, remaining: {}", evicted, sequences.size());
+        }
+    }
+
+    private RoomSequence sequence(Long chatRoomId) {
+        RoomSequence sequence = sequences.get(chatRoomId);
+        if (sequence != null && !sequence.isRetired()) {
+            return sequence;
+        }
+
+        ReentrantLock lock = stripe(chatRoomId);
+        lock.lock();
+        try {
+            sequence = sequences.get(chatRoomId);
+            if (sequence == null || sequence.isRetired()) {
+                Long maxSeq = chatMessageQueryRepository.findMaxSeqByChatRoomId(chatRoomId);
+                sequence = new RoomSequence(maxSeq == null ? 0L : maxSeq);
+                sequences.put(chatRoomId, sequence);
+                log.debug("메시지 순번 초기화 - chatRoomId: {}, seq: {}", chatRoomId, sequence.value.get());
+            }
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // DB 의 MAX(seq) 이상으로 올린다. (이미 더 크면 그대로)
+    private long reseed(Long chatRoomId) {
+        Long maxSeq = chatMessageQueryRepository.findMaxSeqByChatRoomId(chatRoomId);
+        long floor = maxSeq == null ? 0L : maxSeq;
+        return sequence(chatRoomId).value.accumulateAndGet(floor, Math::max);
+    }
+
+    private static boolean isSeqConflict(DataIntegrityViolationException e) {
+        String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        return message.toLowerCase(Locale.ROOT).contains(SEQ_CONSTRAINT);
+    }
+
+    private ReentrantLock stripe(Long chatRoomId) {
+        return stripes[Math.floorMod(chatRoomId.hashCode(), stripes.length)];
+    }
+
+    private static final class RoomSequence {
+
+        private final AtomicLong value;
+        private final AtomicLong lastUsedAt = new AtomicLong(System.currentTimeMillis());
+
+        private RoomSequence(long initial) {
+            this.value = new AtomicLong(initial);
+        }
+
+        // 사용 시각 갱신. 이미 정리된 순번이면 false
+        private boolean touch() {
+            long now = System.currentTimeMillis();
+            while (true) {
+                long last = lastUsedAt.get();
+                if (last == RETIRED) {
+                    return false;
+                }
+                if (last >= now || lastUsedAt.compareAndSet(last, now)) {
+                    return true;
+                }
+            }
+        }
+
+        private boolean retireIfIdle(long now, long idleMs) {
+            long last = lastUsedAt.get();
+            return last != RETIRED && now - last >= idleMs && lastUsedAt.compareAndSet(last, RETIRED);
+        }
+
+        private boolean isRetired() {
+            return lastUsedAt.get() == RETIRED;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.back.service.message;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.dto.websocket.response.ReadReceiptBatchResponse;
+import org.example.back.dto.websocket.response.ReadReceiptResponse;
+import org.example.back.repository.participant.ChatParticipantBatchRepository;
+import org.example.back.repository.participant.ChatParticipantBatchRepository.LastReadUpdate;
+import org.example.back.service.room.RoomListDeltaPublisher;
+import org.example.back.util.websocket.ChatDestinations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 읽음 처리 집계기
+ * - 읽음 이벤트를 (채팅방, 회원) 단위로 모아 가장 큰 messageId 만 유지한다.
+ * - flush 주기마다 batch UPDATE 1회 + 채팅방당 읽음 브로드캐스트 1회로 반영한다.
+ * - 스크롤 중 초당 수십 건씩 들어오는 읽음 이벤트가 주기당 1건의 갱신으로 합쳐진다.
+ * */
+@Slf4j
+@Component
+public class ReadReceiptAggregator {
+
+    private final ChatParticipantBatchRepository chatParticipantBatchRepository;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final RoomListDeltaPublisher roomListDeltaPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<ReadKey, Long> pending = new ConcurrentHashMap<>();
+
+    public ReadReceiptAggregator(ChatParticipantBatchRepository chatParticipantBatchRepository,
+            ChatMessageWriteBehindBuffer writeBehindBuffer,
+            ChatRoomBroadcaster chatRoomBroadcaster,
+            RoomListDeltaPublisher roomListDeltaPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.chatParticipantBatchRepository = chatParticipantBatchRepository;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.roomListDeltaPublisher = roomListDeltaPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 읽음 이벤트 등록 (같은 회원의 이전 값보다 클 때만 갱신)
+    public void record(Long chatRoomId, Long memberId, Long messageId) {
+        pending.merge(new ReadKey(chatRoomId, memberId), messageId, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 꺼내는 사이 들어온 이벤트는 다음 주기에 반영된다.
+        List<LastReadUpdate> updates = new ArrayList<>();
+        for (ReadKey key : pending.keySet()) {
+            Long messageId = pending.remove(key);
+            if (messageId != null) {
+                updates.add(new LastReadUpdate(key.chatRoomId(), key.memberId(), messageId));
+            }
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        // 아직 적재 대기 중인 메시지를 읽은 경우를 위해 먼저 메시지 적재
+        if (writeBehindBuffer.isEnabled()) {
+            writeBehindBuffer.flush();
+        }
+
+        int[] results;
+        try {
+            results = transactionTemplate.execute(
+                    status -> chatParticipantBatchRepository.updateLastReadMessageIds(updates));
+        } catch (RuntimeException e) {
+            log.error("[ReadReceipt] 읽음 처리 batch 갱신 실패 - 다음 주기에 재시도. size: {}", updates.size(), e);
+            updates.forEach(update -> record(update.chatRoomId(), update.memberId(), update.messageId()));
+            return;
+        }
+
+        broadcast(updates, results);
+        log.debug("[ReadReceipt] 읽음 처리 flush 완료 - size: {}", updates.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void broadcast(List<LastReadUpdate> updates, int[] results) {
+        Map<Long, List<ReadReceiptResponse>> byRoom = new LinkedHashMap<>();
+
+        for (int i = 0; i < updates.size(); i++) {
+            // 실제 갱신된 항목만 전송 (역행하거나 다른 방 메시지를 가리키는 요청은 제외)
+            if (results[i] <= 0 && results[i] != Statement.SUCCESS_NO_INFO) {
+                continue;
+            }
+            LastReadUpdate update = updates.get(i);
+            roomListDeltaPublisher.onRead(update.chatRoomId(), update.memberId());
+            byRoom.computeIfAbsent(update.chatRoomId(), id -> new ArrayList<>())
+                    .add(ReadReceiptResponse.builder()
+                            .chatRoomId(update.chatRoomId())
+                            .memberId(update.memberId())
+                            .messageId(update.messageId())
+                            .build());
+        }
+
+        byRoom.forEach((chatRoomId, receipts) -> chatRoomBroadcaster.broadcast(
+                ChatDestinations.read(chatRoomId),
+                ReadReceiptBatchResponse.builder()
+                        .chatRoomId(chatRoomId)
+                        .receipts(receipts)
+                        .build()));
+    }
+
+    private record ReadKey(Long chatRoomId, Long memberId) {
+    }
+}
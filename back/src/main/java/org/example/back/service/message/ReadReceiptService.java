@@ -2,16 +2,16 @@ package org.example.back.service.message;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import org.example.back.domain.message.TypingStatus;
 import org.example.back.dto.websocket.request.ReadMessageRequest;
 import org.example.back.dto.websocket.response.ReadReceiptResponse;
+import org.example.back.dto.websocket.response.UnreadCountResponse;
 
 import java.util.List;
 
 public interface ReadReceiptService {
     
     // 메시지 읽음 처리 수행
-    @Operation(summary = "읽음 상태 업데이트", description = "메시지 유효성 확인 후 읽음 상태를 업데이트하고 브로드캐스트한다.")
+    @Operation(summary = "읽음 상태 업데이트", description = "읽음 이벤트를 집계기에 등록한다. flush 주기마다 batch 로 반영하고 채팅방 단위로 묶어 브로드캐스트한다.")
     void updateLastReadMessageId(
             @Parameter(description = "읽음 처리 요청 DTO") ReadMessageRequest request
     );
@@ -30,11 +30,9 @@ public interface ReadReceiptService {
             @Parameter(description = "회원 ID") Long memberId
     );
     
-    // 실시간 입력 상태 타이핑 브로드캐스트
-    @Operation(summary = "타이핑 상태 브로드캐스트", description = "채팅방 참여자들에게 타이핑 상태를 실시간 전송한다.")
-    void broadcastTypingStatus(
-            @Parameter(description = "채팅방 ID") Long chatRoomId,
-            @Parameter(description = "회원 ID") Long memberId,
-            @Parameter(description = "타이핑 상태") TypingStatus status
+    // 사용자가 참여 중인 모든 채팅방의 안읽은 메시지 수 반환
+    @Operation(summary = "전체 채팅방 안읽은 메시지 수 조회", description = "참여 중인 채팅방별 안읽은 메시지 수를 단일 쿼리로 조회해 반환한다.")
+    List<UnreadCountResponse> getUnreadMessageCounts(
+            @Parameter(description = "회원 ID") Long memberId
     );
 }
@@ -2,25 +2,22 @@ package org.example.back.service.message;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.back.domain.message.ChatMessage;
-import org.example.back.domain.message.TypingStatus;
-import org.example.back.domain.room.ChatParticipant;
 import org.example.back.dto.websocket.request.ReadMessageRequest;
 import org.example.back.dto.websocket.response.ReadReceiptResponse;
+import org.example.back.dto.websocket.response.UnreadCountResponse;
 import org.example.back.exception.chatroom.ChatRoomErrorCode;
 import org.example.back.exception.chatroom.ChatRoomException;
 import org.example.back.exception.message.ChatMessageErrorCode;
 import org.example.back.exception.message.ChatMessageException;
-import org.example.back.repository.message.ChatMessageQueryRepository;
-import org.example.back.repository.message.ChatMessageRepository;
 import org.example.back.repository.participant.ChatParticipantQueryRepository;
 import org.example.back.repository.participant.ChatParticipantRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.example.back.repository.participant.ParticipantUnreadSnapshot;
+import org.example.back.service.room.ChatRoomMembershipCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Service
@@ -28,33 +25,24 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class ReadReceiptServiceImpl implements ReadReceiptService {
     
-    private final ChatParticipantQueryRepository chatParticipantQueryRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
     private final ChatParticipantRepository chatParticipantRepository;
-    private final ChatMessageRepository chatMessageRepository;
-    private final ChatMessageQueryRepository chatMessageQueryRepository;
+    private final ChatParticipantQueryRepository chatParticipantQueryRepository;
+    private final ReadReceiptAggregator readReceiptAggregator;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final MessageSequenceAllocator messageSequenceAllocator;
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateLastReadMessageId(ReadMessageRequest request) {
         log.debug("[ReadReceipt] 시작 - 채팅방 ID={}, 사용자 ID={}, 메시지 ID={}",
                 request.getChatRoomId(), request.getMemberId(), request.getMessageId());
         
-        ChatMessage message = chatMessageRepository.findById(request.getMessageId())
-                .orElseThrow(() -> {
-                    log.warn("읽음 처리 실패 - 존재하지 않는 메시지 ID -MessageId: {}", request.getMessageId());
-                    return new ChatMessageException(ChatMessageErrorCode.MESSAGE_NOT_FOUND);
-                });
-        
-        if (!message.getChatRoom().getId().equals(request.getChatRoomId())) {
-            log.warn("읽음 처리 실패 - 메시지의 채팅방 ID 불일치. 요청={}, 실제={}",
-                    request.getChatRoomId(), message.getChatRoom().getId());
-            throw new ChatMessageException(ChatMessageErrorCode.MESSAGE_NOT_IN_ROOM);
+        if (request.getMessageId() == null) {
+            log.warn("읽음 처리 실패 - 메시지 ID 누락");
+            throw new ChatMessageException(ChatMessageErrorCode.MESSAGE_NOT_FOUND);
         }
         
-        boolean isParticipant = chatParticipantRepository.findByChatRoomIdAndMemberId(
-                        request.getChatRoomId(), request.getMemberId())
-                .isPresent();
+        boolean isParticipant = chatRoomMembershipCache.isMember(request.getChatRoomId(), request.getMemberId());
         
         if (!isParticipant) {
             log.warn("읽음 처리 실패 - 사용자가 해당 채팅방의 참여자가 아님 - chatRoomId={}, MemberId={}",
@@ -62,21 +50,9 @@ public class ReadReceiptServiceImpl implements ReadReceiptService {
             throw new ChatRoomException(ChatRoomErrorCode.NOT_PARTICIPANT);
         }
         
-        long updated = chatParticipantQueryRepository.updateLastReadMessageId(request);
-        
-        if (updated > 0) {
-            ReadReceiptResponse response = ReadReceiptResponse.builder()
-                    .chatRoomId(request.getChatRoomId())
-                    .memberId(request.getMemberId())
-                    .messageId(request.getMessageId())
-                    .build();
-            
-            simpMessagingTemplate.convertAndSend(
-                    "/sub/chat/room/" + request.getChatRoomId() + "/read", response);
-            log.debug("[ReadReceipt] 읽음 처리 성공 - 브로드캐스트 완료");
-        } else {
-            log.debug("[ReadReceipt] 읽음 처리 실패 - 업데이트 수 없음");
-        }
+        // 메모리에 모아 두었다가 주기적으로 batch UPDATE + 채팅방 단위 브로드캐스트
+        // (메시지 존재/채팅방 일치 여부는 batch UPDATE 조건으로 검증)
+        readReceiptAggregator.record(request.getChatRoomId(), request.getMemberId(), request.getMessageId());
     }
     
     @Override
@@ -84,9 +60,7 @@ public class ReadReceiptServiceImpl implements ReadReceiptService {
         log.debug("[ReadReceiptService] 채팅방 ID={} 읽음 상태 조회 시작 - 요청자 ID={}", chatRoomId, memberId);
         
         // 참여자 검증
-        boolean isParticipant = chatParticipantRepository.findByChatRoomIdAndMemberId(
-                        chatRoomId, memberId)
-                .isPresent();
+        boolean isParticipant = chatRoomMembershipCache.isMember(chatRoomId, memberId);
         
         if (!isParticipant) {
             log.warn("읽음 상태 조회 실패 - 채팅방 참여자가 아님 - chatRoomId={}, memberId={}", chatRoomId, memberId);
@@ -111,47 +85,31 @@ public class ReadReceiptServiceImpl implements ReadReceiptService {
         log.debug("[ReadReceipt] 안읽은 메시지 수 조회 시작 - chatRoomId={}, memberId={}", chatRoomId,
                 memberId);
         
-        ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndMemberId(
-                        chatRoomId, memberId)
+        // 안읽은 수 = 채팅방 마지막 순번 - 마지막 읽은 순번 - 읽지 않은 구간의 삭제 메시지 수
+        ParticipantUnreadSnapshot snapshot = chatParticipantQueryRepository.findUnreadSnapshot(chatRoomId, memberId)
                 .orElseThrow(() -> {
                     log.warn("채팅방 참여자 조회 실패 - chatRoomId={}, memberId={}", chatRoomId, memberId);
                     return new ChatRoomException(ChatRoomErrorCode.NOT_PARTICIPANT);
                 });
         
-        Long lastReadMessageId = participant.getLastReadMessageId();
-        
-        if (lastReadMessageId == null) {
-            lastReadMessageId = 0L;
-        }
-        
-        int count = chatMessageQueryRepository.countUnreadByChatRoomId(chatRoomId,
-                lastReadMessageId);
+        int count = (int) Math.min(Integer.MAX_VALUE, snapshot.unreadCount(messageSequenceAllocator.peek(chatRoomId)));
         log.debug("[ReadReceipt] 안읽은 메시지 수: {}", count);
         return count;
     }
     
     @Override
-    public void broadcastTypingStatus(Long chatRoomId, Long memberId, TypingStatus status) {
-        log.debug("[TypingStatus] 브로드캐스트 시작 - chatRoomId={}, memberId={}, status={}",
-                chatRoomId, memberId, status.getValue());
-        
-        String nickname = chatParticipantRepository.findByChatRoomIdAndMemberId(
-                        chatRoomId, memberId)
-                .map(p -> p.getMember().getNickname())
-                .orElseThrow(() -> {
-                    log.warn("타이핑 상태 전송 실패 - 채팅방 참여자 없음. chatRoomId={}, memberId={}",
-                            chatRoomId, memberId);
-                    return new ChatRoomException(ChatRoomErrorCode.NOT_PARTICIPANT);
-                });
+    public List<UnreadCountResponse> getUnreadMessageCounts(Long memberId) {
+        log.debug("[ReadReceipt] 전체 채팅방 안읽은 메시지 수 조회 시작 - memberId={}", memberId);
         
-        Map<String, Object> payload = Map.of(
-                "chatRoomId", chatRoomId,
-                "memberId", memberId,
-                "nickname", nickname,
-                "status", status.getValue()
-        );
+        List<UnreadCountResponse> result = chatParticipantQueryRepository.findUnreadSnapshots(memberId)
+                .stream()
+                .map(snapshot -> UnreadCountResponse.builder()
+                        .chatRoomId(snapshot.chatRoomId())
+                        .unreadCount(snapshot.unreadCount(messageSequenceAllocator.peek(snapshot.chatRoomId())))
+                        .build())
+                .toList();
         
-        final String destination = String.format("/sub/chat/room/%d/typing", chatRoomId);
-        simpMessagingTemplate.convertAndSend(destination, payload);
+        log.debug("[ReadReceipt] 전체 채팅방 안읽은 메시지 수 조회 완료 - 채팅방 수: {}", result.size());
+        return result;
     }
 }
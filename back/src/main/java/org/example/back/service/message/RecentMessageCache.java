@@ -0,0 +1,270 @@
+package org.example.back.service.message;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.domain.message.ChatMessage;
+import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.repository.message.ChatMessageQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 채팅방별 최근 메시지 캐시
+ * - 방마다 최근 perRoom 개의 ChatMessageResponse 를 링 버퍼로 보관해 방 입장 시 DB 조회 없이 응답한다.
+ * - 저장/수정/삭제/복구 시 커밋 후 갱신하며, 캐시에 없는 방은 첫 조회 때 DB 에서 채운다.
+ * - 전체 보관 메시지 수가 maxMessages 를 넘으면 가장 오래 사용하지 않은 방부터 제거(LRU)한다.
+ * - 커밋 후 갱신은 자기 노드에서 저장한 메시지만 보므로, 다중 노드(chat.cluster.enabled=true)에서는
+ *   다른 노드의 메시지가 빠진 목록을 돌려줄 수 있다. 이때는 캐시를 쓰지 않고 항상 DB 에서 조회한다.
+ * */
+@Slf4j
+@Component
+public class RecentMessageCache {
+
+    private final ChatMessageQueryRepository chatMessageQueryRepository;
+    private final int perRoom;
+    private final long maxMessages;
+    private final boolean enabled;
+
+    private final LinkedHashMap<Long, Ring> rooms = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedMessages = 0;
+
+    // 로딩 도중 변경이 있었는지 판단하기 위한 변경 카운터
+    private long mutationCount = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public RecentMessageCache(ChatMessageQueryRepository chatMessageQueryRepository,
+            @Value("${chat.message.recent-cache.per-room:50}") int perRoom,
+            @Value("${chat.message.recent-cache.max-messages:100000}") long maxMessages,
+            @Value("${chat.cluster.enabled:false}") boolean clusterEnabled) {
+        this.chatMessageQueryRepository = chatMessageQueryRepository;
+        this.perRoom = perRoom;
+        this.maxMessages = maxMessages;
+        this.enabled = !clusterEnabled;
+    }
+
+    // 최근 메시지 limit 개 (최신순). 캐시로 응답할 수 없으면 DB 조회 후 캐시를 채운다.
+    public List<ChatMessageResponse> getRecent(Long chatRoomId, int limit) {
+        // 다중 노드에서는 방을 적재하지 않으므로 onSaved 등 갱신도 반영할 방이 없어 그대로 지나간다.
+        if (!enabled || limit > perRoom) {
+            return load(chatRoomId, limit);
+        }
+
+        long loadedAt;
+        synchronized (this) {
+            Ring ring = rooms.get(chatRoomId);
+            if (ring != null && ring.canServe(limit)) {
+                hits.increment();
+                return ring.newest(limit);
+            }
+            misses.increment();
+            loadedAt = mutationCount;
+        }
+
+        List<ChatMessage> messages = chatMessageQueryRepository.findRecentMessagesByChatRoomId(chatRoomId, perRoom);
+        List<ChatMessageResponse> responses = messages.stream().map(ChatMessageResponse::from).toList();
+
+        synchronized (this) {
+            if (loadedAt == mutationCount) {
+                Ring ring = new Ring(perRoom, responses.size() < perRoom);
+                // DB 결과는 최신순이므로 역순으로 넣어 오래된 순으로 보관
+                for (int i = responses.size() - 1; i >= 0; i--) {
+                    ring.append(responses.get(i));
+                }
+                store(chatRoomId, ring);
+            }
+        }
+
+        return responses.subList(0, Math.min(limit, responses.size()));
+    }
+
+    // 새 메시지 저장 (캐시에 있는 방만 반영)
+    public synchronized void onSaved(ChatMessageResponse response) {
+        mutationCount++;
+        Ring ring = rooms.get(response.getChatRoomId());
+        if (ring == null) {
+            return;
+        }
+        int before = ring.size();
+        ring.insert(response);
+        cachedMessages += ring.size() - before;
+    }
+
+    // 메시지 수정: 같은 ID 를 새 응답으로 교체
+    public synchronized void onEdited(ChatMessageResponse response) {
+        mutationCount++;
+        Ring ring = rooms.get(response.getChatRoomId());
+        if (ring != null) {
+            ring.replace(response);
+        }
+    }
+
+    // 메시지 삭제: 최근 목록에서 제외
+    public synchronized void onDeleted(Long chatRoomId, Long messageId) {
+        mutationCount++;
+        Ring ring = rooms.get(chatRoomId);
+        if (ring != null && ring.remove(messageId)) {
+            cachedMessages--;
+        }
+    }
+
+    // 메시지 복구: 보관 범위 안이면 ID 순서에 맞게 다시 삽입
+    public synchronized void onRestored(ChatMessageResponse response) {
+        onSaved(response);
+    }
+
+    public synchronized void evict(Long chatRoomId) {
+        mutationCount++;
+        Ring removed = rooms.remove(chatRoomId);
+        if (removed != null) {
+            cachedMessages -= removed.size();
+        }
+    }
+
+    public synchronized RecentCacheStats stats() {
+        return new RecentCacheStats(hits.sum(), misses.sum(), evictions.sum(), rooms.size(), cachedMessages);
+    }
+
+    private List<ChatMessageResponse> load(Long chatRoomId, int limit) {
+        misses.increment();
+        return chatMessageQueryRepository.findRecentMessagesByChatRoomId(chatRoomId, limit).stream()
+                .map(ChatMessageResponse::from)
+                .toList();
+    }
+
+    // synchronized 블록 안에서만 호출
+    private void store(Long chatRoomId, Ring ring) {
+        Ring previous = rooms.put(chatRoomId, ring);
+        cachedMessages += ring.size() - (previous != null ? previous.size() : 0);
+
+        Iterator<Map.Entry<Long, Ring>> iterator = rooms.entrySet().iterator();
+        while (cachedMessages > maxMessages && iterator.hasNext()) {
+            Map.Entry<Long, Ring> eldest = iterator.next();
+            if (eldest.getKey().equals(chatRoomId)) {
+                continue;
+            }
+            cachedMessages -= eldest.getValue().size();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /*
+     * 메시지 ID 오름차순 링 버퍼
+     * - 가득 차면 가장 오래된 메시지를 덮어쓴다.
+     * - exhaustive: 방의 (삭제되지 않은) 메시지 전체를 보관 중인지 여부
+     * */
+    private static final class Ring {
+
+        private final ChatMessageResponse[] buffer;
+        private int head = 0; // 가장 오래된 원소 위치
+        private int size = 0;
+        private boolean exhaustive;
+
+        private Ring(int capacity, boolean exhaustive) {
+            this.buffer = new ChatMessageResponse[capacity];
+            this.exhaustive = exhaustive;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean canServe(int limit) {
+            return limit <= size || exhaustive;
+        }
+
+        List<ChatMessageResponse> newest(int limit) {
+            int count = Math.min(limit, size);
+            List<ChatMessageResponse> result = new ArrayList<>(count);
+            for (int i = size - 1; i >= size - count; i--) {
+                result.add(at(i));
+            }
+            return result;
+        }
+
+        // 초기 적재용: 오래된 순으로 뒤에 추가
+        void append(ChatMessageResponse response) {
+            set(size++, response);
+        }
+
+        void insert(ChatMessageResponse response) {
+            if (indexOf(response.getMessageId()) >= 0) {
+                replace(response);
+                return;
+            }
+
+            // 대부분 가장 최신이므로 뒤에서부터 삽입 위치 탐색
+            int position = size;
+            while (position > 0 && at(position - 1).getMessageId() > response.getMessageId()) {
+                position--;
+            }
+
+            // 보관 범위보다 오래된 메시지 (사이에 캐시되지 않은 메시지가 있을 수 있으므로 무시)
+            if (position == 0 && (!exhaustive || size == buffer.length)) {
+                return;
+            }
+
+            if (size == buffer.length) {
+                // 가장 오래된 메시지를 밀어낸다.
+                head = (head + 1) % buffer.length;
+                size--;
+                position--;
+                exhaustive = false;
+            }
+
+            for (int i = size; i > position; i--) {
+                set(i, at(i - 1));
+            }
+            set(position, response);
+            size++;
+        }
+
+        void replace(ChatMessageResponse response) {
+            int index = indexOf(response.getMessageId());
+            if (index >= 0) {
+                set(index, response);
+            }
+        }
+
+        boolean remove(Long messageId) {
+            int index = indexOf(messageId);
+            if (index < 0) {
+                return false;
+            }
+            for (int i = index; i < size - 1; i++) {
+                set(i, at(i + 1));
+            }
+            set(size - 1, null);
+            size--;
+            return true;
+        }
+
+        private int indexOf(Long messageId) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (at(i).getMessageId().equals(messageId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private ChatMessageResponse at(int index) {
+            return buffer[(head + index) % buffer.length];
+        }
+
+        private void set(int index, ChatMessageResponse value) {
+            buffer[(head + index) % buffer.length] = value;
+        }
+    }
+
+    public record RecentCacheStats(long hits, long misses, long evictions, int rooms, long messages) {
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.back.service.message;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 커밋 후 채팅방 브로드캐스트 (메모리 트랜잭션 아웃박스)
+ * - 트랜잭션 안에서 publish 한 이벤트는 트랜잭션별 묶음에 기록만 하고, 커밋된 뒤 한 번에 전송한다.
+ * - 롤백되면 묶음을 버리므로 저장되지 않은 메시지/이벤트는 절대 브로드캐스트되지 않는다.
+ * - 직렬화와 브로커 전달은 전용 스레드에서 처리하므로 요청 스레드는 커밋 직후 커넥션을 반납하고 돌아간다.
+ * - 채팅방 ID 로 stripe 를 고르고 stripe 마다 단일 스레드가 처리하므로, 같은 방 이벤트는 publish 순서대로 전송된다.
+ * */
+@Slf4j
+@Component
+public class RoomBroadcastOutbox {
+
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ExecutorService[] stripes;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public RoomBroadcastOutbox(ChatRoomBroadcaster chatRoomBroadcaster,
+            @Value("${chat.websocket.dispatch.stripes:4}") int stripeCount) {
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            String name = "room-broadcast-" + i;
+            stripes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // 진행 중인 트랜잭션이 커밋된 뒤 전송 (트랜잭션 밖이면 바로 전송 대기열에 넣는다)
+    public void publish(Long chatRoomId, String destination, Object payload) {
+        Pending pending = new Pending(chatRoomId, destination, payload);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(List.of(pending));
+            return;
+        }
+        currentBatch().add(pending);
+    }
+
+    public OutboxStats stats() {
+        return new OutboxStats(dispatched.sum(), discarded.sum(), failed.sum());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ExecutorService stripe : stripes) {
+            stripe.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // 현재 트랜잭션에 등록된 묶음 (REQUIRES_NEW 로 중단된 바깥 트랜잭션의 묶음과는 분리된다)
+    private Batch currentBatch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Batch batch) {
+                return batch;
+            }
+        }
+        Batch batch = new Batch();
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch;
+    }
+
+    // stripe 별로 나눠 stripe 당 작업 1건으로 제출
+    private void dispatch(List<Pending> events) {
+        List<List<Pending>> byStripe = new ArrayList<>(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            byStripe.add(null);
+        }
+        for (Pending event : events) {
+            int index = Math.floorMod(event.chatRoomId().hashCode(), stripes.length);
+            if (byStripe.get(index) == null) {
+                byStripe.set(index, new ArrayList<>());
+            }
+            byStripe.get(index).add(event);
+        }
+
+        for (int i = 0; i < stripes.length; i++) {
+            List<Pending> batch = byStripe.get(i);
+            if (batch != null) {
+                stripes[i].execute(() -> send(batch));
+            }
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        for (Pending event : batch) {
+            try {
+                chatRoomBroadcaster.broadcast(event.destination(), event.payload());
+                dispatched.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("[Outbox] 브로드캐스트 실패 - destination: {}", event.destination(), e);
+            }
+        }
+    }
+
+    /*
+     * 트랜잭션 하나에서 publish 된 이벤트 묶음
+     * - 커밋되면 전송, 그 외(롤백)에는 버린다.
+     * */
+    private final class Batch implements TransactionSynchronization {
+
+        private final List<Pending> events = new ArrayList<>();
+
+        void add(Pending pending) {
+            events.add(pending);
+        }
+
+        @Override
+        public void afterCommit() {
+            dispatch(events);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED && !events.isEmpty()) {
+                discarded.add(events.size());
+                log.debug("[Outbox] 롤백으로 브로드캐스트 폐기 - size: {}", events.size());
+            }
+        }
+    }
+
+    private record Pending(Long chatRoomId, String destination, Object payload) {
+    }
+
+    public record OutboxStats(long dispatched, long discarded, long failed) {
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.back.service.message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.example.back.config.properties.ChatClusterProperties;
+import org.example.back.config.properties.ChatMessageResyncProperties;
+import org.example.back.dto.message.event.ChatMessageEvent;
+import org.example.back.dto.message.response.ChatMessageResponse;
+import org.springframework.stereotype.Component;
+
+/*
+ * 채팅방별 최근 이벤트 로그 (재연결 동기화용)
+ * - 새 메시지, 수정/삭제/복구 이벤트를 커밋 후 순서대로 보관한다.
+ * - 각 이벤트에는 발생 시점까지 본 가장 큰 메시지 ID(watermark)를 기록한다.
+ *   lastMessageId 까지 받은 클라이언트는 watermark >= lastMessageId 인 이벤트만 다시 받으면 된다.
+ * - floor 이하 watermark 의 이벤트는 로그 생성 전이거나 이미 밀려났을 수 있으므로
+ *   lastMessageId <= floor 인 요청은 메모리로 응답하지 않는다. (단일 노드 전제)
+ * - 다중 노드(chat.cluster.enabled=true)에서는 다른 노드에서 커밋된 메시지/이벤트가 로그에 없으므로
+ *   기록하지 않고 replaySince 도 항상 empty 를 돌려 DB 로 동기화하게 한다.
+ * */
+@Component
+public class RoomEventLog {
+
+    private final int perRoom;
+    private final int maxRooms;
+    private final boolean enabled;
+
+    private final LinkedHashMap<Long, RoomLog> rooms = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, RoomLog> eldest) {
+            return size() > maxRooms;
+        }
+    };
+
+    public RoomEventLog(ChatMessageResyncProperties properties, ChatClusterProperties clusterProperties) {
+        this.perRoom = properties.getPerRoom();
+        this.maxRooms = properties.getMaxRooms();
+        this.enabled = !clusterProperties.isEnabled();
+    }
+
+    // 새 메시지 (로그가 없는 방은 이 메시지부터 기록 시작)
+    public synchronized void onSaved(ChatMessageResponse response) {
+        if (!enabled) {
+            return;
+        }
+        RoomLog log = rooms.computeIfAbsent(response.getChatRoomId(), id -> new RoomLog(response.getMessageId() - 1));
+        log.highWater = Math.max(log.highWater, response.getMessageId());
+        log.add(new Entry(response.getMessageId(), response, null));
+    }
+
+    // 수정/삭제/복구 (로그가 없는 방은 DB 로 동기화하므로 기록하지 않음)
+    public synchronized void onChanged(ChatMessageEvent event) {
+        RoomLog log = rooms.get(event.getChatRoomId());
+        if (log != null) {
+            log.add(new Entry(log.highWater, null, event));
+        }
+    }
+
+    // lastMessageId 이후 변경분. 메모리만으로 빠짐없이 응답할 수 없으면 empty
+    public synchronized Optional<Replay> replaySince(Long chatRoomId, Long lastMessageId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        RoomLog log = rooms.get(chatRoomId);
+        if (log == null || lastMessageId <= log.floor) {
+            return Optional.empty();
+        }
+
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        List<ChatMessageEvent> events = new ArrayList<>();
+        for (Entry entry : log.entries) {
+            if (entry.message() != null) {
+                if (entry.message().getMessageId() > lastMessageId) {
+                    messages.add(entry.message());
+                }
+            } else if (entry.watermark() >= lastMessageId) {
+                events.add(entry.event());
+            }
+        }
+        // 커밋 순서와 ID 순서가 다를 수 있으므로 ID 순으로 정렬
+        messages.sort(Comparator.comparing(ChatMessageResponse::getMessageId));
+        return Optional.of(new Replay(messages, events));
+    }
+
+    private final class RoomLog {
+
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private long floor;
+        private long highWater;
+
+        private RoomLog(long floor) {
+            this.floor = floor;
+            this.highWater = floor;
+        }
+
+        private void add(Entry entry) {
+            entries.addLast(entry);
+            while (entries.size() > perRoom) {
+                floor = Math.max(floor, entries.pollFirst().watermark());
+            }
+        }
+    }
+
+    private record Entry(long watermark, ChatMessageResponse message, ChatMessageEvent event) {
+    }
+
+    public record Replay(List<ChatMessageResponse> messages, List<ChatMessageEvent> events) {
+
+        public int size() {
+            return messages.size() + events.size();
+        }
+    }
+}
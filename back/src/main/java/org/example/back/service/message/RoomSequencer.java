@@ -0,0 +1,219 @@
+package org.example.back.service.message;
+
+import static org.example.back.exception.message.ChatMessageErrorCode.ROOM_SEQUENCER_BUSY;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.exception.message.ChatMessageException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 채팅방별 단일 작성자(single-writer) 실행기
+ * - 채팅방마다 메일박스(작업 대기열)를 두고, 한 번에 하나의 가상 스레드만 그 방의 작업을 순서대로 실행한다.
+ * - 메시지 저장 + 브로드캐스트, 수정/삭제/복구 이벤트를 같은 방 안에서는 도착 순서 그대로 커밋/전송한다.
+ * - 서로 다른 방은 각자의 가상 스레드에서 완전히 병렬로 진행되며, DB 락을 쓰지 않는다.
+ * - 대기열이 비면 메일박스를 제거하므로 유휴 방은 메모리를 차지하지 않는다.
+ * */
+@Slf4j
+@Component
+public class RoomSequencer {
+
+    private final int maxDepthPerRoom;
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 현재 스레드가 실행 중인 채팅방 (같은 방 작업 안에서 다시 호출하면 바로 실행해 교착을 막는다)
+    private final ThreadLocal<Long> currentRoom = new ThreadLocal<>();
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final LongAccumulator maxObservedDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+
+    public RoomSequencer(@Value("${chat.message.sequencer.max-depth-per-room:1000}") int maxDepthPerRoom) {
+        this.maxDepthPerRoom = maxDepthPerRoom;
+    }
+
+    // 채팅방 순서대로 실행하고 결과를 기다린다. 작업에서 발생한 예외는 그대로 다시 던진다.
+    public <T> T call(Long chatRoomId, Supplier<T> task) {
+        if (chatRoomId.equals(currentRoom.get())) {
+            return task.get();
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        submit(chatRoomId, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return await(future);
+    }
+
+    /*
+     * 채팅방 순서대로 실행하되 결과를 기다리지 않는다. (STOMP 수신 스레드처럼 막히면 안 되는 호출자용)
+     * - 대기열이 가득 차면 호출 스레드에서 바로 ROOM_SEQUENCER_BUSY 를 던진다.
+     * - 작업 안의 예외는 호출자에게 전달되지 않으므로 작업이 직접 처리해야 한다. (처리하지 않은 예외는 로그만 남김)
+     * */
+    public void execute(Long chatRoomId, Runnable task) {
+        if (chatRoomId.equals(currentRoom.get())) {
+            task.run();
+            return;
+        }
+
+        submit(chatRoomId, () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("채팅방 작업 실패 - chatRoomId: {}", chatRoomId, e);
+            }
+        });
+    }
+
+    public void run(Long chatRoomId, Runnable task) {
+        call(chatRoomId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public SequencerStats stats() {
+        return new SequencerStats(mailboxes.size(), queuedTasks.get(), maxObservedDepth.get(),
+                executedTasks.sum(), rejectedTasks.sum());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    private void submit(Long chatRoomId, Runnable task) {
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(chatRoomId, Mailbox::new);
+            Offer offer = mailbox.offer(task, maxDepthPerRoom);
+            switch (offer) {
+                case CLOSED -> {
+                    // 방금 비워져 제거된 메일박스: 새 메일박스로 다시 시도
+                    continue;
+                }
+                case FULL -> {
+                    rejectedTasks.increment();
+                    log.warn("채팅방 작업 대기열 포화 - chatRoomId: {}, depth: {}", chatRoomId, maxDepthPerRoom);
+                    throw new ChatMessageException(ROOM_SEQUENCER_BUSY);
+                }
+                case QUEUED -> queuedTasks.incrementAndGet();
+                case START -> {
+                    queuedTasks.incrementAndGet();
+                    executor.execute(() -> drain(mailbox));
+                }
+            }
+            maxObservedDepth.accumulate(mailbox.depth());
+            return;
+        }
+    }
+
+    // 메일박스가 빌 때까지 한 스레드에서 순서대로 실행
+    private void drain(Mailbox mailbox) {
+        currentRoom.set(mailbox.chatRoomId);
+        try {
+            Runnable next;
+            while ((next = mailbox.pollOrClose()) != null) {
+                queuedTasks.decrementAndGet();
+                try {
+                    next.run();
+                } finally {
+                    executedTasks.increment();
+                }
+            }
+            mailboxes.remove(mailbox.chatRoomId, mailbox);
+        } finally {
+            currentRoom.remove();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅방 작업 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private enum Offer {
+        START, QUEUED, FULL, CLOSED
+    }
+
+    /*
+     * 채팅방 하나의 작업 대기열
+     * - running: 실행 스레드가 붙어 있는지, closed: 비워져 제거된 메일박스인지
+     * */
+    private static final class Mailbox {
+
+        private final Long chatRoomId;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+        private boolean closed;
+
+        private Mailbox(Long chatRoomId) {
+            this.chatRoomId = chatRoomId;
+        }
+
+        synchronized Offer offer(Runnable task, int maxDepth) {
+            if (closed) {
+                return Offer.CLOSED;
+            }
+            if (tasks.size() >= maxDepth) {
+                return Offer.FULL;
+            }
+            tasks.add(task);
+            if (running) {
+                return Offer.QUEUED;
+            }
+            running = true;
+            return Offer.START;
+        }
+
+        // 다음 작업. 비어 있으면 메일박스를 닫고 null
+        synchronized Runnable pollOrClose() {
+            Runnable next = tasks.poll();
+            if (next == null) {
+                running = false;
+                closed = true;
+            }
+            return next;
+        }
+
+        synchronized int depth() {
+            return tasks.size();
+        }
+    }
+
+    public record SequencerStats(int activeRooms, int queuedTasks, long maxObservedDepth,
+            long executedTasks, long rejectedTasks) {
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.back.service.message;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.domain.message.TypingStatus;
+import org.example.back.dto.websocket.response.TypingStatusResponse;
+import org.example.back.service.room.ChatRoomMembershipCache;
+import org.example.back.util.websocket.ChatDestinations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 타이핑 상태 전송
+ * - 인바운드 스레드에서 DB 를 사용하지 않는다: 참여 여부는 참여자 캐시, 닉네임은 WebSocket 세션 속성에서 가져온다.
+ * - 참여자 캐시에 없는 방이면 가상 스레드에서 캐시를 채운 뒤 이어서 처리한다. (캐시 LRU 로 밀려난 방의 이벤트 유실 방지)
+ * - (채팅방, 회원) 단위로 같은 상태 반복을 걸러내고, typing 은 throttleMs 에 한 번만 브로드캐스트한다.
+ * - typing 후 expireMs 동안 아무 이벤트가 없으면 서버가 stop 을 대신 브로드캐스트한다. (연결 끊김, stop 누락 대응)
+ * */
+@Slf4j
+@Component
+public class TypingIndicator {
+
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final long throttleMs;
+    private final long expireMs;
+
+    // 현재 typing 중인 (채팅방, 회원)
+    private final Map<TypingKey, TypingState> typing = new ConcurrentHashMap<>();
+
+    private final LongAdder broadcasted = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    public TypingIndicator(ChatRoomBroadcaster chatRoomBroadcaster,
+            ChatRoomMembershipCache chatRoomMembershipCache,
+            @Value("${chat.typing.throttle-ms:3000}") long throttleMs,
+            @Value("${chat.typing.expire-ms:6000}") long expireMs) {
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.chatRoomMembershipCache = chatRoomMembershipCache;
+        this.throttleMs = throttleMs;
+        this.expireMs = expireMs;
+    }
+
+    public void onTyping(Long chatRoomId, Long memberId, String nickname, TypingStatus status) {
+        if (chatRoomMembershipCache.isCachedMember(chatRoomId, memberId)) {
+            handle(chatRoomId, memberId, nickname, status);
+            return;
+        }
+        if (chatRoomId == null || memberId == null || chatRoomMembershipCache.isCached(chatRoomId)) {
+            log.debug("[TypingStatus] 무시 - 참여자 아님. chatRoomId={}, memberId={}", chatRoomId, memberId);
+            suppressed.increment();
+            return;
+        }
+
+        /*
+         * 캐시에 없는 방: 인바운드 스레드를 막지 않도록 비동기로 캐시를 채우고 이어서 처리한다.
+         * - 로딩 중 들어온 typing/stop 의 처리 순서가 바뀌어도 typing 상태는 expireMs 후 stop 으로 정리된다.
+         * */
+        chatRoomMembershipCache.loadAsync(chatRoomId).whenComplete((memberIds, e) -> {
+            if (e != null) {
+                log.warn("[TypingStatus] 참여자 캐시 로딩 실패. chatRoomId={}", chatRoomId, e);
+                suppressed.increment();
+                return;
+            }
+            if (Arrays.binarySearch(memberIds, memberId) < 0) {
+                suppressed.increment();
+                return;
+            }
+            handle(chatRoomId, memberId, nickname, status);
+        });
+    }
+
+    private void handle(Long chatRoomId, Long memberId, String nickname, TypingStatus status) {
+        TypingKey key = new TypingKey(chatRoomId, memberId);
+        long now = System.currentTimeMillis();
+
+        if (status == TypingStatus.STOP) {
+            // typing 중이 아니었다면 stop 반복이므로 무시
+            if (typing.remove(key) == null) {
+                suppressed.increment();
+                return;
+            }
+            broadcast(chatRoomId, memberId, nickname, TypingStatus.STOP);
+            return;
+        }
+
+        boolean[] send = {false};
+        typing.compute(key, (k, state) -> {
+            if (state == null || now - state.lastBroadcastAt() >= throttleMs) {
+                send[0] = true;
+                return new TypingState(nickname, now, now);
+            }
+            return new TypingState(state.nickname(), state.lastBroadcastAt(), now);
+        });
+
+        if (send[0]) {
+            broadcast(chatRoomId, memberId, nickname, TypingStatus.TYPING);
+        } else {
+            suppressed.increment();
+        }
+    }
+
+    // 오래된 typing 상태를 stop 으로 정리
+    @Scheduled(fixedDelayString = "${chat.typing.sweep-interval-ms:1000}")
+    public void expireStale() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<TypingKey, TypingState>> iterator = typing.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<TypingKey, TypingState> entry = iterator.next();
+            TypingState state = entry.getValue();
+            if (now - state.lastSeenAt() < expireMs || !typing.remove(entry.getKey(), state)) {
+                continue;
+            }
+            expired.increment();
+            TypingKey key = entry.getKey();
+            broadcast(key.chatRoomId(), key.memberId(), state.nickname(), TypingStatus.STOP);
+        }
+    }
+
+    public TypingStats stats() {
+        return new TypingStats(typing.size(), broadcasted.sum(), suppressed.sum(), expired.sum());
+    }
+
+    private void broadcast(Long chatRoomId, Long memberId, String nickname, TypingStatus status) {
+        chatRoomBroadcaster.broadcast(ChatDestinations.typing(chatRoomId), TypingStatusResponse.builder()
+                .chatRoomId(chatRoomId)
+                .memberId(memberId)
+                .nickname(nickname)
+                .status(status.getValue())
+                .build());
+        broadcasted.increment();
+    }
+
+    private record TypingKey(Long chatRoomId, Long memberId) {
+    }
+
+    // lastBroadcastAt: 마지막 typing 브로드캐스트 시각, lastSeenAt: 마지막 typing 수신 시각
+    private record TypingState(String nickname, long lastBroadcastAt, long lastSeenAt) {
+    }
+
+    public record TypingStats(int typingMembers, long broadcasted, long suppressed, long expired) {
+    }
+}
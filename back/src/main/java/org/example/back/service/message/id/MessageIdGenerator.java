@@ -0,0 +1,11 @@
+package org.example.back.service.message.id;
+
+/*
+ * ChatMessage ID 발급기
+ * - DB IDENTITY 대신 애플리케이션에서 ID 를 발급해 INSERT batch 와 적재 전 브로드캐스트를 가능하게 한다.
+ * - 발급되는 ID 는 노드 내에서 단조 증가해야 한다. (lastReadMessageId 비교, id > lastRead 미읽음 계산이 의존)
+ * */
+public interface MessageIdGenerator {
+
+    long nextId();
+}
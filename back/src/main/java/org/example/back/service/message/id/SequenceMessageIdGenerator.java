@@ -0,0 +1,49 @@
+package org.example.back.service.message.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * 순차 메시지 ID 발급기 (기본값)
+ * - 최초 사용 시 MAX(id) 로 시드를 잡고 이후 메모리에서 1씩 단조 증가시킨다.
+ * - 기존 IDENTITY 값과 연속되고 JS Number 범위를 넘지 않는다. (단일 노드 전제)
+ * - 시드 조회는 DB 를 기다리므로 가상 스레드가 캐리어에 고정되지 않도록 ReentrantLock 으로 직렬화한다.
+ * */
+@Slf4j
+public class SequenceMessageIdGenerator implements MessageIdGenerator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong lastId = new AtomicLong();
+    private final ReentrantLock seedLock = new ReentrantLock();
+    private volatile boolean seeded = false;
+
+    public SequenceMessageIdGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long nextId() {
+        if (!seeded) {
+            seed();
+        }
+        return lastId.incrementAndGet();
+    }
+
+    private void seed() {
+        seedLock.lock();
+        try {
+            if (seeded) {
+                return;
+            }
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from chat_message", Long.class);
+            lastId.set(maxId == null ? 0L : maxId);
+            seeded = true;
+            log.info("순차 메시지 ID 발급기 초기화 - 시작 ID: {}", lastId.get() + 1);
+        } finally {
+            seedLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.back.service.message.id;
+
+import java.util.function.LongSupplier;
+
+/*
+ * Snowflake 방식 메시지 ID 발급기
+ * - 53bit = 기준 시각 이후 경과 ms(41, 약 69년) + 노드 ID(6) + 같은 ms 내 순번(6)
+ * - JSON 숫자로 내보내도 JS Number 의 안전한 정수 범위(2^53 - 1)를 넘지 않아 클라이언트에서 반올림되지 않는다.
+ *   대신 노드는 64 개, 노드당 ms 마다 64 개까지이며, 넘치는 발급은 다음 ms 를 미리 당겨 쓴다.
+ * - 여러 노드에서 충돌 없이 발급되며, 노드 내에서는 항상 단조 증가한다.
+ * - 시계가 뒤로 가거나 같은 ms 내 순번이 소진되면 마지막 시각을 논리적으로 1ms 앞당겨 사용한다.
+ * */
+public class SnowflakeMessageIdGenerator implements MessageIdGenerator {
+
+    static final int NODE_ID_BITS = 6;
+    static final int SEQUENCE_BITS = 6;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+    private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+    private final long epochMillis;
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeMessageIdGenerator(long nodeId, long epochMillis) {
+        this(nodeId, epochMillis, System::currentTimeMillis);
+    }
+
+    public SnowflakeMessageIdGenerator(long nodeId, long epochMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node-id 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.epochMillis = epochMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long timestamp = clock.getAsLong() - epochMillis;
+
+        if (timestamp <= lastTimestamp) {
+            // 같은 ms 이거나 시계가 뒤로 간 경우: 마지막 시각 기준으로 순번을 이어간다.
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            timestamp = sequence == 0 ? lastTimestamp + 1 : lastTimestamp;
+        } else {
+            sequence = 0L;
+        }
+
+        if (timestamp < 0 || timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Snowflake 기준 시각 범위를 벗어났습니다. epoch 설정을 확인하세요.");
+        }
+
+        lastTimestamp = timestamp;
+        return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
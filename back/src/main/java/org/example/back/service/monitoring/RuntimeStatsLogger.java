@@ -0,0 +1,65 @@
+package org.example.back.service.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.config.websocket.SlowConsumerInterceptor;
+import org.example.back.security.JwtTokenProvider;
+import org.example.back.security.PasswordHashingExecutor;
+import org.example.back.service.NicknameCheckRateLimiter;
+import org.example.back.service.NicknameIndex;
+import org.example.back.service.cluster.ClusterRelay;
+import org.example.back.service.message.ChatMessageWriteBehindBuffer;
+import org.example.back.service.message.ClientMessageIdIndex;
+import org.example.back.service.message.RecentMessageCache;
+import org.example.back.service.message.RoomBroadcastOutbox;
+import org.example.back.service.message.RoomSequencer;
+import org.example.back.service.message.TypingIndicator;
+import org.example.back.service.room.ChatRoomMembershipCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시, 대기열, 스레드 풀의 stats() 를 주기적으로 로그에 남긴다.
+ * - 적중률, 대기열 깊이, 거절 수를 운영 중에 확인하기 위한 용도
+ * - chat.monitoring.stats-log.enabled=false 면 등록하지 않는다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.monitoring.stats-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RuntimeStatsLogger {
+    
+    private final ChatRoomMembershipCache membershipCache;
+    private final RecentMessageCache recentMessageCache;
+    private final ClientMessageIdIndex clientMessageIdIndex;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final RoomSequencer roomSequencer;
+    private final RoomBroadcastOutbox broadcastOutbox;
+    private final TypingIndicator typingIndicator;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+    private final ClusterRelay clusterRelay;
+    private final NicknameIndex nicknameIndex;
+    private final NicknameCheckRateLimiter nicknameCheckRateLimiter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final JwtTokenProvider jwtTokenProvider;
+    
+    @Scheduled(initialDelayString = "${chat.monitoring.stats-log.interval-ms:60000}",
+            fixedDelayString = "${chat.monitoring.stats-log.interval-ms:60000}")
+    public void logStats() {
+        log.info("[Stats] membershipCache={}", membershipCache.stats());
+        log.info("[Stats] recentMessageCache={}", recentMessageCache.stats());
+        log.info("[Stats] clientMessageIdIndex={}", clientMessageIdIndex.stats());
+        log.info("[Stats] writeBehindPending={}", writeBehindBuffer.getPendingCount());
+        log.info("[Stats] roomSequencer={}", roomSequencer.stats());
+        log.info("[Stats] broadcastOutbox={}", broadcastOutbox.stats());
+        log.info("[Stats] typingIndicator={}", typingIndicator.stats());
+        log.info("[Stats] slowConsumer={}", slowConsumerInterceptor.stats());
+        log.info("[Stats] clusterRelay={}", clusterRelay.stats());
+        log.info("[Stats] nicknameIndex={}", nicknameIndex.stats());
+        log.info("[Stats] nicknameCheckRateLimiter={}", nicknameCheckRateLimiter.stats());
+        log.info("[Stats] passwordHashing={}", passwordHashingExecutor.stats());
+        log.info("[Stats] verifiedTokenCache={}", jwtTokenProvider.verifiedCacheStats());
+        log.info("[Stats] revokedTokenMembers={}", jwtTokenProvider.revokedMemberCount());
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.back.service.room;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.repository.participant.ChatParticipantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 채팅방 참여자 캐시
+ * - 메시지 전송, 읽음 처리, 입장 등 매 이벤트마다 발생하던 참여자 조회 SELECT 를 메모리 조회로 대체한다.
+ * - 방마다 정렬된 long[] 로 보관해 박싱 없이 이진 탐색하며, 배열은 불변으로 교체(copy-on-write)한다.
+ * - 전체 보관 회원 ID 수가 maxMemberIds 를 넘으면 가장 오래 사용하지 않은 방부터 제거(LRU)한다.
+ * - 참여자 변경(생성/초대/나가기)은 ChatRoomServiceImpl 에서 커밋 후 반영한다. (단일 노드 전제)
+ * */
+@Slf4j
+@Component
+public class ChatRoomMembershipCache {
+
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final long maxMemberIds;
+
+    // access-order LinkedHashMap: 조회할 때마다 가장 최근 위치로 이동
+    private final LinkedHashMap<Long, long[]> rooms = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedMemberIds = 0;
+
+    // 로딩 도중 참여자 변경이 있었는지 판단하기 위한 변경 카운터
+    private long mutationCount = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // 비동기 로딩 중인 방 (같은 방의 동시 요청은 한 번만 조회)
+    private final Map<Long, CompletableFuture<long[]>> loading = new ConcurrentHashMap<>();
+    private final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ChatRoomMembershipCache(ChatParticipantRepository chatParticipantRepository,
+            @Value("${chat.room.membership-cache.max-member-ids:200000}") long maxMemberIds) {
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.maxMemberIds = maxMemberIds;
+    }
+
+    public boolean isMember(Long chatRoomId, Long memberId) {
+        if (chatRoomId == null || memberId == null) {
+            return false;
+        }
+        return Arrays.binarySearch(getMemberIds(chatRoomId), memberId) >= 0;
+    }
+
+    // 캐시에 있는 방만 확인 (DB 를 조회하지 않으며, 캐시에 없는 방이면 false)
+    public boolean isCachedMember(Long chatRoomId, Long memberId) {
+        if (chatRoomId == null || memberId == null) {
+            return false;
+        }
+        long[] cached;
+        synchronized (this) {
+            cached = rooms.get(chatRoomId);
+        }
+        return cached != null && Arrays.binarySearch(cached, memberId) >= 0;
+    }
+
+    public synchronized boolean isCached(Long chatRoomId) {
+        return rooms.containsKey(chatRoomId);
+    }
+
+    // 호출 스레드를 막지 않고 가상 스레드에서 참여자를 적재 (휘발성 이벤트 처리용)
+    public CompletableFuture<long[]> loadAsync(Long chatRoomId) {
+        CompletableFuture<long[]> created = new CompletableFuture<>();
+        CompletableFuture<long[]> inFlight = loading.putIfAbsent(chatRoomId, created);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        loader.execute(() -> {
+            try {
+                created.complete(getMemberIds(chatRoomId));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            } finally {
+                loading.remove(chatRoomId, created);
+            }
+        });
+        return created;
+    }
+
+    // 정렬된 참여자 ID 배열 (호출자는 수정하지 않아야 함)
+    public long[] getMemberIds(Long chatRoomId) {
+        long loadedAt;
+        synchronized (this) {
+            long[] cached = rooms.get(chatRoomId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            loadedAt = mutationCount;
+        }
+
+        long[] loaded = toSortedArray(chatParticipantRepository.findMemberIdsByChatRoomId(chatRoomId));
+
+        synchronized (this) {
+            // 로딩 도중 참여자 변경이 반영됐다면 방금 읽은 값이 오래된 값일 수 있으므로 캐시하지 않는다.
+            if (loadedAt == mutationCount && !rooms.containsKey(chatRoomId)) {
+                store(chatRoomId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // 채팅방 생성 시 참여자 전체 등록
+    public synchronized void putRoom(Long chatRoomId, Collection<Long> memberIds) {
+        mutationCount++;
+        store(chatRoomId, toSortedArray(memberIds));
+    }
+
+    // 초대 등으로 참여자 추가 (캐시에 없는 방은 다음 조회 때 로딩)
+    public synchronized void addMembers(Long chatRoomId, Collection<Long> memberIds) {
+        mutationCount++;
+        long[] current = rooms.get(chatRoomId);
+        if (current == null) {
+            return;
+        }
+
+        long[] merged = LongStream.concat(
+                        Arrays.stream(current),
+                        memberIds.stream().mapToLong(Long::longValue))
+                .distinct()
+                .sorted()
+                .toArray();
+        store(chatRoomId, merged);
+    }
+
+    // 나가기 등으로 참여자 제거
+    public synchronized void removeMember(Long chatRoomId, Long memberId) {
+        mutationCount++;
+        long[] current = rooms.get(chatRoomId);
+        if (current == null) {
+            return;
+        }
+
+        int index = Arrays.binarySearch(current, memberId);
+        if (index < 0) {
+            return;
+        }
+
+        long[] result = new long[current.length - 1];
+        System.arraycopy(current, 0, result, 0, index);
+        System.arraycopy(current, index + 1, result, index, current.length - index - 1);
+        store(chatRoomId, result);
+    }
+
+    public synchronized void evict(Long chatRoomId) {
+        mutationCount++;
+        long[] removed = rooms.remove(chatRoomId);
+        if (removed != null) {
+            cachedMemberIds -= removed.length;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loader.close();
+    }
+
+    public synchronized MembershipCacheStats stats() {
+        return new MembershipCacheStats(hits.sum(), misses.sum(), evictions.sum(), rooms.size(), cachedMemberIds);
+    }
+
+    // synchronized 블록 안에서만 호출
+    private void store(Long chatRoomId, long[] memberIds) {
+        long[] previous = rooms.put(chatRoomId, memberIds);
+        cachedMemberIds += memberIds.length - (previous != null ? previous.length : 0);
+        evictColdRooms(chatRoomId);
+    }
+
+    private void evictColdRooms(Long keepRoomId) {
+        Iterator<Map.Entry<Long, long[]>> iterator = rooms.entrySet().iterator();
+        while (cachedMemberIds > maxMemberIds && iterator.hasNext()) {
+            Map.Entry<Long, long[]> eldest = iterator.next();
+            if (eldest.getKey().equals(keepRoomId)) {
+                continue;
+            }
+            cachedMemberIds -= eldest.getValue().length;
+            iterator.remove();
+            evictions.increment();
+            log.debug("참여자 캐시 제거 (LRU) - chatRoomId: {}", eldest.getKey());
+        }
+    }
+
+    private static long[] toSortedArray(Collection<Long> memberIds) {
+        return memberIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+    }
+
+    public record MembershipCacheStats(long hits, long misses, long evictions, int rooms, long memberIds) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
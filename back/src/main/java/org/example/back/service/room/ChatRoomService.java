@@ -9,6 +9,7 @@ import org.example.back.dto.room.request.LeaveChatRoomRequest;
 import org.example.back.dto.room.response.ChatRoomResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * 채팅방 관련 서비스 인터페이스 주요 기능:
@@ -31,6 +32,9 @@ public interface ChatRoomService {
     @Operation(summary = "내 채팅방 목록 조회", description = "요청자의 참여 중인 채팅방 목록을 페이징하여 조회합니다.")
     Page<ChatRoomResponse> getMyChatRooms(Long memberId, Pageable pageable);
     
+    @Operation(summary = "내 채팅방 목록 조회 (Slice)", description = "전체 개수(count) 조회 없이 다음 페이지 존재 여부만 판단해 채팅방 목록을 조회합니다. 무한 스크롤용입니다.")
+    Slice<ChatRoomResponse> getMyChatRoomSlice(Long memberId, Pageable pageable);
+    
     @Operation(summary = "채팅방에 멤버 초대", description = "기존 그룹 채팅방에 새로운 멤버들을 초대합니다. (PRIVATE 방 초대 불가)")
     void inviteMembers(Long chatRoomId, Long memberId, InviteChatRoomRequest request);
     
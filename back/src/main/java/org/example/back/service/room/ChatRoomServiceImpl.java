@@ -6,7 +6,9 @@ import static org.example.back.exception.member.MemberErrorCode.USER_NOT_FOUND;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,14 +23,20 @@ import org.example.back.dto.room.request.LeaveChatRoomRequest;
 import org.example.back.dto.room.response.ChatRoomResponse;
 import org.example.back.exception.chatroom.ChatRoomException;
 import org.example.back.exception.member.MemberException;
+import org.example.back.repository.participant.ChatParticipantQueryRepository;
 import org.example.back.repository.participant.ChatParticipantRepository;
+import org.example.back.repository.participant.RoomMemberId;
 import org.example.back.repository.room.ChatRoomQueryRepository;
 import org.example.back.repository.room.ChatRoomRepository;
 import org.example.back.repository.MemberRepository;
+import org.example.back.service.message.MessageSequenceAllocator;
+import org.example.back.util.transaction.TransactionUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,8 +48,12 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatParticipantQueryRepository chatParticipantQueryRepository;
     private final ChatRoomQueryRepository chatRoomQueryRepository;
     private final MemberRepository memberRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final RoomListDeltaPublisher roomListDeltaPublisher;
+    private final MessageSequenceAllocator messageSequenceAllocator;
 
     @Override
     @Transactional
@@ -71,6 +83,10 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                     List<Long> participantIds = Stream.of(requester.getId(), target.getId())
                             .sorted()
                             .toList();
+                    TransactionUtils.runAfterCommit(() -> {
+                        chatRoomMembershipCache.putRoom(chatRoom.getId(), participantIds);
+                        roomListDeltaPublisher.onJoined(chatRoom, participantIds);
+                    });
 
                     return ChatRoomResponse.from(chatRoom, participantIds);
                 });
@@ -105,6 +121,10 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .map(member -> member.getId())
                 .sorted()
                 .toList();
+        TransactionUtils.runAfterCommit(() -> {
+            chatRoomMembershipCache.putRoom(chatRoom.getId(), participantIds);
+            roomListDeltaPublisher.onJoined(chatRoom, participantIds);
+        });
 
         return ChatRoomResponse.from(chatRoom, participantIds);
     }
@@ -119,13 +139,21 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
         Page<ChatRoom> chatRooms = chatRoomQueryRepository.findMyChatRooms(member.getId(), pageable);
 
-        List<ChatRoomResponse> responses = chatRooms.getContent().stream()
-                .map(chatRoom -> {
-                    List<Long> participantIds = getParticipantIds(chatRoom);
-                    return ChatRoomResponse.from(chatRoom, participantIds);
-                }).toList();
+        return new PageImpl<>(toResponses(chatRooms.getContent()), pageable, chatRooms.getTotalElements());
+    }
+
+    @Override
+    public Slice<ChatRoomResponse> getMyChatRoomSlice(Long memberId, Pageable pageable) {
 
-        return new PageImpl<>(responses, pageable, chatRooms.getTotalElements());
+        pageable = (pageable != null) ? pageable : PageRequest.of(0, 20);
+
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberException(USER_NOT_FOUND);
+        }
+
+        Slice<ChatRoom> chatRooms = chatRoomQueryRepository.findMyChatRoomSlice(memberId, pageable);
+
+        return new SliceImpl<>(toResponses(chatRooms.getContent()), pageable, chatRooms.hasNext());
     }
 
     @Override
@@ -148,12 +176,22 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .filter(member -> !existingMemberIds.contains(member.getId()))
                 .toList();
 
+        // 초대 시점까지의 메시지는 읽은 것으로 시작 (적재 대기 중인 메시지 순번까지 포함)
+        long currentSeq = newMembers.isEmpty() ? 0L : messageSequenceAllocator.current(chatRoomId);
         List<ChatParticipant> newParticipants = newMembers.stream()
-                .map(member -> ChatParticipant.create(chatRoom, member))
+                .map(member -> ChatParticipant.create(chatRoom, member, currentSeq))
                 .toList();
 
         if (!newParticipants.isEmpty()) {
             chatParticipantRepository.saveAll(newParticipants);
+
+            List<Long> newMemberIds = newMembers.stream()
+                    .map(Member::getId)
+                    .toList();
+            TransactionUtils.runAfterCommit(() -> {
+                chatRoomMembershipCache.addMembers(chatRoomId, newMemberIds);
+                roomListDeltaPublisher.onJoined(chatRoom, newMemberIds);
+            });
         }
     }
 
@@ -175,6 +213,10 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         }
 
         chatParticipantRepository.deleteByMemberIdAndChatRoomId(request.getMemberId(), chatRoomId);
+        TransactionUtils.runAfterCommit(() -> {
+            chatRoomMembershipCache.removeMember(chatRoomId, request.getMemberId());
+            roomListDeltaPublisher.onRemoved(chatRoomId, List.of(request.getMemberId()));
+        });
 
         List<ChatParticipant> remainingParticipants = chatParticipantRepository.findByChatRoomId(chatRoomId);
 
@@ -192,7 +234,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
             throw new ChatRoomException(ALREADY_DELETED_ROOM);
         }
 
-        boolean isParticipant = chatParticipantRepository.findByChatRoomId(chatRoomId).stream()
+        List<ChatParticipant> participants = chatParticipantRepository.findByChatRoomId(chatRoomId);
+        boolean isParticipant = participants.stream()
                 .anyMatch(cp -> cp.getMember().getId().equals(memberId));
 
         if (!isParticipant) {
@@ -200,6 +243,11 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         }
 
         chatRoom.markAsDeleted();
+
+        List<Long> memberIds = participants.stream()
+                .map(cp -> cp.getMember().getId())
+                .toList();
+        TransactionUtils.runAfterCommit(() -> roomListDeltaPublisher.onRemoved(chatRoomId, memberIds));
     }
 
     private Member findMemberById(Long memberId) {
@@ -212,6 +260,24 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .orElseThrow(() -> new ChatRoomException(ROOM_NOT_FOUND));
     }
 
+    // 페이지 내 모든 채팅방의 참여자 ID 를 한 번의 쿼리로 조회해 응답 조립
+    private List<ChatRoomResponse> toResponses(List<ChatRoom> chatRooms) {
+        if (chatRooms.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getId).toList();
+        Map<Long, List<Long>> participantIdsByRoom = chatParticipantQueryRepository.findMemberIdsByChatRoomIds(chatRoomIds)
+                .stream()
+                .collect(Collectors.groupingBy(RoomMemberId::chatRoomId,
+                        Collectors.mapping(RoomMemberId::memberId, Collectors.toList())));
+
+        return chatRooms.stream()
+                .map(chatRoom -> ChatRoomResponse.from(chatRoom,
+                        participantIdsByRoom.getOrDefault(chatRoom.getId(), List.of())))
+                .toList();
+    }
+
     private List<Long> getParticipantIds(ChatRoom chatRoom) {
 
         List<ChatParticipant> participants = chatParticipantRepository.findByChatRoomId(chatRoom.getId());
@@ -0,0 +1,155 @@
+package org.example.back.service.room;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.repository.room.ChatRoomBatchRepository;
+import org.example.back.repository.room.ChatRoomBatchRepository.LastMessageUpdate;
+import org.example.back.repository.room.ChatRoomBatchRepository.PreviewUpdate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 채팅방 마지막 메시지 정보 갱신기
+ * - 메시지 저장 경로에서 채팅방 행을 직접 갱신하지 않고, 채팅방별 가장 최신 메시지만 메모리에 모은다.
+ * - flush 주기마다 batch UPDATE 1회로 last_message_id / last_message_at / last_message_preview 를 반영한다.
+ * - 활발한 채팅방도 주기당 1건의 갱신으로 합쳐지므로 채팅방 행 잠금 경합이 생기지 않는다.
+ * - 마지막 메시지가 수정/삭제/복구되면 미리보기를 다시 계산해, 여전히 마지막 메시지인 경우에만 반영한다.
+ * */
+@Slf4j
+@Component
+public class RoomActivityUpdater {
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    private final ChatRoomBatchRepository chatRoomBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LastMessageUpdate> pending = new ConcurrentHashMap<>();
+    // messageId -> 수정/삭제/복구 후 미리보기
+    private final Map<Long, PreviewUpdate> pendingPreviews = new ConcurrentHashMap<>();
+
+    public RoomActivityUpdater(ChatRoomBatchRepository chatRoomBatchRepository,
+            PlatformTransactionManager transactionManager) {
+        this.chatRoomBatchRepository = chatRoomBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 새 메시지 등록 (같은 채팅방의 이전 값보다 최신일 때만 교체)
+    public void record(ChatMessageResponse message) {
+        LocalDateTime createdAt = message.getCreatedAt() != null ? message.getCreatedAt() : LocalDateTime.now();
+        LastMessageUpdate update = new LastMessageUpdate(
+                message.getChatRoomId(), message.getMessageId(), createdAt, preview(message));
+        pending.merge(update.chatRoomId(), update, RoomActivityUpdater::newer);
+    }
+
+    /*
+     * 메시지 수정/삭제/복구 (삭제된 메시지는 ChatMessageResponse 가 내용을 가리므로 미리보기도 가려진다)
+     * - 아직 반영 전인 마지막 메시지면 대기 중인 값의 미리보기를 바꾼다.
+     * - DB 에는 last_message_id 가 이 메시지일 때만 미리보기를 다시 쓴다.
+     * */
+    public void onChanged(ChatMessageResponse message) {
+        String preview = preview(message);
+        pending.computeIfPresent(message.getChatRoomId(), (chatRoomId, update) ->
+                update.messageId().equals(message.getMessageId())
+                        ? new LastMessageUpdate(chatRoomId, update.messageId(), update.createdAt(), preview)
+                        : update);
+        pendingPreviews.put(message.getMessageId(),
+                new PreviewUpdate(message.getChatRoomId(), message.getMessageId(), preview));
+    }
+
+    // 채팅방의 마지막 메시지인지 (반영 대기 중인 값이 있으면 그 값, 없으면 DB 에 반영된 값 기준)
+    public boolean isLastMessage(Long chatRoomId, Long messageId, Long persistedLastMessageId) {
+        LastMessageUpdate update = pending.get(chatRoomId);
+        if (update != null && update.messageId() > (persistedLastMessageId == null ? 0L : persistedLastMessageId)) {
+            return update.messageId().equals(messageId);
+        }
+        return messageId.equals(persistedLastMessageId);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.room.activity.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty() && pendingPreviews.isEmpty()) {
+            return;
+        }
+
+        // 꺼내는 사이 들어온 메시지는 다음 주기에 반영된다.
+        List<LastMessageUpdate> updates = new ArrayList<>();
+        for (Long chatRoomId : pending.keySet()) {
+            LastMessageUpdate update = pending.remove(chatRoomId);
+            if (update != null) {
+                updates.add(update);
+            }
+        }
+        // 마지막 메시지를 먼저 반영해야 같은 주기에 들어온 미리보기 갱신이 조건에 맞는다.
+        List<PreviewUpdate> previews = new ArrayList<>();
+        for (Long messageId : pendingPreviews.keySet()) {
+            PreviewUpdate preview = pendingPreviews.remove(messageId);
+            if (preview != null) {
+                previews.add(preview);
+            }
+        }
+        if (updates.isEmpty() && previews.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!updates.isEmpty()) {
+                    chatRoomBatchRepository.updateLastMessages(updates);
+                }
+                if (!previews.isEmpty()) {
+                    chatRoomBatchRepository.updatePreviews(previews);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("[RoomActivity] 채팅방 마지막 메시지 batch 갱신 실패 - 다음 주기에 재시도. size: {}, previews: {}",
+                    updates.size(), previews.size(), e);
+            updates.forEach(update -> pending.merge(update.chatRoomId(), update, RoomActivityUpdater::newer));
+            previews.forEach(preview -> pendingPreviews.putIfAbsent(preview.messageId(), preview));
+            return;
+        }
+
+        log.debug("[RoomActivity] 채팅방 마지막 메시지 flush 완료 - size: {}, previews: {}", updates.size(), previews.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private static LastMessageUpdate newer(LastMessageUpdate current, LastMessageUpdate candidate) {
+        return candidate.messageId() > current.messageId() ? candidate : current;
+    }
+
+    // 채팅방 목록 미리보기 문구 (RoomListDeltaPublisher 와 공유)
+    static String preview(ChatMessageResponse message) {
+        if (message.getType() == null) {
+            return truncate(message.getContent());
+        }
+        return switch (message.getType()) {
+            case IMAGE -> "사진";
+            case FILE -> message.getFile() != null ? truncate("파일: " + message.getFile().getOriginalName()) : "파일";
+            default -> truncate(message.getContent());
+        };
+    }
+
+    private static String truncate(String text) {
+        if (text == null || text.length() <= PREVIEW_LENGTH) {
+            return text;
+        }
+        int end = PREVIEW_LENGTH - 1;
+        // 이모지 등 서로게이트 쌍이 잘리지 않도록 조정
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + "…";
+    }
+}
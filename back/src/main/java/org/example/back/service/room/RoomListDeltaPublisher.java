@@ -0,0 +1,310 @@
+package org.example.back.service.room;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.example.back.domain.room.ChatRoom;
+import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.dto.room.response.RoomListDelta;
+import org.example.back.dto.room.response.RoomListDelta.Type;
+import org.example.back.repository.participant.ChatParticipantQueryRepository;
+import org.example.back.service.cluster.ClusterRelay;
+import org.example.back.service.message.MessageSequenceAllocator;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 채팅방 목록 변경분 push
+ * - 메시지 저장, 읽음 반영, 참여자 변경 시 접속 중인 회원에게 /user/queue/rooms 로 변경분을 보낸다.
+ * - 회원별·채팅방별로 한 주기 동안 모아 1건으로 합치므로, 바쁜 방이라도 회원당 주기마다 1번만 전송된다.
+ * - 접속하지 않은 회원은 기록하지 않는다. (다시 접속하면 목록 API 로 새로 조회)
+ * - 다중 노드에서는 이벤트를 ClusterRelay 로 다른 노드에 보내, 각 노드가 자기 노드에 접속한 회원의 변경분을 만든다.
+ * */
+@Slf4j
+@Component
+public class RoomListDeltaPublisher {
+
+    private static final String DESTINATION = "/queue/rooms";
+    private static final String CLUSTER_CHANNEL = "room-list";
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ChatParticipantQueryRepository chatParticipantQueryRepository;
+    private final MessageSequenceAllocator messageSequenceAllocator;
+    private final ClusterRelay clusterRelay;
+
+    // memberId -> (chatRoomId -> 변경분)
+    private Map<Long, Map<Long, Pending>> pending = new HashMap<>();
+
+    public RoomListDeltaPublisher(SimpMessagingTemplate simpMessagingTemplate,
+            SimpUserRegistry simpUserRegistry,
+            ChatRoomMembershipCache chatRoomMembershipCache,
+            ChatParticipantQueryRepository chatParticipantQueryRepository,
+            MessageSequenceAllocator messageSequenceAllocator,
+            ClusterRelay clusterRelay) {
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.simpUserRegistry = simpUserRegistry;
+        this.chatRoomMembershipCache = chatRoomMembershipCache;
+        this.chatParticipantQueryRepository = chatParticipantQueryRepository;
+        this.messageSequenceAllocator = messageSequenceAllocator;
+        this.clusterRelay = clusterRelay;
+    }
+
+    // 다른 노드에 접속한 회원의 변경분은 그 노드가 계산하도록 이벤트를 중계받는다.
+    @PostConstruct
+    void subscribeCluster() {
+        clusterRelay.subscribe(CLUSTER_CHANNEL, RoomEvent.class, this::applyRelayed);
+    }
+
+    // 새 메시지: 참여자 전원의 목록에서 채팅방을 맨 위로, 보낸 사람 외에는 안읽은 수 +1
+    public void onMessageSaved(ChatMessageResponse message) {
+        publish(RoomEvent.message(EventKind.MESSAGE_SAVED, message, RoomActivityUpdater.preview(message)));
+    }
+
+    // 마지막 메시지 수정/삭제/복구: 순서는 그대로 두고 미리보기만 교체 (더 최신 메시지가 모여 있으면 무시)
+    public void onLastMessageChanged(ChatMessageResponse message) {
+        publish(RoomEvent.message(EventKind.LAST_MESSAGE_CHANGED, message, RoomActivityUpdater.preview(message)));
+    }
+
+    // 읽음 반영: 해당 회원의 안읽은 수를 전송 시점에 다시 계산
+    public void onRead(Long chatRoomId, Long memberId) {
+        publish(new RoomEvent(EventKind.READ, chatRoomId, List.of(memberId),
+                null, null, null, null, null, null));
+    }
+
+    // 채팅방 생성/초대로 참여
+    public void onJoined(ChatRoom chatRoom, Collection<Long> memberIds) {
+        publish(new RoomEvent(EventKind.JOINED, chatRoom.getId(), List.copyOf(memberIds),
+                null, null, null, null, chatRoom.getName(), chatRoom.getType().name()));
+    }
+
+    // 나가기/채팅방 삭제
+    public void onRemoved(Long chatRoomId, Collection<Long> memberIds) {
+        publish(new RoomEvent(EventKind.REMOVED, chatRoomId, List.copyOf(memberIds),
+                null, null, null, null, null, null));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.room.delta.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Map<Long, Pending>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+
+        batch.forEach((memberId, rooms) -> {
+            List<RoomListDelta> deltas = new ArrayList<>(rooms.size());
+            rooms.forEach((chatRoomId, delta) -> deltas.add(toDelta(memberId, chatRoomId, delta)));
+            simpMessagingTemplate.convertAndSendToUser(String.valueOf(memberId), DESTINATION, deltas);
+        });
+        log.debug("[RoomListDelta] 채팅방 목록 변경분 전송 - 회원 수: {}", batch.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private RoomListDelta toDelta(Long memberId, Long chatRoomId, Pending delta) {
+        if (delta.type == Type.REMOVED) {
+            return RoomListDelta.builder().type(Type.REMOVED).chatRoomId(chatRoomId).build();
+        }
+
+        RoomListDelta.RoomListDeltaBuilder builder = RoomListDelta.builder()
+                .type(delta.type)
+                .chatRoomId(chatRoomId)
+                .name(delta.name)
+                .roomType(delta.roomType)
+                .lastMessageId(delta.lastMessageId)
+                .lastMessageAt(delta.lastMessageAt)
+                .lastMessagePreview(delta.lastMessagePreview);
+
+        // 재계산이 필요하면 절대값, 아니면 증가분만 보낸다.
+        if (delta.recount) {
+            chatParticipantQueryRepository.findUnreadSnapshot(chatRoomId, memberId)
+                    .ifPresent(snapshot -> builder.unreadCount(
+                            snapshot.unreadCount(messageSequenceAllocator.peek(chatRoomId))));
+        } else if (delta.unreadDelta > 0) {
+            builder.unreadDelta(delta.unreadDelta);
+        }
+        return builder.build();
+    }
+
+    private void publish(RoomEvent event) {
+        apply(event);
+        clusterRelay.relayEvent(CLUSTER_CHANNEL, event);
+    }
+
+    // 다른 노드의 참여자 변경이면 이 노드의 참여자 캐시도 비워 다음 조회 때 DB 에서 다시 읽는다.
+    private void applyRelayed(RoomEvent event) {
+        if (event.kind() == EventKind.JOINED || event.kind() == EventKind.REMOVED) {
+            chatRoomMembershipCache.evict(event.chatRoomId());
+        }
+        apply(event);
+    }
+
+    // 이 노드에 접속한 회원의 변경분만 기록
+    private void apply(RoomEvent event) {
+        switch (event.kind()) {
+            case MESSAGE_SAVED -> applyMessageSaved(event);
+            case LAST_MESSAGE_CHANGED -> applyLastMessageChanged(event);
+            case READ -> applyRead(event);
+            case JOINED -> applyJoined(event);
+            case REMOVED -> applyRemoved(event);
+        }
+    }
+
+    private void applyMessageSaved(RoomEvent event) {
+        for (long memberId : chatRoomMembershipCache.getMemberIds(event.chatRoomId())) {
+            if (!isOnline(memberId)) {
+                continue;
+            }
+            boolean unread = event.senderId() == null || event.senderId() != memberId;
+            synchronized (this) {
+                Pending delta = pendingFor(memberId, event.chatRoomId());
+                delta.raise(Type.BUMPED);
+                if (delta.lastMessageId == null || event.messageId() > delta.lastMessageId) {
+                    delta.lastMessageId = event.messageId();
+                    delta.lastMessageAt = event.createdAt();
+                    delta.lastMessagePreview = event.preview();
+                }
+                if (unread) {
+                    delta.unreadDelta++;
+                }
+            }
+        }
+    }
+
+    private void applyLastMessageChanged(RoomEvent event) {
+        for (long memberId : chatRoomMembershipCache.getMemberIds(event.chatRoomId())) {
+            if (!isOnline(memberId)) {
+                continue;
+            }
+            synchronized (this) {
+                Pending delta = pendingFor(memberId, event.chatRoomId());
+                delta.raise(Type.BUMPED);
+                if (delta.lastMessageId == null || event.messageId().equals(delta.lastMessageId)) {
+                    delta.lastMessageId = event.messageId();
+                    delta.lastMessageAt = event.createdAt();
+                    delta.lastMessagePreview = event.preview();
+                }
+            }
+        }
+    }
+
+    private void applyRead(RoomEvent event) {
+        for (Long memberId : event.memberIds()) {
+            if (!isOnline(memberId)) {
+                continue;
+            }
+            synchronized (this) {
+                Pending delta = pendingFor(memberId, event.chatRoomId());
+                delta.raise(Type.UNREAD_CHANGED);
+                delta.recount = true;
+            }
+        }
+    }
+
+    private void applyJoined(RoomEvent event) {
+        for (Long memberId : event.memberIds()) {
+            if (!isOnline(memberId)) {
+                continue;
+            }
+            synchronized (this) {
+                Pending delta = pendingFor(memberId, event.chatRoomId());
+                delta.raise(Type.ADDED);
+                delta.name = event.name();
+                delta.roomType = event.roomType();
+                delta.recount = true;
+            }
+        }
+    }
+
+    private void applyRemoved(RoomEvent event) {
+        for (Long memberId : event.memberIds()) {
+            if (!isOnline(memberId)) {
+                continue;
+            }
+            synchronized (this) {
+                pendingFor(memberId, event.chatRoomId()).raise(Type.REMOVED);
+            }
+        }
+    }
+
+    private boolean isOnline(long memberId) {
+        return simpUserRegistry.getUser(String.valueOf(memberId)) != null;
+    }
+
+    // synchronized 블록 안에서만 호출
+    private Pending pendingFor(Long memberId, Long chatRoomId) {
+        return pending.computeIfAbsent(memberId, id -> new HashMap<>())
+                .computeIfAbsent(chatRoomId, id -> new Pending());
+    }
+
+    private static final class Pending {
+
+        private Type type = Type.UNREAD_CHANGED;
+        private String name;
+        private String roomType;
+        private Long lastMessageId;
+        private LocalDateTime lastMessageAt;
+        private String lastMessagePreview;
+        private int unreadDelta;
+        private boolean recount;
+
+        /*
+         * 같은 주기에 모인 변경 합치기
+         * - ADDED / REMOVED 는 참여 상태이므로 마지막 값이 이긴다. (나갔다 다시 초대되면 ADDED)
+         * - BUMPED / UNREAD_CHANGED 는 참여 상태를 덮지 않고, 둘 중 더 강한 쪽(BUMPED)으로 합친다.
+         * */
+        private void raise(Type candidate) {
+            if (candidate == Type.ADDED || candidate == Type.REMOVED) {
+                type = candidate;
+                return;
+            }
+            if (type != Type.ADDED && type != Type.REMOVED && candidate.ordinal() > type.ordinal()) {
+                type = candidate;
+            }
+        }
+    }
+
+    enum EventKind {
+        MESSAGE_SAVED,
+        LAST_MESSAGE_CHANGED,
+        READ,
+        JOINED,
+        REMOVED
+    }
+
+    // 노드 간 중계 단위 (해당 종류에 필요한 값만 채운다)
+    record RoomEvent(
+            EventKind kind,
+            Long chatRoomId,
+            List<Long> memberIds,
+            Long messageId,
+            LocalDateTime createdAt,
+            String preview,
+            Long senderId,
+            String name,
+            String roomType
+    ) {
+
+        static RoomEvent message(EventKind kind, ChatMessageResponse message, String preview) {
+            Long senderId = message.getSender() != null ? message.getSender().getId() : null;
+            return new RoomEvent(kind, message.getChatRoomId(), List.of(),
+                    message.getMessageId(), message.getCreatedAt(), preview, senderId, null, null);
+        }
+    }
+}
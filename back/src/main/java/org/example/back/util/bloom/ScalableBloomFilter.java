@@ -0,0 +1,160 @@
+package org.example.back.util.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/*
+ * 확장형(scalable) Bloom filter
+ * - 단계(stage)마다 고정 크기 비트 배열을 쓰고, 현재 단계가 capacity 만큼 차면 growth 배 큰 단계를 새로 추가한다.
+ * - 새 단계는 오탐률을 tightening 배로 줄여 전체 오탐률이 처음 설정한 값 근처로 유지된다.
+ * - 단계가 maxStages 를 넘으면 가장 오래된 단계를 버린다. (오래된 값은 "없음" 으로 판단될 수 있으므로 최종 판단은 호출자 몫)
+ * - mightContain 이 false 면 넣은 적이 없다는 뜻이고, true 면 넣었을 수도 있다는 뜻이다.
+ * */
+public class ScalableBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final double growth;
+    private final double tightening;
+    private final int maxStages;
+
+    private final Deque<Stage> stages = new ArrayDeque<>();
+    private long nextCapacity;
+    private double nextFpp;
+    private long droppedStages = 0;
+
+    public ScalableBloomFilter(long initialCapacity, double fpp, int maxStages) {
+        this(initialCapacity, fpp, 2.0, 0.5, maxStages);
+    }
+
+    public ScalableBloomFilter(long initialCapacity, double fpp, double growth, double tightening, int maxStages) {
+        if (initialCapacity <= 0 || fpp <= 0 || fpp >= 1 || maxStages <= 0) {
+            throw new IllegalArgumentException("잘못된 Bloom filter 설정");
+        }
+        this.growth = growth;
+        this.tightening = tightening;
+        this.maxStages = maxStages;
+        this.nextCapacity = initialCapacity;
+        this.nextFpp = fpp;
+        addStage();
+    }
+
+    public synchronized boolean mightContain(String value) {
+        long hash = hash(value);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 값을 추가한다. 이미 있을 수도 있으면 추가하지 않고 false 를 반환한다.
+    public synchronized boolean put(String value) {
+        long hash = hash(value);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return false;
+            }
+        }
+
+        Stage current = stages.peekLast();
+        if (current.isFull()) {
+            current = addStage();
+        }
+        current.put(hash);
+        return true;
+    }
+
+    public synchronized int getStageCount() {
+        return stages.size();
+    }
+
+    public synchronized long getDroppedStages() {
+        return droppedStages;
+    }
+
+    // 전체 비트 배열 크기 (bytes)
+    public synchronized long getMemoryBytes() {
+        return stages.stream().mapToLong(stage -> stage.bits.length * 8L).sum();
+    }
+
+    private Stage addStage() {
+        Stage stage = new Stage(nextCapacity, nextFpp);
+        stages.addLast(stage);
+        if (stages.size() > maxStages) {
+            stages.removeFirst();
+            droppedStages++;
+        }
+        nextCapacity = (long) Math.ceil(nextCapacity * growth);
+        nextFpp = nextFpp * tightening;
+        return stage;
+    }
+
+    // UTF-8 bytes 의 FNV-1a 64bit 에 murmur3 finalizer 를 적용
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /*
+     * 고정 크기 Bloom filter 한 단계
+     * - 64bit 해시 하나를 둘로 나눠 k 개의 위치를 만든다. (Kirsch-Mitzenmacher)
+     * */
+    private static final class Stage {
+
+        private final long[] bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final long capacity;
+        private long size = 0;
+
+        private Stage(long capacity, double fpp) {
+            long m = (long) Math.ceil(-capacity * Math.log(fpp) / (LN2 * LN2));
+            this.bitCount = Math.max(64, m);
+            this.bits = new long[(int) ((bitCount + 63) / 64)];
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+            this.capacity = capacity;
+        }
+
+        boolean isFull() {
+            return size >= capacity;
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                bits[(int) (index >>> 6)] |= 1L << index;
+            }
+            size++;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.back.util.pagination;
+
+import static org.example.back.exception.message.ChatMessageErrorCode.INVALID_CURSOR;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.example.back.exception.message.ChatMessageException;
+
+/*
+ * 메시지 히스토리 커서 (keyset 페이징)
+ * - 방향(BEFORE/AFTER) + 기준 메시지 ID 를 Base64url 로 인코딩한 불투명 문자열로 주고받는다.
+ * - 클라이언트는 값을 해석하지 않고 응답의 nextCursor 를 그대로 다음 요청에 넘긴다.
+ * - BEFORE 에 messageId 가 null 이면 가장 최신 메시지부터 조회한다.
+ * - AFTER 는 기준 메시지의 채팅방 순번(seq) 이후를 순번 순으로 조회한다. (ID 는 노드별 발급이라 저장 순서와 어긋날 수 있음)
+ * */
+public record MessageCursor(Direction direction, Long messageId) {
+
+    private static final String SEPARATOR = ":";
+
+    public enum Direction {
+        BEFORE, // messageId 보다 오래된 메시지 (최신순)
+        AFTER   // messageId 메시지의 순번보다 뒤의 메시지 (순번 순)
+    }
+
+    public static MessageCursor latest() {
+        return new MessageCursor(Direction.BEFORE, null);
+    }
+
+    public static MessageCursor before(Long messageId) {
+        return new MessageCursor(Direction.BEFORE, messageId);
+    }
+
+    public static MessageCursor after(Long messageId) {
+        if (messageId == null) {
+            throw new ChatMessageException(INVALID_CURSOR);
+        }
+        return new MessageCursor(Direction.AFTER, messageId);
+    }
+
+    public String encode() {
+        String raw = direction.name() + SEPARATOR + (messageId == null ? "" : messageId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MessageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            Direction direction = Direction.valueOf(raw.substring(0, separatorIndex));
+            String id = raw.substring(separatorIndex + 1);
+
+            if (id.isEmpty()) {
+                return direction == Direction.BEFORE ? latest() : after(null);
+            }
+            return new MessageCursor(direction, Long.parseLong(id));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ChatMessageException(INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.back.util.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/*
+ * DB 문자열 비교 규칙(MySQL utf8mb4 의 _ai_ci 계열 collation)에 맞춘 비교 키
+ * - 대소문자, 악센트(결합 문자), 끝 공백을 무시한다. ("Abc ", "abc", "ábc" 는 같은 키)
+ * - 고유 제약이 같은 값으로 보는 문자열을 애플리케이션에서도 같은 값으로 판단하기 위해 사용한다.
+ * - collation 을 완전히 재현하지는 않으므로 최종 판단은 DB 고유 제약이 한다.
+ * */
+public final class CollationKey {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{Mn}+");
+    private static final Pattern TRAILING_SPACES = Pattern.compile(" +$");
+
+    private CollationKey() {
+    }
+
+    public static String of(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = TRAILING_SPACES.matcher(value).replaceFirst("");
+        String decomposed = Normalizer.normalize(trimmed, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        // 한글 등 분해된 문자는 다시 합쳐 원래 형태로 비교
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    // NULL 은 고유 제약에서 서로 같지 않으므로 어느 한쪽이라도 null 이면 false
+    public static boolean matches(String a, String b) {
+        return a != null && b != null && of(a).equals(of(b));
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.back.util.websocket;
+
+import lombok.experimental.UtilityClass;
+
+/*
+ * 채팅방 STOMP 구독 주소 모음
+ * */
+@UtilityClass
+public class ChatDestinations {
+
+    public static final String ROOM_PREFIX = "/sub/chat/room/";
+
+    // 새 메시지 / 시스템 메시지
+    public static String room(Long chatRoomId) {
+        return ROOM_PREFIX + chatRoomId;
+    }
+
+    public static String edit(Long chatRoomId) {
+        return room(chatRoomId) + "/edit";
+    }
+
+    public static String delete(Long chatRoomId) {
+        return room(chatRoomId) + "/delete";
+    }
+
+    public static String restore(Long chatRoomId) {
+        return room(chatRoomId) + "/restore";
+    }
+
+    public static String read(Long chatRoomId) {
+        return room(chatRoomId) + "/read";
+    }
+
+    public static String typing(Long chatRoomId) {
+        return room(chatRoomId) + "/typing";
+    }
+}
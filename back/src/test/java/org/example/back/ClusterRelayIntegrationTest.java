@@ -0,0 +1,169 @@
+package org.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.example.back.service.message.ChatRoomBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+
+@DisplayName("다중 노드 브로드캐스트 중계 통합 테스트")
+class ClusterRelayIntegrationTest {
+
+    private static final String DESTINATION = "/sub/chat/room/1";
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void 정리() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("IN_MEMORY: 한 노드의 브로드캐스트가 다른 모든 노드 구독자에게 한 번씩 전달")
+    void 메모리_중계() throws Exception {
+        // given
+        String group = UUID.randomUUID().toString();
+        ConfigurableApplicationContext nodeA = start("node-a", "--chat.cluster.transport=IN_MEMORY",
+                "--chat.cluster.in-memory-group=" + group);
+        ConfigurableApplicationContext nodeB = start("node-b", "--chat.cluster.transport=IN_MEMORY",
+                "--chat.cluster.in-memory-group=" + group);
+        ConfigurableApplicationContext nodeC = start("node-c", "--chat.cluster.transport=IN_MEMORY",
+                "--chat.cluster.in-memory-group=" + group);
+
+        BlockingQueue<Message<?>> receivedA = subscribe(nodeA, "session-a");
+        BlockingQueue<Message<?>> receivedB = subscribe(nodeB, "session-b");
+        BlockingQueue<Message<?>> receivedC = subscribe(nodeC, "session-c");
+
+        // when
+        nodeA.getBean(ChatRoomBroadcaster.class).broadcast(DESTINATION, Map.of("content", "hello"));
+
+        // then
+        assertDelivered(receivedA, "session-a");
+        assertDelivered(receivedB, "session-b");
+        assertDelivered(receivedC, "session-c");
+
+        // 중계받은 노드가 다시 중계하지 않으므로 중복 수신 없음
+        assertThat(receivedA.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(receivedB.poll(300, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("TCP: peer 연결 전에 보낸 브로드캐스트도 연결 후 전달")
+    void TCP_중계() throws Exception {
+        // given
+        int portA = freePort();
+        int portB = freePort();
+        ConfigurableApplicationContext nodeA = start("node-a", "--chat.cluster.transport=TCP",
+                "--chat.cluster.tcp.port=" + portA, "--chat.cluster.tcp.peers=127.0.0.1:" + portB,
+                "--chat.cluster.tcp.reconnect-delay-ms=100");
+        ConfigurableApplicationContext nodeB = start("node-b", "--chat.cluster.transport=TCP",
+                "--chat.cluster.tcp.port=" + portB, "--chat.cluster.tcp.peers=127.0.0.1:" + portA,
+                "--chat.cluster.tcp.reconnect-delay-ms=100");
+
+        BlockingQueue<Message<?>> receivedA = subscribe(nodeA, "session-a");
+        BlockingQueue<Message<?>> receivedB = subscribe(nodeB, "session-b");
+
+        // when
+        nodeA.getBean(ChatRoomBroadcaster.class).broadcast(DESTINATION, Map.of("content", "hello"));
+        nodeB.getBean(ChatRoomBroadcaster.class).broadcast(DESTINATION, Map.of("content", "hello"));
+
+        // then
+        assertDelivered(receivedA, "session-a");
+        assertDelivered(receivedA, "session-a");
+        assertDelivered(receivedB, "session-b");
+        assertDelivered(receivedB, "session-b");
+    }
+
+    @Test
+    @DisplayName("SEQUENCE ID 생성기로는 클러스터 모드 기동 거부")
+    void SEQUENCE_생성기_기동_거부() {
+        // given
+        String[] arguments = {
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:node-seq-" + UUID.randomUUID(),
+                "--chat.cluster.enabled=true",
+                "--chat.cluster.transport=IN_MEMORY",
+                "--chat.message.id.generator=SEQUENCE"
+        };
+
+        // when & then
+        assertThatThrownBy(() -> new SpringApplicationBuilder(BackApplication.class).run(arguments))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("chat.cluster.enabled=true 에는 chat.message.id.generator=SNOWFLAKE 가 필요합니다.");
+    }
+
+    private ConfigurableApplicationContext start(String nodeId, String... args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + nodeId + "-" + UUID.randomUUID(),
+                "--chat.cluster.enabled=true",
+                "--chat.cluster.node-id=" + nodeId,
+                "--chat.message.id.generator=SNOWFLAKE",
+                "--chat.message.id.node-id=" + (nodes.size() + 1)));
+        arguments.addAll(List.of(args));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackApplication.class)
+                .run(arguments.toArray(String[]::new));
+        nodes.add(context);
+        return context;
+    }
+
+    // 노드의 simple broker 에 세션을 연결(CONNECT)하고 구독을 등록한 뒤, 그 세션으로 나가는 MESSAGE 프레임을 수집
+    private BlockingQueue<Message<?>> subscribe(ConfigurableApplicationContext node, String sessionId) {
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        node.getBean("clientOutboundChannel", SubscribableChannel.class).subscribe(message -> {
+            if (sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))
+                    && SimpMessageType.MESSAGE == SimpMessageHeaderAccessor.getMessageType(message.getHeaders())) {
+                received.add(message);
+            }
+        });
+
+        // simple broker 는 CONNECT 로 세션 정보를 만든 세션에만 메시지를 보낸다.
+        SimpleBrokerMessageHandler broker = node.getBean("simpleBrokerMessageHandler", SimpleBrokerMessageHandler.class);
+        SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        connect.setSessionId(sessionId);
+        broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        subscribe.setSessionId(sessionId);
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination(DESTINATION);
+        broker.handleMessage(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        return received;
+    }
+
+    private void assertDelivered(BlockingQueue<Message<?>> received, String sessionId) throws InterruptedException {
+        Message<?> message = received.poll(10, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())).isEqualTo(sessionId);
+        assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8)).contains("hello");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
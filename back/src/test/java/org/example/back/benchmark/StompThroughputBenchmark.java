@@ -0,0 +1,300 @@
+package org.example.back.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.example.back.BackApplication;
+import org.example.back.domain.member.Member;
+import org.example.back.domain.room.ChatParticipant;
+import org.example.back.domain.room.ChatRoom;
+import org.example.back.repository.MemberRepository;
+import org.example.back.repository.participant.ChatParticipantRepository;
+import org.example.back.repository.room.ChatRoomRepository;
+import org.example.back.security.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/*
+ * 다중 연결 STOMP 처리량 측정 (플랫폼 스레드 vs 가상 스레드)
+ * - 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * - H2 메모리 DB 는 너무 빨라 차이가 드러나지 않으므로, SQL 실행마다 benchmark.db-latency-ms 만큼 지연시켜 원격 DB 를 흉내낸다.
+ * - 두 단계를 잰다: 연결(CONNECT 시 입장 처리) → 전송(각 연결이 자기 메시지의 브로드캐스트를 모두 받을 때까지)
+ * - 설정: benchmark.connections(기본 400), benchmark.room-size(기본 10), benchmark.messages(연결당, 기본 10),
+ *   benchmark.db-latency-ms(기본 2), benchmark.pool-size(Hikari, 기본 10)
+ * */
+@Tag("benchmark")
+@DisplayName("STOMP 다중 연결 처리량 벤치마크")
+class StompThroughputBenchmark {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 400);
+    private static final int ROOM_SIZE = Integer.getInteger("benchmark.room-size", 10);
+    private static final int MESSAGES = Integer.getInteger("benchmark.messages", 10);
+    private static final long DB_LATENCY_MS = Long.getLong("benchmark.db-latency-ms", 2);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 10);
+
+    @Test
+    @DisplayName("플랫폼 스레드 모드")
+    void 플랫폼_스레드() throws Exception {
+        run(false);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드")
+    void 가상_스레드() throws Exception {
+        run(true);
+    }
+
+    private void run(boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtual)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<Client> clients = prepareClients(context);
+
+            // 동시 핸드셰이크가 몰리면 Tomcat 클라이언트 기본 IO 타임아웃(5초)을 넘길 수 있어 늘려 둔다.
+            StandardWebSocketClient webSocketClient = new StandardWebSocketClient();
+            webSocketClient.setUserProperties(Map.of("org.apache.tomcat.websocket.IO_TIMEOUT_MS", "60000"));
+            WebSocketStompClient stompClient = new WebSocketStompClient(webSocketClient);
+            stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.initialize();
+            stompClient.setTaskScheduler(scheduler);
+
+            // 연결 단계
+            long connectStart = System.nanoTime();
+            CountDownLatch connected = new CountDownLatch(clients.size());
+            List<Throwable> connectFailures = Collections.synchronizedList(new ArrayList<>());
+            for (Client client : clients) {
+                client.connect(stompClient, port, connected, connectFailures);
+            }
+            assertThat(connected.await(120, TimeUnit.SECONDS)).isTrue();
+            assertThat(connectFailures).isEmpty();
+            long connectNanos = System.nanoTime() - connectStart;
+
+            // 전송 단계: 모든 연결이 동시에 보내고, 자기 메시지의 브로드캐스트 수신으로 완료를 판단
+            CountDownLatch delivered = new CountDownLatch(clients.size() * MESSAGES);
+            clients.forEach(client -> client.expect(delivered));
+            long sendStart = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                for (Client client : clients) {
+                    client.send(i);
+                }
+            }
+            boolean completed = delivered.await(300, TimeUnit.SECONDS);
+            long sendNanos = System.nanoTime() - sendStart;
+
+            clients.forEach(Client::disconnect);
+            stompClient.stop();
+            scheduler.shutdown();
+
+            double connectSeconds = connectNanos / 1e9;
+            double sendSeconds = sendNanos / 1e9;
+            System.out.printf(
+                    "[Benchmark] mode=%s connections=%d roomSize=%d messages/conn=%d dbLatencyMs=%d pool=%d cpus=%d%n"
+                            + "[Benchmark]   connect: %.2fs (%.0f connects/s)%n"
+                            + "[Benchmark]   send:    %.2fs (%.0f msgs/s)%s%n",
+                    virtual ? "VIRTUAL" : "PLATFORM", CONNECTIONS, ROOM_SIZE, MESSAGES, DB_LATENCY_MS, POOL_SIZE,
+                    Runtime.getRuntime().availableProcessors(),
+                    connectSeconds, clients.size() / connectSeconds,
+                    sendSeconds, (clients.size() * MESSAGES - delivered.getCount()) / sendSeconds,
+                    completed ? "" : " (timeout, 미수신 " + delivered.getCount() + ")");
+            assertThat(completed).isTrue();
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(BackApplication.class)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new LatencyInjector()))
+                .run("--spring.profiles.active=test",
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID(),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.threads.virtual.enabled=" + virtual);
+    }
+
+    // 방마다 ROOM_SIZE 명씩 참여한 회원과 access token
+    private List<Client> prepareClients(ConfigurableApplicationContext context) {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        ChatRoomRepository chatRoomRepository = context.getBean(ChatRoomRepository.class);
+        ChatParticipantRepository chatParticipantRepository = context.getBean(ChatParticipantRepository.class);
+        JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+
+        List<Client> clients = new ArrayList<>(CONNECTIONS);
+        ChatRoom room = null;
+        for (int i = 0; i < CONNECTIONS; i++) {
+            if (i % ROOM_SIZE == 0) {
+                room = chatRoomRepository.save(ChatRoom.createGroupRoom("bench-" + i / ROOM_SIZE));
+            }
+            Member member = memberRepository.save(Member.builder()
+                    .username("bench" + i).password("password").nickname("bench" + i)
+                    .email("bench" + i + "@example.com").build());
+            chatParticipantRepository.save(ChatParticipant.create(room, member));
+            clients.add(new Client(member.getId(), room.getId(),
+                    jwtTokenProvider.createAccessToken(member.getId(), member.getRole().name())));
+        }
+        return clients;
+    }
+
+    private static final class Client {
+
+        private final Long memberId;
+        private final Long chatRoomId;
+        private final String token;
+        private final Set<String> pending = ConcurrentHashMap.newKeySet();
+        private volatile CountDownLatch delivered;
+        private StompSession session;
+
+        private Client(Long memberId, Long chatRoomId, String token) {
+            this.memberId = memberId;
+            this.chatRoomId = chatRoomId;
+            this.token = token;
+        }
+
+        void connect(WebSocketStompClient stompClient, int port, CountDownLatch connected,
+                List<Throwable> failures) {
+            WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+            handshakeHeaders.add("Authorization", "Bearer " + token);
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("chatRoomId", String.valueOf(chatRoomId));
+
+            String url = "ws://localhost:" + port + "/ws/chat/websocket?token=" + token;
+            stompClient.connectAsync(url, handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() {
+                @Override
+                public void handleTransportError(StompSession session, Throwable exception) {
+                    if (Client.this.session == null) {
+                        failures.add(exception);
+                        connected.countDown();
+                    }
+                }
+
+                @Override
+                public void afterConnected(StompSession session, StompHeaders headers) {
+                    Client.this.session = session;
+                    session.subscribe("/sub/chat/room/" + chatRoomId, new StompFrameHandler() {
+                        @Override
+                        public Type getPayloadType(StompHeaders headers) {
+                            return Map.class;
+                        }
+
+                        @Override
+                        public void handleFrame(StompHeaders headers, Object payload) {
+                            Object clientMessageId = ((Map<?, ?>) payload).get("clientMessageId");
+                            if (clientMessageId != null && pending.remove(clientMessageId.toString())) {
+                                delivered.countDown();
+                            }
+                        }
+                    });
+                    connected.countDown();
+                }
+            });
+        }
+
+        void expect(CountDownLatch delivered) {
+            this.delivered = delivered;
+            for (int i = 0; i < MESSAGES; i++) {
+                pending.add(clientMessageId(i));
+            }
+        }
+
+        void send(int index) {
+            session.send("/pub/chat/send", Map.of(
+                    "chatRoomId", chatRoomId,
+                    "type", "TEXT",
+                    "content", "message " + index,
+                    "clientMessageId", clientMessageId(index)));
+        }
+
+        void disconnect() {
+            if (session != null && session.isConnected()) {
+                session.disconnect();
+            }
+        }
+
+        private String clientMessageId(int index) {
+            return memberId + "-" + index;
+        }
+    }
+
+    // SQL 실행마다 지연을 넣어 원격 DB 왕복을 흉내낸다. (커넥션을 잡은 채 대기)
+    private static final class LatencyInjector implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || DB_LATENCY_MS <= 0) {
+                return bean;
+            }
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection
+                        ? proxy(Connection.class, connection, LatencyInjector::onConnection)
+                        : result;
+            });
+        }
+
+        private static Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+            Object result = method.invoke(target, args);
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, LatencyInjector::onStatement);
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, LatencyInjector::onStatement);
+            }
+            return result;
+        }
+
+        private static Object onStatement(Object target, Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("execute")) {
+                Thread.sleep(DB_LATENCY_MS);
+            }
+            return method.invoke(target, args);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> {
+                try {
+                    return handler.invoke(target, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        @FunctionalInterface
+        private interface Handler {
+            Object invoke(Object target, Method method, Object[] args) throws Throwable;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.back.config.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+@DisplayName("RoomSubscriptionRegistry 단위 테스트")
+public class RoomSubscriptionRegistryTest {
+
+    private RoomSubscriptionRegistry registry;
+
+    @BeforeEach
+    void 준비() {
+        registry = new RoomSubscriptionRegistry();
+    }
+
+    @Test
+    @DisplayName("채팅방 채널별로 구독 세션을 구분해 조회")
+    void 채널별_조회() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/sub/chat/room/1"));
+        registry.registerSubscription(subscribe("s2", "sub-1", "/sub/chat/room/1"));
+        registry.registerSubscription(subscribe("s1", "sub-2", "/sub/chat/room/1/read"));
+        registry.registerSubscription(subscribe("s3", "sub-1", "/sub/chat/room/2"));
+
+        // when
+        MultiValueMap<String, String> room = registry.findSubscriptions(send("/sub/chat/room/1"));
+        MultiValueMap<String, String> read = registry.findSubscriptions(send("/sub/chat/room/1/read"));
+        MultiValueMap<String, String> typing = registry.findSubscriptions(send("/sub/chat/room/1/typing"));
+
+        // then
+        assertThat(room.keySet()).containsExactly("s1", "s2");
+        assertThat(read.get("s1")).containsExactly("sub-2");
+        assertThat(typing).isEmpty();
+        assertThat(registry.getRoomChannelCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구독 해제와 세션 종료 시 구독이 제거되고 빈 키도 정리")
+    void 구독_해제() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/sub/chat/room/1"));
+        registry.registerSubscription(subscribe("s1", "sub-2", "/sub/chat/room/1/typing"));
+        registry.registerSubscription(subscribe("s2", "sub-1", "/sub/chat/room/1"));
+
+        // when
+        registry.unregisterSubscription(unsubscribe("s2", "sub-1"));
+        registry.unregisterAllSubscriptions("s1");
+
+        // then
+        assertThat(registry.findSubscriptions(send("/sub/chat/room/1"))).isEmpty();
+        assertThat(registry.findSubscriptions(send("/sub/chat/room/1/typing"))).isEmpty();
+        assertThat(registry.getRoomChannelCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 결과는 이후 구독 변경의 영향을 받지 않음")
+    void 스냅숏_조회() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/sub/chat/room/1"));
+        MultiValueMap<String, String> before = registry.findSubscriptions(send("/sub/chat/room/1"));
+
+        // when
+        registry.registerSubscription(subscribe("s2", "sub-1", "/sub/chat/room/1"));
+
+        // then
+        assertThat(before.keySet()).containsExactly("s1");
+        assertThat(registry.findSubscriptions(send("/sub/chat/room/1")).keySet()).containsExactly("s1", "s2");
+    }
+
+    @Test
+    @DisplayName("채팅방 주소가 아니면 기본 레지스트리로 처리")
+    void 기타_주소_위임() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/queue/rooms-users1"));
+        registry.registerSubscription(subscribe("s1", "sub-2", "/sub/chat/room/abc"));
+
+        // when
+        MultiValueMap<String, String> queue = registry.findSubscriptions(send("/queue/rooms-users1"));
+        MultiValueMap<String, String> invalid = registry.findSubscriptions(send("/sub/chat/room/abc"));
+
+        // then
+        assertThat(queue.get("s1")).containsExactly("sub-1");
+        assertThat(invalid.get("s1")).containsExactly("sub-2");
+        assertThat(registry.getRoomChannelCount()).isZero();
+
+        registry.unregisterAllSubscriptions("s1");
+        assertThat(registry.findSubscriptions(send("/queue/rooms-users1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("앞자리 0 이 붙은 채팅방 ID 는 채팅방 주소로 인정하지 않음")
+    void 앞자리_0_거부() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/sub/chat/room/007"));
+
+        // when
+        MultiValueMap<String, String> room = registry.findSubscriptions(send("/sub/chat/room/7"));
+
+        // then
+        assertThat(room).isEmpty();
+        assertThat(registry.getRoomChannelCount()).isZero();
+        assertThat(RoomSubscriptionRegistry.RoomKey.parse("/sub/chat/room/007")).isNull();
+        assertThat(RoomSubscriptionRegistry.RoomKey.parse("/sub/chat/room/0")).isNotNull();
+        assertThat(RoomSubscriptionRegistry.RoomKey.parse("/sub/chat/room/70/read")).isNotNull();
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> send(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.back.config.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.example.back.config.properties.SlowConsumerProperties;
+import org.example.back.dto.websocket.response.ReadReceiptBatchResponse;
+import org.example.back.dto.websocket.response.ReadReceiptResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+@DisplayName("SlowConsumerInterceptor 단위 테스트")
+public class SlowConsumerInterceptorTest {
+
+    private static final String SESSION_ID = "s1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final SubProtocolWebSocketHandler handler = mock(SubProtocolWebSocketHandler.class);
+
+    private WebSocketSession session;
+    private SlowConsumerInterceptor interceptor;
+
+    @BeforeEach
+    void 준비() throws Exception {
+        SlowConsumerProperties properties = new SlowConsumerProperties();
+        properties.setTypingDropThreshold(2);
+        properties.setReadCoalesceThreshold(2);
+        properties.setDisconnectThreshold(5);
+
+        OutboundSessionTracker tracker = new OutboundSessionTracker();
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+        tracker.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+
+        interceptor = new SlowConsumerInterceptor(tracker, properties, objectMapper);
+    }
+
+    @Test
+    @DisplayName("대기 프레임이 쌓이면 타이핑 이벤트만 폐기")
+    void 타이핑_폐기() {
+        // given
+        fill(2);
+
+        // when
+        Message<?> typing = interceptor.preSend(message("/sub/chat/room/1/typing", new byte[0]), channel);
+        Message<?> chat = interceptor.preSend(message("/sub/chat/room/1", new byte[0]), channel);
+
+        // then
+        assertThat(typing).isNull();
+        assertThat(chat).isNotNull();
+        assertThat(interceptor.stats().typingDropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽음 이벤트는 마지막 프레임 하나로 회원별 최신값만 병합해 전송")
+    void 읽음_병합() throws Exception {
+        // given
+        fill(2);
+        Message<?> first = interceptor.preSend(read(receipt(1L, 10L)), channel);
+        Message<?> second = interceptor.preSend(read(receipt(2L, 20L)), channel);
+        Message<?> third = interceptor.preSend(read(receipt(1L, 30L)), channel);
+
+        // when
+        Message<?> sentFirst = interceptor.beforeHandle(first, channel, handler);
+        Message<?> sentSecond = interceptor.beforeHandle(second, channel, handler);
+        Message<?> sentThird = interceptor.beforeHandle(third, channel, handler);
+
+        // then
+        assertThat(sentFirst).isNull();
+        assertThat(sentSecond).isNull();
+        ReadReceiptBatchResponse merged = objectMapper.readValue((byte[]) sentThird.getPayload(),
+                ReadReceiptBatchResponse.class);
+        assertThat(merged.getReceipts())
+                .extracting(ReadReceiptResponse::getMemberId, ReadReceiptResponse::getMessageId)
+                .containsExactlyInAnyOrder(tuple(1L, 30L),
+                        tuple(2L, 20L));
+        assertThat(interceptor.stats().readCoalesced()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 재동기화 안내 코드로 연결 종료")
+    void 연결_종료() throws Exception {
+        // given
+        fill(5);
+
+        // when
+        Message<?> result = interceptor.preSend(message("/sub/chat/room/1", new byte[0]), channel);
+
+        // then
+        assertThat(result).isNull();
+        verify(session, timeout(1000)).close(any(CloseStatus.class));
+        assertThat(interceptor.stats().disconnected()).isEqualTo(1);
+    }
+
+    // 소켓에 쓰이지 않은 일반 메시지를 count 개 쌓는다.
+    private void fill(int count) {
+        for (int i = 0; i < count; i++) {
+            interceptor.preSend(message("/sub/chat/room/1", new byte[0]), channel);
+        }
+    }
+
+    private Message<byte[]> read(ReadReceiptResponse receipt) throws Exception {
+        ReadReceiptBatchResponse batch = ReadReceiptBatchResponse.builder()
+                .chatRoomId(1L)
+                .receipts(List.of(receipt))
+                .build();
+        return message("/sub/chat/room/1/read", objectMapper.writeValueAsBytes(batch));
+    }
+
+    private ReadReceiptResponse receipt(Long memberId, Long messageId) {
+        return ReadReceiptResponse.builder().chatRoomId(1L).memberId(memberId).messageId(messageId).build();
+    }
+
+    private Message<byte[]> message(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -6,6 +6,7 @@ import org.example.back.dto.auth.response.TokenResponse;
 import org.example.back.dto.auth.request.MemberPasswordChangeRequest;
 import org.example.back.dto.auth.request.MemberRegisterRequest;
 import org.example.back.dto.member.response.MemberResponse;
+import org.example.back.dto.member.response.NicknameAvailabilityResponse;
 import org.example.back.exception.member.MemberException;
 import org.example.back.security.JwtTokenProvider;
 import org.example.back.service.MemberService;
@@ -69,6 +70,18 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$.nickname").value("testNickName"));
     }
     
+    @Test
+    @DisplayName("닉네임 사용 가능 여부 조회 (비로그인 허용)")
+    @WithAnonymousUser
+    void 닉네임_사용가능_여부() throws Exception {
+        when(memberService.checkNicknameAvailability(eq("홍길동"), any())).thenReturn(
+                NicknameAvailabilityResponse.builder().nickname("홍길동").available(true).build());
+        
+        mockMvc.perform(get("/api/members/nickname-availability").param("nickname", "홍길동"))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.nickname").value("홍길동"))
+                .andExpect(jsonPath("$.available").value(true));
+    }
+    
     @Test
     @DisplayName("로그인 성공")
     @WithAnonymousUser
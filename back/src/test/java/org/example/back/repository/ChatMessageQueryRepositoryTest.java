@@ -0,0 +1,82 @@
+package org.example.back.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.example.back.config.JpaAuditingConfig;
+import org.example.back.config.QuerydslConfig;
+import org.example.back.domain.message.ChatMessage;
+import org.example.back.domain.message.MessageType;
+import org.example.back.domain.room.ChatRoom;
+import org.example.back.repository.message.ChatMessageQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QuerydslConfig.class, ChatMessageQueryRepository.class})
+public class ChatMessageQueryRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ChatMessageQueryRepository chatMessageQueryRepository;
+
+    private ChatRoom room;
+
+    @BeforeEach
+    void 준비() {
+        room = ChatRoom.createGroupRoom("room");
+        em.persist(room);
+    }
+
+    @Test
+    @DisplayName("이후 메시지는 ID 가 아니라 채팅방 순번 순으로 조회")
+    void 순번_기준_이후_조회() {
+        // given: 다른 노드에서 발급된 ID 라 순번과 ID 순서가 어긋남
+        message(20L, 1L);
+        message(10L, 2L);
+        message(30L, 3L);
+        em.flush();
+        em.clear();
+
+        // when
+        List<ChatMessage> messages = chatMessageQueryRepository.findMessagesAfter(room.getId(), 20L, 1L, 10);
+
+        // then
+        assertThat(messages).extracting(ChatMessage::getId).containsExactly(10L, 30L);
+    }
+
+    @Test
+    @DisplayName("기준이 순번 도입 전 메시지면 이후의 순번 없는 메시지 뒤에 순번 메시지 전체를 조회")
+    void 순번_없는_기준_이후_조회() {
+        // given
+        message(1L, null);
+        message(2L, null);
+        message(20L, 1L);
+        em.flush();
+        em.clear();
+
+        // when
+        List<ChatMessage> messages = chatMessageQueryRepository.findMessagesAfter(room.getId(), 1L, null, 10);
+
+        // then
+        assertThat(messages).extracting(ChatMessage::getId).containsExactly(2L, 20L);
+    }
+
+    private void message(Long id, Long seq) {
+        em.persist(ChatMessage.builder()
+                .id(id)
+                .chatRoom(room)
+                .seq(seq)
+                .content("m" + id)
+                .messageType(MessageType.TEXT)
+                .clientMessageId("client-" + id)
+                .build());
+    }
+}
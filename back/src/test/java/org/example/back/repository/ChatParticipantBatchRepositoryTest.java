@@ -0,0 +1,85 @@
+package org.example.back.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.example.back.config.JpaAuditingConfig;
+import org.example.back.config.QuerydslConfig;
+import org.example.back.domain.member.Member;
+import org.example.back.domain.message.ChatMessage;
+import org.example.back.domain.message.MessageType;
+import org.example.back.domain.room.ChatParticipant;
+import org.example.back.domain.room.ChatRoom;
+import org.example.back.repository.participant.ChatParticipantBatchRepository;
+import org.example.back.repository.participant.ChatParticipantBatchRepository.LastReadUpdate;
+import org.example.back.repository.participant.ChatParticipantQueryRepository;
+import org.example.back.repository.participant.ParticipantUnreadSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QuerydslConfig.class,
+        ChatParticipantBatchRepository.class, ChatParticipantQueryRepository.class})
+public class ChatParticipantBatchRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ChatParticipantBatchRepository chatParticipantBatchRepository;
+
+    @Autowired
+    private ChatParticipantQueryRepository chatParticipantQueryRepository;
+
+    private ChatRoom room;
+    private Member member;
+
+    @BeforeEach
+    void 준비() {
+        room = ChatRoom.createGroupRoom("room");
+        em.persist(room);
+        member = Member.builder().username("reader").password("password").nickname("reader")
+                .email("reader@example.com").build();
+        em.persist(member);
+        em.persist(ChatParticipant.create(room, member));
+    }
+
+    @Test
+    @DisplayName("읽음 처리 시 이후 구간의 삭제 메시지와 빈 순번을 모두 안읽은 수에서 제외")
+    void 빈_순번_제외() {
+        // given: 순번 3 은 롤백으로 비어 있고, 순번 5 는 삭제됨
+        message(1L, 1L);
+        message(2L, 2L);
+        message(4L, 4L);
+        message(5L, 5L).softDelete();
+        em.flush();
+
+        // when
+        chatParticipantBatchRepository.updateLastReadMessageIds(
+                List.of(new LastReadUpdate(room.getId(), member.getId(), 1L)));
+        em.clear();
+
+        // then: 실제로 보이는 안읽은 메시지는 2, 4 두 개
+        ParticipantUnreadSnapshot snapshot =
+                chatParticipantQueryRepository.findUnreadSnapshot(room.getId(), member.getId()).orElseThrow();
+        assertThat(snapshot.unreadCount()).isEqualTo(2L);
+    }
+
+    private ChatMessage message(Long id, Long seq) {
+        ChatMessage message = ChatMessage.builder()
+                .id(id)
+                .chatRoom(room)
+                .seq(seq)
+                .content("m" + seq)
+                .messageType(MessageType.TEXT)
+                .clientMessageId("client-" + id)
+                .build();
+        em.persist(message);
+        return message;
+    }
+}
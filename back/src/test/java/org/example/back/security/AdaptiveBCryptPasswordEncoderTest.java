@@ -0,0 +1,35 @@
+package org.example.back.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveBCryptPasswordEncoder 단위 테스트")
+public class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("설정과 같은 비용의 해시는 재해싱하지 않음")
+    void 같은_비용() {
+        // given
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(4);
+        String encoded = encoder.encode("password");
+
+        // when & then
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비용을 올리거나 내리면 기존 해시를 재해싱 대상으로 판단")
+    void 비용_변경() {
+        // given
+        String cost4 = new AdaptiveBCryptPasswordEncoder(4).encode("password");
+        String cost5 = new AdaptiveBCryptPasswordEncoder(5).encode("password");
+
+        // when & then
+        assertThat(new AdaptiveBCryptPasswordEncoder(5).upgradeEncoding(cost4)).isTrue();
+        assertThat(new AdaptiveBCryptPasswordEncoder(4).upgradeEncoding(cost5)).isTrue();
+        assertThat(new AdaptiveBCryptPasswordEncoder(4).upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+    }
+}
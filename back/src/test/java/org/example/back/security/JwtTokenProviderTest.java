@@ -0,0 +1,59 @@
+package org.example.back.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("JwtTokenProvider 단위 테스트")
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "bXktc3VwZXItc2VjcmV0LWp3dC1rZXktMTIzNDU2Nzg=";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void 준비() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidityInSeconds", 1800L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidityInSeconds", 1209600L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaxEntries", 100);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("로그아웃 이전에 발급된 토큰은 캐시에 있어도 거부")
+    void 로그아웃_이전_토큰_거부() {
+        // given: 한 번 검증해 캐시에 올린 토큰
+        String token = jwtTokenProvider.createAccessToken(1L, "USER");
+        jwtTokenProvider.parseToken(token);
+
+        // when
+        jwtTokenProvider.revokeIssuedBefore(1L, System.currentTimeMillis());
+
+        // then
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken(token)).isInstanceOf(JwtException.class);
+        assertThat(jwtTokenProvider.verifiedCacheStats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그아웃 직후 같은 초에 다시 발급한 토큰과 다른 회원의 토큰은 허용")
+    void 로그아웃_이후_토큰_허용() {
+        // given
+        String otherMemberToken = jwtTokenProvider.createAccessToken(2L, "USER");
+        jwtTokenProvider.revokeIssuedBefore(1L, System.currentTimeMillis());
+
+        // when
+        String reissued = jwtTokenProvider.createAccessToken(1L, "USER");
+
+        // then
+        assertThat(jwtTokenProvider.parseToken(reissued).memberId()).isEqualTo(1L);
+        assertThat(jwtTokenProvider.parseToken(otherMemberToken).memberId()).isEqualTo(2L);
+        assertThat(jwtTokenProvider.revokedMemberCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.back.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.example.back.security.VerifiedTokenCache.Verified;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VerifiedTokenCache 단위 테스트")
+public class VerifiedTokenCacheTest {
+
+    private static final long ONE_MINUTE = 60_000L;
+
+    @Test
+    @DisplayName("검증한 토큰은 만료 전까지 캐시된 결과를 반환")
+    void 캐시_적중() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        Verified verified = verified(1L);
+        cache.put("token-a", verified, System.currentTimeMillis() + ONE_MINUTE);
+
+        // when
+        Verified cached = cache.get("token-a");
+        Verified other = cache.get("token-b");
+
+        // then
+        assertThat(cached).isEqualTo(verified);
+        assertThat(other).isNull();
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exp 가 지난 항목은 반환하지 않고 제거")
+    void 만료_항목_무시() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        cache.put("token-a", verified(1L), System.currentTimeMillis() + 50);
+
+        // when
+        long deadline = System.currentTimeMillis() + 50;
+        while (System.currentTimeMillis() <= deadline) {
+            Thread.onSpinWait();
+        }
+        Verified cached = cache.get("token-a");
+
+        // then
+        assertThat(cached).isNull();
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래 사용하지 않은 토큰을 제거하고 새 토큰을 캐시")
+    void 크기_제한() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        long expiresAt = System.currentTimeMillis() + ONE_MINUTE;
+        cache.put("token-a", verified(1L), expiresAt);
+        cache.put("token-b", verified(2L), expiresAt);
+        cache.get("token-a");
+
+        // when
+        cache.put("token-c", verified(3L), expiresAt);
+
+        // then
+        assertThat(cache.stats().entries()).isEqualTo(2);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.get("token-a")).isNotNull();
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.get("token-c")).isNotNull();
+    }
+
+    private static Verified verified(Long memberId) {
+        return new Verified(new TokenInfo(memberId, "USER"), System.currentTimeMillis());
+    }
+}
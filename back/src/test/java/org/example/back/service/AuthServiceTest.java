@@ -10,6 +10,7 @@ import org.example.back.repository.MemberRepository;
 import org.example.back.repository.auth.RefreshTokenRepository;
 import org.example.back.security.JwtTokenProvider;
 import org.example.back.security.TokenInfo;
+import org.example.back.service.cluster.ClusterRelay;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -43,6 +44,9 @@ public class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
     
+    @Mock
+    private ClusterRelay clusterRelay;
+    
     private static final String VALID_REFRESH_TOKEN = "valid-refresh-token";
     private static final String INVALID_REFRESH_TOKEN = "invalid-refresh-token";
     
@@ -94,6 +98,8 @@ public class AuthServiceTest {
             
             // then
             verify(refreshTokenRepository).delete(refreshToken);
+            verify(jwtTokenProvider).revokeIssuedBefore(eq(MEMBER_ID), anyLong());
+            verify(clusterRelay).relayEvent(eq("token-revocation"), any());
         }
     }
     
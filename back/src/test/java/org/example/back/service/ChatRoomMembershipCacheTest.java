@@ -0,0 +1,87 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.example.back.repository.participant.ChatParticipantRepository;
+import org.example.back.service.room.ChatRoomMembershipCache;
+import org.example.back.service.room.ChatRoomMembershipCache.MembershipCacheStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomMembershipCache 단위 테스트")
+public class ChatRoomMembershipCacheTest {
+
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Test
+    @DisplayName("최초 조회 시에만 DB 에서 로딩하고 이후에는 캐시로 응답")
+    void 캐시_적중() {
+        // given
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(chatParticipantRepository, 100);
+        when(chatParticipantRepository.findMemberIdsByChatRoomId(1L)).thenReturn(List.of(3L, 1L, 2L));
+
+        // when
+        boolean first = cache.isMember(1L, 2L);
+        boolean second = cache.isMember(1L, 3L);
+        boolean notMember = cache.isMember(1L, 99L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(notMember).isFalse();
+        verify(chatParticipantRepository, times(1)).findMemberIdsByChatRoomId(1L);
+
+        MembershipCacheStats stats = cache.stats();
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참여자 추가/제거가 캐시에 즉시 반영")
+    void 참여자_변경_반영() {
+        // given
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(chatParticipantRepository, 100);
+        cache.putRoom(1L, List.of(1L, 2L));
+
+        // when
+        cache.addMembers(1L, List.of(5L, 2L));
+        cache.removeMember(1L, 1L);
+
+        // then
+        assertThat(cache.getMemberIds(1L)).containsExactly(2L, 5L);
+        assertThat(cache.stats().memberIds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관 한도를 넘으면 가장 오래 사용하지 않은 방부터 제거")
+    void LRU_제거() {
+        // given
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(chatParticipantRepository, 4);
+        cache.putRoom(1L, List.of(1L, 2L));
+        cache.putRoom(2L, List.of(3L, 4L));
+
+        // 1번 방을 최근 사용으로 갱신
+        cache.isMember(1L, 1L);
+
+        // when
+        cache.putRoom(3L, List.of(5L, 6L));
+
+        // then
+        MembershipCacheStats stats = cache.stats();
+        assertThat(stats.rooms()).isEqualTo(2);
+        assertThat(stats.evictions()).isEqualTo(1);
+
+        when(chatParticipantRepository.findMemberIdsByChatRoomId(2L)).thenReturn(List.of(3L, 4L));
+        assertThat(cache.isMember(2L, 3L)).isTrue();
+        verify(chatParticipantRepository).findMemberIdsByChatRoomId(2L);
+    }
+}
@@ -27,11 +27,16 @@ import org.example.back.dto.room.request.LeaveChatRoomRequest;
 import org.example.back.dto.room.response.ChatRoomResponse;
 import org.example.back.exception.chatroom.ChatRoomException;
 import org.example.back.exception.member.MemberException;
+import org.example.back.repository.participant.ChatParticipantQueryRepository;
 import org.example.back.repository.participant.ChatParticipantRepository;
+import org.example.back.repository.participant.RoomMemberId;
 import org.example.back.repository.room.ChatRoomQueryRepository;
 import org.example.back.repository.room.ChatRoomRepository;
 import org.example.back.repository.MemberRepository;
+import org.example.back.service.message.MessageSequenceAllocator;
+import org.example.back.service.room.ChatRoomMembershipCache;
 import org.example.back.service.room.ChatRoomServiceImpl;
+import org.example.back.service.room.RoomListDeltaPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -62,12 +67,24 @@ public class ChatRoomServiceTest {
     @Mock
     private ChatParticipantRepository chatParticipantRepository;
     
+    @Mock
+    private ChatParticipantQueryRepository chatParticipantQueryRepository;
+    
     @Mock
     private ChatRoomQueryRepository chatRoomQueryRepository;
     
     @Mock
     private MemberRepository memberRepository;
     
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+    
+    @Mock
+    private RoomListDeltaPublisher roomListDeltaPublisher;
+    
+    @Mock
+    private MessageSequenceAllocator messageSequenceAllocator;
+    
     private void setPrivateField(Object target, String fieldName, Object value) {
         try {
             Field field = target.getClass().getDeclaredField(fieldName);
@@ -390,14 +407,13 @@ public class ChatRoomServiceTest {
             when(chatRoomQueryRepository.findMyChatRooms(requester.getId(), pageable))
                     .thenReturn(new PageImpl<>(List.of(privateRoom, groupRoom), pageable, 2));
             
-            // 각 채팅방에 대한 참여자 목록 모킹
-            when(chatParticipantRepository.findByChatRoomId(100L))
-                    .thenReturn(List.of(ChatParticipant.create(privateRoom, requester)));
-            when(chatParticipantRepository.findByChatRoomId(101L))
+            // 페이지 내 채팅방 참여자 ID 를 한 번에 조회하도록 모킹
+            when(chatParticipantQueryRepository.findMemberIdsByChatRoomIds(List.of(100L, 101L)))
                     .thenReturn(List.of(
-                            ChatParticipant.create(groupRoom, requester),
-                            ChatParticipant.create(groupRoom, memberA),
-                            ChatParticipant.create(groupRoom, memberB)
+                            new RoomMemberId(100L, requester.getId()),
+                            new RoomMemberId(101L, requester.getId()),
+                            new RoomMemberId(101L, memberA.getId()),
+                            new RoomMemberId(101L, memberB.getId())
                     ));
             
             // when
@@ -408,8 +424,10 @@ public class ChatRoomServiceTest {
             assertThat(responses).hasSize(2);
             assertThat(responses).extracting("roomId")
                     .containsExactlyInAnyOrder(100L, 101L);
-            verify(chatParticipantRepository).findByChatRoomId(100L);
-            verify(chatParticipantRepository).findByChatRoomId(101L);
+            assertThat(responses.getContent().get(1).getParticipantIds())
+                    .containsExactly(requester.getId(), memberA.getId(), memberB.getId());
+            verify(chatParticipantQueryRepository).findMemberIdsByChatRoomIds(List.of(100L, 101L));
+            verify(chatParticipantRepository, never()).findByChatRoomId(any());
         }
         
         @Test
@@ -483,14 +501,13 @@ public class ChatRoomServiceTest {
             when(chatRoomQueryRepository.findMyChatRooms(requester.getId(), pageable))
                     .thenReturn(new PageImpl<>(List.of(privateRoom, groupRoom), pageable, 2));
             
-            // 각 채팅방에 대한 참여자 목록 모킹
-            when(chatParticipantRepository.findByChatRoomId(400L))
-                    .thenReturn(List.of(ChatParticipant.create(privateRoom, requester)));
-            when(chatParticipantRepository.findByChatRoomId(401L))
+            // 페이지 내 채팅방 참여자 ID 를 한 번에 조회하도록 모킹
+            when(chatParticipantQueryRepository.findMemberIdsByChatRoomIds(List.of(400L, 401L)))
                     .thenReturn(List.of(
-                            ChatParticipant.create(groupRoom, requester),
-                            ChatParticipant.create(groupRoom, memberA),
-                            ChatParticipant.create(groupRoom, memberB)
+                            new RoomMemberId(400L, requester.getId()),
+                            new RoomMemberId(401L, requester.getId()),
+                            new RoomMemberId(401L, memberA.getId()),
+                            new RoomMemberId(401L, memberB.getId())
                     ));
             
             // when
@@ -663,6 +680,36 @@ public class ChatRoomServiceTest {
             assertThat(saved.get(0).getMember().getId()).isEqualTo(newMemberA.getId());
         }
         
+        @Test
+        @DisplayName("초대된 멤버는 초대 시점의 마지막 순번까지 읽은 상태로 참여")
+        void 초대_멤버_읽음_순번_초기화() {
+            
+            // given
+            List<Long> memberIdsToInvite = List.of(newMemberA.getId());
+            InviteChatRoomRequest request = new InviteChatRoomRequest(memberIdsToInvite);
+            
+            when(chatRoomRepository.findById(groupRoom.getId())).thenReturn(Optional.of(groupRoom));
+            when(chatParticipantRepository.findByChatRoomIdAndMemberId(groupRoom.getId(), inviter.getId()))
+                    .thenReturn(Optional.of(ChatParticipant.create(groupRoom, inviter)));
+            when(chatParticipantRepository.findByChatRoomId(groupRoom.getId())).thenReturn(
+                    List.of(ChatParticipant.create(groupRoom, inviter))
+            );
+            when(memberRepository.findAllById(memberIdsToInvite)).thenReturn(List.of(newMemberA));
+            when(messageSequenceAllocator.current(groupRoom.getId())).thenReturn(42L);
+            
+            // when
+            chatRoomService.inviteMembers(groupRoom.getId(), inviter.getId(), request);
+            
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ChatParticipant>> captor = ArgumentCaptor.forClass(List.class);
+            verify(chatParticipantRepository).saveAll(captor.capture());
+            
+            ChatParticipant saved = captor.getValue().get(0);
+            assertThat(saved.getLastReadSeq()).isEqualTo(42L);
+            assertThat(saved.getUnreadDeletedCount()).isZero();
+        }
+        
         @Test
         @DisplayName("채팅방이 존재하지 않으면 예외 발생")
         void 초대_실패_채팅방_없음() {
@@ -0,0 +1,109 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.example.back.repository.message.ChatMessageRepository;
+import org.example.back.service.message.ClientMessageIdIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientMessageIdIndex 단위 테스트")
+public class ClientMessageIdIndexTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("적재 전에는 Bloom filter 에 없어도 DB 로 확인")
+    void 적재_전_DB_확인() {
+        // given
+        ClientMessageIdIndex index = new ClientMessageIdIndex(chatMessageRepository, transactionManager,
+                100, 1_000, 0.001, 4, 1_000);
+
+        // when
+        boolean mightExist = index.mightExist("client-1");
+
+        // then
+        assertThat(mightExist).isTrue();
+        assertThat(index.stats().loaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 후 Bloom filter 에 없는 clientMessageId 는 DB 조회 생략, 적재된 ID 는 DB 확인")
+    void 적재_후_판단() {
+        // given
+        ClientMessageIdIndex index = new ClientMessageIdIndex(chatMessageRepository, transactionManager,
+                100, 1_000, 0.001, 4, 1_000);
+        when(chatMessageRepository.countByClientMessageIdIsNotNull()).thenReturn(2L);
+        when(chatMessageRepository.streamClientMessageIdsFrom(0L)).thenReturn(Stream.of("client-1", "client-2"));
+        index.loadAsync();
+
+        // when
+        waitUntilLoaded(index);
+
+        // then
+        assertThat(index.mightExist("client-1")).isTrue();
+        assertThat(index.mightExist("client-3")).isFalse();
+        assertThat(index.stats().bloomSkips()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 수가 적재 범위를 넘으면 최근 메시지만 적재")
+    void 최근_범위만_적재() {
+        // given: 전체 3건, 적재 범위 2건 → 두 번째 최신 메시지(ID 2)부터 적재
+        ClientMessageIdIndex index = new ClientMessageIdIndex(chatMessageRepository, transactionManager,
+                100, 1_000, 0.001, 4, 2);
+        when(chatMessageRepository.countByClientMessageIdIsNotNull()).thenReturn(3L);
+        when(chatMessageRepository.findIdsWithClientMessageId(PageRequest.of(1, 1))).thenReturn(List.of(2L));
+        when(chatMessageRepository.streamClientMessageIdsFrom(2L)).thenReturn(Stream.of("client-2", "client-3"));
+
+        // when
+        index.loadAsync();
+        waitUntilLoaded(index);
+
+        // then
+        assertThat(index.mightExist("client-3")).isTrue();
+        assertThat(index.mightExist("client-4")).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 단계가 버려져도 남은 단계 기준으로 DB 조회 생략")
+    void 단계_버림_후_판단() {
+        // given: 단계 용량 1, 최대 1단계 → 두 번째 ID 부터 첫 단계가 버려진다.
+        ClientMessageIdIndex index = new ClientMessageIdIndex(chatMessageRepository, transactionManager,
+                100, 1, 0.001, 1, 1_000);
+        when(chatMessageRepository.countByClientMessageIdIsNotNull()).thenReturn(0L);
+        when(chatMessageRepository.streamClientMessageIdsFrom(0L)).thenReturn(Stream.empty());
+        index.loadAsync();
+        waitUntilLoaded(index);
+        index.record("client-1", 1L);
+        index.record("client-2", 2L);
+
+        // when
+        boolean mightExist = index.mightExist("client-3");
+
+        // then
+        assertThat(mightExist).isFalse();
+        assertThat(index.mightExist("client-2")).isTrue();
+        assertThat(index.stats().bloomDroppedStages()).isEqualTo(1);
+    }
+
+    private static void waitUntilLoaded(ClientMessageIdIndex index) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!index.stats().loaded() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
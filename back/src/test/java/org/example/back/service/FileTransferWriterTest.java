@@ -0,0 +1,129 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.example.back.service.file.DownloadableFile;
+import org.example.back.service.file.FileTransferWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("FileTransferWriter 단위 테스트")
+public class FileTransferWriterTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final String ETAG = "\"abc123\"";
+
+    @TempDir
+    Path tempDir;
+
+    private final FileTransferWriter writer = new FileTransferWriter();
+
+    private DownloadableFile file;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void 준비() throws IOException {
+        Path path = Files.writeString(tempDir.resolve("stored.txt"), CONTENT);
+        file = new DownloadableFile(1L, path, CONTENT.length(), "text/plain", ETAG, "메모.txt");
+        request = new MockHttpServletRequest("GET", "/api/files/1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("조건 없는 요청은 전체 파일과 ETag 로 200 응답")
+    void 전체_전송() throws Exception {
+        // when
+        writer.write(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo(ETAG);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304 응답")
+    void 조건부_304() throws Exception {
+        // given
+        request.addHeader("If-None-Match", "W/\"other\", " + ETAG);
+
+        // when
+        writer.write(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 해당 구간만 206 으로 응답")
+    void 구간_전송() throws Exception {
+        // given
+        request.addHeader("Range", "bytes=2-5");
+
+        // when
+        writer.write(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체 전송")
+    void If_Range_불일치() throws Exception {
+        // given
+        request.addHeader("Range", "bytes=2-5");
+        request.addHeader("If-Range", "\"stale\"");
+
+        // when
+        writer.write(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range 는 416 응답")
+    void 범위_초과_416() throws Exception {
+        // given
+        request.addHeader("Range", "bytes=20-30");
+
+        // when
+        writer.write(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("Tomcat sendfile 지원 시 본문 대신 전송 구간을 요청 속성으로 넘김")
+    void sendfile_위임() throws Exception {
+        // given
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=-3");
+
+        // when
+        writer.write(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(7L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
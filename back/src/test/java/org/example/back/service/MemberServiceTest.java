@@ -9,20 +9,32 @@ import org.example.back.dto.auth.request.MemberRegisterRequest;
 import org.example.back.dto.member.response.MemberResponse;
 import org.example.back.exception.member.MemberException;
 import org.example.back.repository.MemberRepository;
+import org.example.back.repository.MemberUniqueFields;
 import org.example.back.repository.auth.RefreshTokenRepository;
+import org.example.back.config.properties.PasswordHashingProperties;
 import org.example.back.security.JwtTokenProvider;
+import org.example.back.security.PasswordHashingExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.example.back.exception.member.MemberErrorCode.INVALID_CREDENTIALS;
+import static org.example.back.exception.member.MemberErrorCode.NICKNAME_CHECK_RATE_LIMITED;
+import static org.example.back.exception.member.MemberErrorCode.PASSWORD_HASHING_BUSY;
 import static org.example.back.exception.member.MemberErrorCode.USER_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -50,6 +62,19 @@ public class MemberServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
     
+    @Mock
+    private NicknameIndex nicknameIndex;
+    
+    @Mock
+    private NicknameCheckRateLimiter nicknameCheckRateLimiter;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    // 해싱 전용 풀에서 실제로 실행되는지 확인하기 위해 실제 실행기 사용
+    @Spy
+    private PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(hashingProperties());
+    
     private Member member;
     
     @BeforeEach
@@ -58,6 +83,14 @@ public class MemberServiceTest {
                 .email("test@google.com").phone("010-1234-5678").build();
     }
     
+    private static PasswordHashingProperties hashingProperties() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeoutMs(1_000);
+        return properties;
+    }
+    
     private MemberRegisterRequest createMemberRequest(Member member) {
         return new MemberRegisterRequest(member.getUsername(), member.getPassword(), member.getNickname(),
                 member.getEmail(), member.getPhone());
@@ -70,10 +103,10 @@ public class MemberServiceTest {
         MemberRegisterRequest request = createMemberRequest(member);
         
         // when : 중복 체크 및 저장 설정
-        when(memberRepository.existsByUsername(request.getUsername())).thenReturn(false);
-        when(memberRepository.existsByNickname(request.getNickname())).thenReturn(false);
+        when(memberRepository.findUniqueConflicts(request.getUsername(), request.getNickname(), request.getEmail(),
+                request.getPhone())).thenReturn(List.of());
         when(passwordEncoder.encode(request.getPassword())).thenReturn("encodedPassword");
-        when(memberRepository.save(any(Member.class))).thenReturn(member);
+        when(memberRepository.saveAndFlush(any(Member.class))).thenReturn(member);
         
         // then : 회원가입 실행 및 검증
         MemberResponse savedMember = memberService.registerMember(request);
@@ -82,16 +115,20 @@ public class MemberServiceTest {
         assertEquals("testUser", savedMember.getUsername());
         assertEquals("testNick", savedMember.getNickname());
         
-        // encode, save 메서드가 호출되었는지 검증
+        // encode, save 메서드가 호출되었는지 검증 (중복 검사는 한 번의 조회)
         verify(passwordEncoder).encode(anyString());
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).saveAndFlush(any(Member.class));
+        verify(memberRepository, never()).existsByUsername(anyString());
+        verify(nicknameIndex).add("testNick");
     }
     
     @Test
     @DisplayName("회원가입 중복 테스트 - 중복된 사용자 이름이 존재할 경우 예외 확인")
     void 회원가입_증복_사용자명() {
         MemberRegisterRequest request = createMemberRequest(member);
-        when(memberRepository.existsByUsername(request.getUsername())).thenReturn(true);
+        when(memberRepository.findUniqueConflicts(request.getUsername(), request.getNickname(), request.getEmail(),
+                request.getPhone())).thenReturn(List.of(new MemberUniqueFields(request.getUsername(), "otherNick",
+                "other@google.com", "010-0000-0000")));
         
         Exception exception = assertThrows(MemberException.class, () -> memberService.registerMember(request));
         assertEquals("이미 존재하는 사용자 이름입니다.", exception.getMessage());
@@ -101,12 +138,74 @@ public class MemberServiceTest {
     @DisplayName("닉네임 중복 테스트 - 중복된 닉네임이 존재할 경우 예외 확인")
     void 회원가입_중복_닉네임() {
         MemberRegisterRequest request = createMemberRequest(member);
-        when(memberRepository.existsByNickname(request.getNickname())).thenReturn(true);
+        when(memberRepository.findUniqueConflicts(request.getUsername(), request.getNickname(), request.getEmail(),
+                request.getPhone())).thenReturn(List.of(new MemberUniqueFields("otherUser", request.getNickname(),
+                "other@google.com", null)));
         
         Exception exception = assertThrows(MemberException.class, () -> memberService.registerMember(request));
         assertEquals("이미 존재하는 닉네임입니다.", exception.getMessage());
     }
     
+    @Test
+    @DisplayName("이메일 중복 테스트 - DB collation 처럼 대소문자/끝 공백이 달라도 같은 이메일로 판단")
+    void 회원가입_중복_이메일_대소문자() {
+        MemberRegisterRequest request = createMemberRequest(member);
+        when(memberRepository.findUniqueConflicts(request.getUsername(), request.getNickname(), request.getEmail(),
+                request.getPhone())).thenReturn(List.of(new MemberUniqueFields("otherUser", "otherNick",
+                "TEST@Google.com ", null)));
+        
+        Exception exception = assertThrows(MemberException.class, () -> memberService.registerMember(request));
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("회원가입 중복 테스트 - 조회 이후 동시 가입으로 고유 제약 위반 시 중복 예외로 변환")
+    void 회원가입_고유제약_위반() {
+        // given
+        MemberRegisterRequest request = createMemberRequest(member);
+        when(memberRepository.findUniqueConflicts(request.getUsername(), request.getNickname(), request.getEmail(),
+                request.getPhone())).thenReturn(List.of());
+        when(passwordEncoder.encode(request.getPassword())).thenReturn("encodedPassword");
+        when(memberRepository.saveAndFlush(any(Member.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new RuntimeException("Duplicate entry 'test@google.com' for key 'member.UK_MEMBER_EMAIL'")));
+        
+        // when
+        Exception exception = assertThrows(MemberException.class, () -> memberService.registerMember(request));
+        
+        // then
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(nicknameIndex, never()).add(anyString());
+    }
+    
+    @Test
+    @DisplayName("닉네임 사용 가능 여부 - 인덱스 결과로 응답")
+    void 닉네임_사용가능_여부() {
+        // given
+        when(nicknameCheckRateLimiter.tryAcquire("127.0.0.1")).thenReturn(true);
+        when(nicknameIndex.isTaken("takenNick")).thenReturn(true);
+        when(nicknameIndex.isTaken("freeNick")).thenReturn(false);
+        
+        // when & then
+        assertFalse(memberService.checkNicknameAvailability("takenNick", "127.0.0.1").isAvailable());
+        assertTrue(memberService.checkNicknameAvailability("freeNick", "127.0.0.1").isAvailable());
+    }
+    
+    @Test
+    @DisplayName("닉네임 사용 가능 여부 - 요청 한도를 넘으면 인덱스 조회 없이 거절")
+    void 닉네임_사용가능_여부_요청_한도_초과() {
+        // given
+        when(nicknameCheckRateLimiter.tryAcquire("127.0.0.1")).thenReturn(false);
+        
+        // when
+        MemberException exception = assertThrows(MemberException.class,
+                () -> memberService.checkNicknameAvailability("freeNick", "127.0.0.1"));
+        
+        // then
+        assertEquals(NICKNAME_CHECK_RATE_LIMITED, exception.getErrorCode());
+        verify(nicknameIndex, never()).isTaken(anyString());
+    }
+    
     @Test
     @DisplayName("로그인 성공 테스트")
     void 로그인_성공() {
@@ -168,21 +267,90 @@ public class MemberServiceTest {
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
         
         // then
-        Exception exception = assertThrows(MemberException.class,
+        MemberException exception = assertThrows(MemberException.class,
+                () -> memberService.login(new MemberLoginRequest(member.getUsername(), "password")));
+        assertEquals(INVALID_CREDENTIALS, exception.getErrorCode());
+    }
+    
+    @Test
+    @DisplayName("로그인 실패 테스트 - 해싱이 제한 시간 안에 끝나지 않으면 취소 후 거절")
+    void 로그인_실패_해싱_시간초과() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberRepository.findByUsername(member.getUsername())).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> awaitQuietly(release));
+        
+        // when
+        MemberException exception = assertThrows(MemberException.class,
+                () -> memberService.login(new MemberLoginRequest(member.getUsername(), "password")));
+        release.countDown();
+        
+        // then
+        assertEquals(PASSWORD_HASHING_BUSY, exception.getErrorCode());
+        assertEquals(1, passwordHashingExecutor.stats().timedOut());
+    }
+    
+    @Test
+    @DisplayName("로그인 성공 - 설정과 다른 비용의 해시는 새 비용으로 재해싱")
+    void 로그인_성공_재해싱() {
+        // given
+        when(memberRepository.findByUsername(member.getUsername())).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("password")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("rehashedPassword");
+        when(jwtTokenProvider.createAccessToken(any(), any())).thenReturn("test-access-token");
+        when(jwtTokenProvider.createRefreshToken(any())).thenReturn("test-refresh-token");
+        
+        // when
+        memberService.login(new MemberLoginRequest(member.getUsername(), "password"));
+        
+        // then (읽은 해시가 그대로일 때만 바꾸는 조건부 UPDATE)
+        verify(memberRepository).updatePasswordIfUnchanged(member.getId(), "password", "rehashedPassword");
+    }
+    
+    @Test
+    @DisplayName("로그인 실패 테스트 - 해싱 대기열 포화 시 즉시 거절")
+    void 로그인_실패_해싱_포화() throws InterruptedException {
+        // given (스레드 1개 + 대기열 1개를 모두 점유)
+        CountDownLatch release = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> passwordHashingExecutor.call(() -> awaitQuietly(release)));
+        Thread.ofVirtual().start(() -> passwordHashingExecutor.call(() -> awaitQuietly(release)));
+        while (passwordHashingExecutor.stats().queued() < 1) {
+            Thread.sleep(5);
+        }
+        when(memberRepository.findByUsername(member.getUsername())).thenReturn(Optional.of(member));
+        
+        // when
+        MemberException exception = assertThrows(MemberException.class,
                 () -> memberService.login(new MemberLoginRequest(member.getUsername(), "password")));
-        assertEquals("비밀번호가 일치하지 않습니다.", exception.getMessage());
+        release.countDown();
+        
+        // then
+        assertEquals(PASSWORD_HASHING_BUSY, exception.getErrorCode());
+        assertEquals(1, passwordHashingExecutor.stats().rejected());
+    }
+    
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
     
     @Test
-    @DisplayName("존재하지 않는 사용자 로그인 테스트")
+    @DisplayName("존재하지 않는 사용자 로그인 테스트 - 비밀번호 불일치와 같은 오류, 더미 해시로 같은 비교 수행")
     void 잘못된_로그인_요청() {
         // given
         when(memberRepository.findByUsername("nonExistentUser")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("dummyHash");
         
         // then
-        Exception exception = assertThrows(MemberException.class,
+        MemberException exception = assertThrows(MemberException.class,
                 () -> memberService.login(new MemberLoginRequest("nonExistentUser", "password")));
-        assertEquals("사용자를 찾을 수 없습니다.", exception.getMessage());
+        assertEquals(INVALID_CREDENTIALS, exception.getErrorCode());
+        verify(passwordEncoder).matches("password", "dummyHash");
     }
     
     @Test
@@ -0,0 +1,97 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.example.back.repository.message.ChatMessageQueryRepository;
+import org.example.back.service.message.ChatMessageWriteBehindBuffer;
+import org.example.back.service.message.MessageSequenceAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageSequenceAllocator 단위 테스트")
+public class MessageSequenceAllocatorTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private ChatMessageQueryRepository chatMessageQueryRepository;
+
+    @Mock
+    private ChatMessageWriteBehindBuffer writeBehindBuffer;
+
+    private MessageSequenceAllocator allocator;
+
+    @BeforeEach
+    void 준비() {
+        allocator = new MessageSequenceAllocator(chatMessageQueryRepository, writeBehindBuffer, 4, 600_000);
+        when(chatMessageQueryRepository.findMaxSeqByChatRoomId(ROOM_ID)).thenReturn(10L);
+    }
+
+    @AfterEach
+    void 정리() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 발급한 순번을 돌려받아 다음 메시지가 다시 사용")
+    void 롤백_순번_반납() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        long rolledBack = allocator.next(ROOM_ID);
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        long next = allocator.next(ROOM_ID);
+
+        // then
+        assertThat(rolledBack).isEqualTo(11L);
+        assertThat(next).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("커밋된 순번은 그대로 두고 다음 순번을 발급")
+    void 커밋_순번_유지() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        allocator.next(ROOM_ID);
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        long next = allocator.next(ROOM_ID);
+
+        // then
+        assertThat(next).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("반납 전에 다음 순번이 발급됐으면 되돌리지 않음")
+    void 이후_발급_시_반납_실패() {
+        // given
+        long first = allocator.next(ROOM_ID);
+        long second = allocator.next(ROOM_ID);
+
+        // when
+        boolean released = allocator.release(ROOM_ID, first);
+
+        // then
+        assertThat(released).isFalse();
+        assertThat(allocator.peek(ROOM_ID)).isEqualTo(second);
+    }
+
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NicknameCheckRateLimiter 단위 테스트")
+public class NicknameCheckRateLimiterTest {
+
+    @Test
+    @DisplayName("burst 를 다 쓴 클라이언트만 거절하고 다른 클라이언트는 허용")
+    void 클라이언트별_요청_한도() {
+        // given: 다시 채우지 않는 설정
+        NicknameCheckRateLimiter limiter = new NicknameCheckRateLimiter(3, 0, 100);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1")).isTrue();
+        }
+
+        // then
+        assertThat(limiter.tryAcquire("10.0.0.1")).isFalse();
+        assertThat(limiter.tryAcquire("10.0.0.2")).isTrue();
+        assertThat(limiter.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추적 클라이언트 한도에 닿으면 다 채워진 bucket 을 정리하고, 정리할 것이 없으면 새 클라이언트 거절")
+    void 추적_클라이언트_한도() {
+        // given
+        NicknameCheckRateLimiter refilled = new NicknameCheckRateLimiter(1, 1_000_000, 1);
+        NicknameCheckRateLimiter drained = new NicknameCheckRateLimiter(1, 0, 1);
+        refilled.tryAcquire("10.0.0.1");
+        drained.tryAcquire("10.0.0.1");
+
+        // when & then: 이미 다시 채워진 bucket 은 지우고 새 클라이언트 허용
+        assertThat(refilled.tryAcquire("10.0.0.2")).isTrue();
+        assertThat(refilled.stats().clients()).isEqualTo(1);
+
+        // when & then: 비어 있는 bucket 은 남기고 새 클라이언트 거절
+        assertThat(drained.tryAcquire("10.0.0.2")).isFalse();
+        assertThat(drained.stats().clients()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+import org.example.back.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NicknameIndex 단위 테스트")
+public class NicknameIndexTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NicknameIndex nicknameIndex;
+
+    @BeforeEach
+    void 준비() {
+        nicknameIndex = new NicknameIndex(memberRepository, transactionManager, 1_000, 0.001, 4);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 항상 DB 로 확인")
+    void 적재_전_DB_확인() {
+        // given
+        when(memberRepository.existsByNickname("홍길동")).thenReturn(false);
+
+        // when
+        boolean taken = nicknameIndex.isTaken("홍길동");
+
+        // then
+        assertThat(taken).isFalse();
+        verify(memberRepository).existsByNickname("홍길동");
+    }
+
+    @Test
+    @DisplayName("적재 후 Bloom filter 에 없는 닉네임은 DB 조회 없이 사용 가능")
+    void 적재_후_DB_생략() {
+        // given
+        when(memberRepository.streamAllNicknames()).thenReturn(Stream.of("홍길동", "임꺽정"));
+        nicknameIndex.load();
+
+        // when
+        boolean taken = nicknameIndex.isTaken("전우치");
+
+        // then
+        assertThat(taken).isFalse();
+        verify(memberRepository, never()).existsByNickname("전우치");
+        assertThat(nicknameIndex.stats().loaded()).isTrue();
+        assertThat(nicknameIndex.stats().bloomAnswers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Bloom filter 에 있을 수도 있는 닉네임은 DB 로 최종 확인")
+    void 적재_후_DB_확인() {
+        // given
+        when(memberRepository.streamAllNicknames()).thenReturn(Stream.of("홍길동"));
+        nicknameIndex.load();
+        nicknameIndex.add("전우치");
+        when(memberRepository.existsByNickname("홍길동")).thenReturn(true);
+        when(memberRepository.existsByNickname("전우치")).thenReturn(true);
+
+        // when & then
+        assertThat(nicknameIndex.isTaken("홍길동")).isTrue();
+        assertThat(nicknameIndex.isTaken("전우치")).isTrue();
+        assertThat(nicknameIndex.stats().dbLookups()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대소문자/끝 공백만 다른 닉네임은 Bloom filter 에서 \"있을 수도\" 로 판단해 DB 로 확인")
+    void 대소문자_다른_닉네임_DB_확인() {
+        // given
+        when(memberRepository.streamAllNicknames()).thenReturn(Stream.of("Hong"));
+        nicknameIndex.load();
+        when(memberRepository.existsByNickname("hong ")).thenReturn(true);
+        
+        // when
+        boolean taken = nicknameIndex.isTaken("hong ");
+        
+        // then
+        assertThat(taken).isTrue();
+        verify(memberRepository).existsByNickname("hong ");
+    }
+}
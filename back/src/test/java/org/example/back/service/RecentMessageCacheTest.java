@@ -0,0 +1,113 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.repository.message.ChatMessageQueryRepository;
+import org.example.back.service.message.RecentMessageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecentMessageCache 단위 테스트")
+public class RecentMessageCacheTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private ChatMessageQueryRepository chatMessageQueryRepository;
+
+    private RecentMessageCache cache;
+
+    @BeforeEach
+    void 준비() {
+        cache = new RecentMessageCache(chatMessageQueryRepository, 3, 100, false);
+
+        // 빈 방을 한 번 조회해 캐시에 적재
+        when(chatMessageQueryRepository.findRecentMessagesByChatRoomId(ROOM_ID, 3)).thenReturn(List.of());
+        cache.getRecent(ROOM_ID, 3);
+    }
+
+    @Test
+    @DisplayName("저장된 메시지를 최신순으로 DB 조회 없이 반환")
+    void 최신순_조회() {
+        // given
+        cache.onSaved(response(10L, "a"));
+        cache.onSaved(response(11L, "b"));
+
+        // when
+        List<ChatMessageResponse> recent = cache.getRecent(ROOM_ID, 3);
+
+        // then
+        assertThat(recent).extracting(ChatMessageResponse::getMessageId).containsExactly(11L, 10L);
+        verify(chatMessageQueryRepository, times(1)).findRecentMessagesByChatRoomId(ROOM_ID, 3);
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 가장 오래된 메시지부터 밀려남")
+    void 링_버퍼_덮어쓰기() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            cache.onSaved(response(id, "m" + id));
+        }
+
+        // when
+        List<ChatMessageResponse> recent = cache.getRecent(ROOM_ID, 3);
+
+        // then
+        assertThat(recent).extracting(ChatMessageResponse::getMessageId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("수정은 교체, 삭제는 제거, 복구는 ID 순서대로 재삽입")
+    void 수정_삭제_복구_반영() {
+        // given
+        cache.onSaved(response(1L, "a"));
+        cache.onSaved(response(2L, "b"));
+        cache.onSaved(response(3L, "c"));
+
+        // when
+        cache.onEdited(response(3L, "c-edited"));
+        cache.onDeleted(ROOM_ID, 2L);
+        List<ChatMessageResponse> afterDelete = cache.getRecent(ROOM_ID, 2);
+        cache.onRestored(response(2L, "b"));
+        List<ChatMessageResponse> afterRestore = cache.getRecent(ROOM_ID, 3);
+
+        // then
+        assertThat(afterDelete).extracting(ChatMessageResponse::getMessageId).containsExactly(3L, 1L);
+        assertThat(afterDelete.get(0).getContent()).isEqualTo("c-edited");
+        assertThat(afterRestore).extracting(ChatMessageResponse::getMessageId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("다중 노드에서는 캐시 없이 매번 DB 조회")
+    void 클러스터_모드_우회() {
+        // given
+        RecentMessageCache clusterCache = new RecentMessageCache(chatMessageQueryRepository, 3, 100, true);
+        clusterCache.getRecent(ROOM_ID, 3);
+        clusterCache.onSaved(response(10L, "a"));
+
+        // when
+        List<ChatMessageResponse> recent = clusterCache.getRecent(ROOM_ID, 3);
+
+        // then
+        assertThat(recent).isEmpty();
+        verify(chatMessageQueryRepository, times(3)).findRecentMessagesByChatRoomId(ROOM_ID, 3);
+    }
+
+    private ChatMessageResponse response(Long messageId, String content) {
+        return ChatMessageResponse.builder()
+                .messageId(messageId)
+                .chatRoomId(ROOM_ID)
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.example.back.config.properties.ChatClusterProperties;
+import org.example.back.config.properties.ChatMessageResyncProperties;
+import org.example.back.dto.message.event.ChatMessageEvent;
+import org.example.back.dto.message.event.ChatMessageEventType;
+import org.example.back.dto.message.response.ChatMessageResponse;
+import org.example.back.service.message.RoomEventLog;
+import org.example.back.service.message.RoomEventLog.Replay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RoomEventLog 단위 테스트")
+public class RoomEventLogTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private RoomEventLog eventLog;
+
+    @BeforeEach
+    void 준비() {
+        ChatMessageResyncProperties properties = new ChatMessageResyncProperties();
+        properties.setPerRoom(4);
+        eventLog = new RoomEventLog(properties, new ChatClusterProperties());
+    }
+
+    @Test
+    @DisplayName("lastMessageId 이후 새 메시지와 그 이후 발생한 이벤트만 반환")
+    void 변경분_재전송() {
+        // given
+        eventLog.onSaved(response(10L));
+        eventLog.onChanged(ChatMessageEvent.edited(10L, ROOM_ID, 1L, "a", "수정"));
+        eventLog.onSaved(response(11L));
+        eventLog.onChanged(ChatMessageEvent.deleted(10L, ROOM_ID, 1L, "a"));
+
+        // when
+        Optional<Replay> replay = eventLog.replaySince(ROOM_ID, 11L);
+        Optional<Replay> fromStart = eventLog.replaySince(ROOM_ID, 10L);
+
+        // then
+        assertThat(replay).isPresent();
+        assertThat(replay.get().messages()).isEmpty();
+        assertThat(replay.get().events()).extracting(ChatMessageEvent::getEventType)
+                .containsExactly(ChatMessageEventType.MESSAGE_DELETED);
+
+        assertThat(fromStart.get().messages()).extracting(ChatMessageResponse::getMessageId).containsExactly(11L);
+        assertThat(fromStart.get().events()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("밀려난 구간이나 기록 시작 전 ID 는 메모리로 응답하지 않음")
+    void 보관_범위_밖() {
+        // given
+        for (long id = 1; id <= 6; id++) {
+            eventLog.onSaved(response(id));
+        }
+
+        // when & then
+        assertThat(eventLog.replaySince(ROOM_ID, 1L)).isEmpty();
+        assertThat(eventLog.replaySince(ROOM_ID, 3L)).isPresent();
+        assertThat(eventLog.replaySince(ROOM_ID, 3L).get().messages())
+                .extracting(ChatMessageResponse::getMessageId).containsExactly(4L, 5L, 6L);
+        assertThat(eventLog.replaySince(2L, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다중 노드에서는 기록하지 않고 항상 DB 동기화로 넘김")
+    void 클러스터_모드_우회() {
+        // given
+        ChatClusterProperties clusterProperties = new ChatClusterProperties();
+        clusterProperties.setEnabled(true);
+        RoomEventLog clusterLog = new RoomEventLog(new ChatMessageResyncProperties(), clusterProperties);
+        clusterLog.onSaved(response(10L));
+        clusterLog.onSaved(response(11L));
+
+        // when & then
+        assertThat(clusterLog.replaySince(ROOM_ID, 10L)).isEmpty();
+    }
+
+    private ChatMessageResponse response(Long messageId) {
+        return ChatMessageResponse.builder()
+                .messageId(messageId)
+                .chatRoomId(ROOM_ID)
+                .content("m" + messageId)
+                .build();
+    }
+}
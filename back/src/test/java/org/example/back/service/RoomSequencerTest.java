@@ -0,0 +1,150 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.example.back.service.message.RoomSequencer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RoomSequencer 단위 테스트")
+public class RoomSequencerTest {
+
+    private RoomSequencer sequencer;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void 준비() {
+        sequencer = new RoomSequencer(1000);
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void 정리() {
+        callers.close();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방 작업은 동시에 실행되지 않고 하나씩 처리")
+    void 같은_방_직렬_실행() throws Exception {
+        // given
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        int[] running = {0};
+        boolean[] overlapped = {false};
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            int value = i;
+            futures.add(callers.submit(() -> sequencer.run(1L, () -> {
+                if (++running[0] > 1) {
+                    overlapped[0] = true;
+                }
+                executed.add(value);
+                running[0]--;
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(overlapped[0]).isFalse();
+        assertThat(executed).hasSize(200);
+        assertThat(sequencer.stats().executedTasks()).isEqualTo(200);
+        assertThat(sequencer.stats().queuedTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 호출자가 연속으로 보낸 작업은 보낸 순서대로 실행")
+    void 호출_순서_유지() {
+        // given
+        List<Integer> executed = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            sequencer.run(1L, () -> executed.add(value));
+        }
+
+        // then
+        assertThat(executed).isSorted().hasSize(50);
+    }
+
+    @Test
+    @DisplayName("다른 채팅방 작업은 서로 막지 않음")
+    void 다른_방_병렬_실행() throws Exception {
+        // given
+        CountDownLatch blocking = new CountDownLatch(1);
+        Future<?> slowRoom = callers.submit(() -> sequencer.run(1L, () -> {
+            try {
+                blocking.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        // when
+        String result = sequencer.call(2L, () -> "done");
+
+        // then
+        assertThat(result).isEqualTo("done");
+        assertThat(slowRoom.isDone()).isFalse();
+        blocking.countDown();
+        slowRoom.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("작업 예외는 호출자에게 그대로 전달되고, 같은 방 작업 안의 재호출은 바로 실행")
+    void 예외_전달_재진입() {
+        // when & then
+        assertThatThrownBy(() -> sequencer.run(1L, () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("boom");
+
+        String nested = sequencer.call(1L, () -> sequencer.call(1L, () -> "nested"));
+        assertThat(nested).isEqualTo("nested");
+    }
+
+    @Test
+    @DisplayName("execute 는 기다리지 않고 반환하며, 같은 방 작업 순서를 유지하고 예외가 다음 작업을 막지 않음")
+    void 비동기_실행() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        sequencer.execute(1L, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            order.add(1);
+        });
+        sequencer.execute(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        sequencer.execute(1L, () -> {
+            order.add(3);
+            done.countDown();
+        });
+
+        // then
+        assertThat(order).isEmpty();
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(1, 3);
+    }
+}
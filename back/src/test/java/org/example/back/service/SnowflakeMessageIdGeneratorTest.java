@@ -0,0 +1,98 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.back.service.message.id.SnowflakeMessageIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SnowflakeMessageIdGenerator 단위 테스트")
+public class SnowflakeMessageIdGeneratorTest {
+
+    private static final long EPOCH = 1_735_689_600_000L;
+
+    @Test
+    @DisplayName("같은 ms 내에서도 단조 증가하는 ID 를 발급")
+    void 같은_시각_단조_증가() {
+        // given
+        AtomicLong now = new AtomicLong(EPOCH + 1_000);
+        SnowflakeMessageIdGenerator generator = new SnowflakeMessageIdGenerator(1, EPOCH, now::get);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+        long third = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전보다 큰 ID 를 발급")
+    void 시계_역행_단조_증가() {
+        // given
+        AtomicLong now = new AtomicLong(EPOCH + 10_000);
+        SnowflakeMessageIdGenerator generator = new SnowflakeMessageIdGenerator(1, EPOCH, now::get);
+        long before = generator.nextId();
+
+        // when
+        now.set(EPOCH + 5_000);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("같은 ms 내 순번을 모두 소진하면 다음 ms 로 넘어가 계속 증가")
+    void 순번_소진_단조_증가() {
+        // given
+        AtomicLong now = new AtomicLong(EPOCH + 1_000);
+        SnowflakeMessageIdGenerator generator = new SnowflakeMessageIdGenerator(1, EPOCH, now::get);
+
+        // when & then
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 다르면 같은 시각에도 서로 다른 ID 를 발급")
+    void 노드별_ID_충돌_없음() {
+        // given
+        AtomicLong now = new AtomicLong(EPOCH + 1_000);
+        SnowflakeMessageIdGenerator node1 = new SnowflakeMessageIdGenerator(1, EPOCH, now::get);
+        SnowflakeMessageIdGenerator node2 = new SnowflakeMessageIdGenerator(2, EPOCH, now::get);
+
+        // when & then
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+    }
+
+    @Test
+    @DisplayName("기준 시각 후 69년이 지나도 JS Number 의 안전한 정수 범위 안의 ID 를 발급")
+    void JS_안전_정수_범위() {
+        // given
+        long almost69Years = (1L << 41) - 2;
+        AtomicLong now = new AtomicLong(EPOCH + almost69Years);
+        SnowflakeMessageIdGenerator generator = new SnowflakeMessageIdGenerator(63, EPOCH, now::get);
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(id).isLessThanOrEqualTo(9_007_199_254_740_991L);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외 발생")
+    void 노드_ID_범위_초과() {
+        assertThatThrownBy(() -> new SnowflakeMessageIdGenerator(64, EPOCH))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import org.example.back.domain.message.TypingStatus;
+import org.example.back.dto.websocket.response.TypingStatusResponse;
+import org.example.back.service.message.ChatRoomBroadcaster;
+import org.example.back.service.message.TypingIndicator;
+import org.example.back.service.room.ChatRoomMembershipCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TypingIndicator 단위 테스트")
+public class TypingIndicatorTest {
+
+    private static final String DESTINATION = "/sub/chat/room/1/typing";
+
+    @Mock
+    private ChatRoomBroadcaster chatRoomBroadcaster;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Test
+    @DisplayName("throttle 간격 안의 반복 typing 은 한 번만 브로드캐스트하고 stop 반복은 무시")
+    void 반복_억제() {
+        // given
+        TypingIndicator indicator = new TypingIndicator(chatRoomBroadcaster, chatRoomMembershipCache, 60_000, 60_000);
+        when(chatRoomMembershipCache.isCachedMember(1L, 2L)).thenReturn(true);
+
+        // when
+        indicator.onTyping(1L, 2L, "nick", TypingStatus.TYPING);
+        indicator.onTyping(1L, 2L, "nick", TypingStatus.TYPING);
+        indicator.onTyping(1L, 2L, "nick", TypingStatus.TYPING);
+        indicator.onTyping(1L, 2L, "nick", TypingStatus.STOP);
+        indicator.onTyping(1L, 2L, "nick", TypingStatus.STOP);
+
+        // then
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(chatRoomBroadcaster, times(2)).broadcast(eq(DESTINATION), payloads.capture());
+        assertThat(payloads.getAllValues())
+                .extracting(payload -> ((TypingStatusResponse) payload).getStatus())
+                .containsExactly("typing", "stop");
+        assertThat(indicator.stats().suppressed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("typing 이후 이벤트가 끊기면 서버가 stop 을 대신 전송")
+    void 만료_정리() {
+        // given
+        TypingIndicator indicator = new TypingIndicator(chatRoomBroadcaster, chatRoomMembershipCache, 60_000, 0);
+        when(chatRoomMembershipCache.isCachedMember(1L, 2L)).thenReturn(true);
+        indicator.onTyping(1L, 2L, "nick", TypingStatus.TYPING);
+
+        // when
+        indicator.expireStale();
+        indicator.expireStale();
+
+        // then
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(chatRoomBroadcaster, times(2)).broadcast(eq(DESTINATION), payloads.capture());
+        TypingStatusResponse stop = (TypingStatusResponse) payloads.getAllValues().get(1);
+        assertThat(stop.getStatus()).isEqualTo("stop");
+        assertThat(stop.getNickname()).isEqualTo("nick");
+        assertThat(indicator.stats().typingMembers()).isZero();
+        assertThat(indicator.stats().expired()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 방의 참여자가 아니면 DB 조회 없이 무시")
+    void 참여자_아님() {
+        // given
+        TypingIndicator indicator = new TypingIndicator(chatRoomBroadcaster, chatRoomMembershipCache, 60_000, 60_000);
+        when(chatRoomMembershipCache.isCachedMember(1L, 99L)).thenReturn(false);
+        when(chatRoomMembershipCache.isCached(1L)).thenReturn(true);
+
+        // when
+        indicator.onTyping(1L, 99L, null, TypingStatus.TYPING);
+
+        // then
+        verify(chatRoomBroadcaster, never()).broadcast(any(), any());
+        verify(chatRoomMembershipCache, never()).isMember(any(), any());
+        verify(chatRoomMembershipCache, never()).loadAsync(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 방은 비동기로 참여자를 적재한 뒤 브로드캐스트")
+    void 캐시_미스_비동기_적재() {
+        // given
+        TypingIndicator indicator = new TypingIndicator(chatRoomBroadcaster, chatRoomMembershipCache, 60_000, 60_000);
+        when(chatRoomMembershipCache.isCachedMember(eq(1L), any())).thenReturn(false);
+        when(chatRoomMembershipCache.isCached(1L)).thenReturn(false);
+        when(chatRoomMembershipCache.loadAsync(1L)).thenReturn(CompletableFuture.completedFuture(new long[]{2L, 3L}));
+
+        // when
+        indicator.onTyping(1L, 2L, "nick", TypingStatus.TYPING);
+        indicator.onTyping(1L, 99L, null, TypingStatus.TYPING);
+
+        // then
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(chatRoomBroadcaster, times(1)).broadcast(eq(DESTINATION), payloads.capture());
+        assertThat(((TypingStatusResponse) payloads.getValue()).getMemberId()).isEqualTo(2L);
+        verify(chatRoomMembershipCache, never()).isMember(any(), any());
+    }
+}
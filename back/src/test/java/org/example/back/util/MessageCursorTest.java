@@ -0,0 +1,49 @@
+package org.example.back.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.example.back.exception.message.ChatMessageException;
+import org.example.back.util.pagination.MessageCursor;
+import org.example.back.util.pagination.MessageCursor.Direction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MessageCursor 단위 테스트")
+public class MessageCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 방향과 메시지 ID 를 얻음")
+    void 인코딩_디코딩() {
+        // given
+        MessageCursor before = MessageCursor.before(1001L);
+        MessageCursor after = MessageCursor.after(42L);
+
+        // when & then
+        assertThat(MessageCursor.decode(before.encode())).isEqualTo(before);
+        assertThat(MessageCursor.decode(after.encode())).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("기준 ID 가 없는 최신 커서도 왕복 변환 가능")
+    void 최신_커서() {
+        // given
+        MessageCursor latest = MessageCursor.latest();
+
+        // when
+        MessageCursor decoded = MessageCursor.decode(latest.encode());
+
+        // then
+        assertThat(decoded.direction()).isEqualTo(Direction.BEFORE);
+        assertThat(decoded.messageId()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외 발생")
+    void 잘못된_커서() {
+        assertThatThrownBy(() -> MessageCursor.decode("not-a-cursor!"))
+                .isInstanceOf(ChatMessageException.class);
+        assertThatThrownBy(() -> MessageCursor.decode("QUZURVI6YWJj")) // "AFTER:abc"
+                .isInstanceOf(ChatMessageException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.back.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.example.back.util.bloom.ScalableBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ScalableBloomFilter 단위 테스트")
+public class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있음으로 판단 (거짓 음성 없음)")
+    void 거짓_음성_없음() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01, 8);
+
+        // when
+        for (int i = 0; i < 5_000; i++) {
+            filter.put("client-" + i);
+        }
+
+        // then
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(filter.mightContain("client-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값의 오탐률이 설정값 근처로 유지")
+    void 오탐률() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(10_000, 0.01, 4);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("client-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("단계가 가득 차면 새 단계를 추가")
+    void 단계_확장() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01, 4);
+
+        // when
+        for (int i = 0; i < 250; i++) {
+            filter.put("client-" + i);
+        }
+
+        // then
+        assertThat(filter.getStageCount()).isEqualTo(2);
+        assertThat(filter.getDroppedStages()).isZero();
+    }
+
+    @Test
+    @DisplayName("단계 수 한도를 넘으면 가장 오래된 단계를 버림")
+    void 오래된_단계_제거() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01, 2);
+
+        // when (100 + 200 을 넘게 넣어 세 번째 단계가 생기도록)
+        for (int i = 0; i < 400; i++) {
+            filter.put("client-" + i);
+        }
+
+        // then
+        assertThat(filter.getStageCount()).isEqualTo(2);
+        assertThat(filter.getDroppedStages()).isEqualTo(1);
+        assertThat(filter.mightContain("client-399")).isTrue();
+    }
+}